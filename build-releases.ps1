@@ -4,7 +4,8 @@
 param(
     [switch]$Clean = $false,
     [switch]$SkipTests = $false,
-    [string]$Version = "1.0.0"
+    # Defaults to the pom's app.version, which also names the jar and the class-data-sharing archive
+    [string]$Version = ([xml](Get-Content "$PSScriptRoot/pom.xml")).project.properties.'app.version'
 )
 
 Write-Host "========================================" -ForegroundColor Cyan
@@ -139,8 +140,14 @@ try {
     "    pause`r`n" +
     "    exit /b 1`r`n" +
     ")`r`n`r`n" +
+    "REM Record a class-data-sharing archive on first run, use it afterwards`r`n" +
+    "if exist `"FlashQuest-$Version.jsa`" (`r`n" +
+    "    set CDS_ARGS=-XX:SharedArchiveFile=FlashQuest-$Version.jsa -Xshare:auto`r`n" +
+    ") else (`r`n" +
+    "    set CDS_ARGS=-XX:ArchiveClassesAtExit=FlashQuest-$Version.jsa`r`n" +
+    ")`r`n`r`n" +
     "echo Starting FlashQuest...`r`n" +
-    "java --add-modules javafx.controls,javafx.fxml -jar FlashQuest-$Version.jar`r`n`r`n" +
+    "java --add-modules javafx.controls,javafx.fxml %CDS_ARGS% -jar FlashQuest-$Version.jar`r`n`r`n" +
     "if %ERRORLEVEL% neq 0 (`r`n" +
     "    echo.`r`n" +
     "    echo ERROR: FlashQuest encountered an error`r`n" +
@@ -47,8 +47,19 @@ echo.
 REM Set up JavaFX module path and add-modules
 set JAVAFX_ARGS=--add-modules javafx.controls,javafx.fxml
 
+REM Class-data sharing: the first launch records the classes it loads into the archive
+REM when it exits, and later launches map them in instead of loading them one by one.
+REM The archive is named after the version, like the one "mvn package -Pappcds" builds, so
+REM a new FlashQuest records a fresh one. Delete it after updating Java so it is recorded again.
+set CDS_ARCHIVE=${app.name}-${app.version}.jsa
+if exist "%CDS_ARCHIVE%" (
+    set CDS_ARGS=-XX:SharedArchiveFile=%CDS_ARCHIVE% -Xshare:auto
+) else (
+    set CDS_ARGS=-XX:ArchiveClassesAtExit=%CDS_ARCHIVE%
+)
+
 REM Launch the application
-java %JAVAFX_ARGS% -jar FlashQuest.jar
+java %JAVAFX_ARGS% %CDS_ARGS% -jar FlashQuest.jar
 
 REM Check if the application exited with an error
 if %ERRORLEVEL% neq 0 (
@@ -4,7 +4,8 @@
 param(
     [switch]$Clean = $false,
     [switch]$SkipTests = $false,
-    [string]$Version = "1.0.0"
+    # Defaults to the pom's app.version, which also names the jar and the class-data-sharing archive
+    [string]$Version = ([xml](Get-Content "$PSScriptRoot/../pom.xml")).project.properties.'app.version'
 )
 
 Write-Host "========================================" -ForegroundColor Cyan
@@ -143,8 +144,15 @@ if %ERRORLEVEL% neq 0 (
     exit /b 1
 )
 
+REM Record a class-data-sharing archive on first run, use it afterwards
+if exist "FlashQuest-$Version.jsa" (
+    set CDS_ARGS=-XX:SharedArchiveFile=FlashQuest-$Version.jsa -Xshare:auto
+) else (
+    set CDS_ARGS=-XX:ArchiveClassesAtExit=FlashQuest-$Version.jsa
+)
+
 echo Starting FlashQuest...
-java --add-modules javafx.controls,javafx.fxml -jar FlashQuest-$Version.jar
+java --add-modules javafx.controls,javafx.fxml %CDS_ARGS% -jar FlashQuest-$Version.jar
 
 if %ERRORLEVEL% neq 0 (
     echo.
@@ -0,0 +1,74 @@
+# FlashQuest Startup Benchmark
+# Launches the game repeatedly with and without its class-data-sharing archive and compares
+# time-to-first-frame. Run it from the folder holding the jar and archive, on a desktop session.
+
+param(
+    # Defaults to the jar named after the pom's app.version, like the build-releases.ps1 scripts
+    [string]$Jar = "FlashQuest-$(([xml](Get-Content "$PSScriptRoot/../pom.xml")).project.properties.'app.version').jar",
+    [int]$Runs = 10
+)
+
+$ErrorActionPreference = "Stop"
+
+$archive = [System.IO.Path]::ChangeExtension($Jar, ".jsa")
+if (-not (Test-Path $Jar)) {
+    Write-Host "✗ ERROR: $Jar not found in $(Get-Location)" -ForegroundColor Red
+    exit 1
+}
+if (-not (Test-Path $archive)) {
+    Write-Host "✗ ERROR: $archive not found - build it with: mvn clean package -Pappcds" -ForegroundColor Red
+    exit 1
+}
+
+Write-Host "========================================" -ForegroundColor Cyan
+Write-Host "      FlashQuest Startup Benchmark      " -ForegroundColor Cyan
+Write-Host "========================================" -ForegroundColor Cyan
+Write-Host ""
+
+# Launches the game $Runs times and returns the sorted first-frame times in milliseconds
+function Measure-Startup([string]$Label, [string[]]$JvmArgs) {
+    $report = Join-Path ([System.IO.Path]::GetTempPath()) "flashquest-startup-$Label.csv"
+    Remove-Item $report -ErrorAction SilentlyContinue
+
+    # One unrecorded launch first, so both modes start with the jar in the OS file cache
+    & java @JvmArgs "-Dflashquest.exitAfterStartup=true" -jar $Jar | Out-Null
+
+    for ($run = 1; $run -le $Runs; $run++) {
+        Write-Host "  $Label run $run of $Runs..." -ForegroundColor Gray
+        & java @JvmArgs "-Dflashquest.exitAfterStartup=true" "-Dflashquest.startupReport=$report" -jar $Jar | Out-Null
+        if ($LASTEXITCODE -ne 0) {
+            throw "FlashQuest exited with code $LASTEXITCODE"
+        }
+    }
+
+    return Import-Csv $report |
+        Where-Object { $_.phase -eq "first frame" } |
+        ForEach-Object { [int]$_.millis } |
+        Sort-Object
+}
+
+function Get-Median([int[]]$Values) {
+    $middle = [int][Math]::Floor($Values.Count / 2)
+    if ($Values.Count % 2 -eq 1) {
+        return $Values[$middle]
+    }
+    return ($Values[$middle - 1] + $Values[$middle]) / 2
+}
+
+Write-Host "⏱ Without class-data sharing archive..." -ForegroundColor Yellow
+$without = Measure-Startup "default" @()
+
+Write-Host "⏱ With class-data sharing archive..." -ForegroundColor Yellow
+$with = Measure-Startup "appcds" @("-XX:SharedArchiveFile=$archive", "-Xshare:auto")
+
+$withoutMedian = Get-Median $without
+$withMedian = Get-Median $with
+
+Write-Host ""
+Write-Host "Time to first frame over $Runs launches (ms):" -ForegroundColor Cyan
+Write-Host ("  {0,-10} {1,8} {2,8} {3,8}" -f "", "median", "min", "max")
+Write-Host ("  {0,-10} {1,8} {2,8} {3,8}" -f "default", $withoutMedian, $without[0], $without[-1])
+Write-Host ("  {0,-10} {1,8} {2,8} {3,8}" -f "appcds", $withMedian, $with[0], $with[-1])
+Write-Host ""
+$saved = $withoutMedian - $withMedian
+Write-Host ("✓ Archive saves {0} ms ({1:P0}) at the median" -f $saved, ($saved / $withoutMedian)) -ForegroundColor Green
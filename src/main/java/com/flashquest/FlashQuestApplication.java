@@ -1,6 +1,7 @@
 package com.flashquest;
 
 import com.flashquest.ui.AppController;
+import com.flashquest.util.StartupProfiler;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
@@ -98,6 +99,7 @@ public class FlashQuestApplication extends Application {
     @Override
     public void init() throws Exception {
         super.init();
+        StartupProfiler.mark("toolkit started");
         logger.info("Initializing FlashQuest application...");
         
         // TODO: Initialize services and load game data
@@ -1,5 +1,7 @@
 package com.flashquest;
 
+import com.flashquest.util.StartupProfiler;
+
 /**
  * Launcher class to work around JavaFX module system issues.
  * This class doesn't extend Application, so it can be run directly
@@ -7,6 +9,8 @@ package com.flashquest;
  */
 public class Launcher {
     public static void main(String[] args) {
+        StartupProfiler.mark("launcher");
+        
         // Set JavaFX properties to avoid module issues
         System.setProperty("javafx.preloader", "");
         System.setProperty("javafx.application.class", "com.flashquest.FlashQuestApplication");
@@ -16,13 +20,6 @@ public class Launcher {
         System.setProperty("prism.order", "d3d,es2,sw");   // Use hardware acceleration
         System.setProperty("sun.java2d.dpiaware", "true"); // Enable DPI awareness
         
-        // Detect and configure universal scaling
-        try {
-            detectAndConfigureUniversalScaling();
-        } catch (Exception e) {
-            System.out.println("Could not detect system configuration, using defaults");
-        }
-        
         // JavaFX platform settings
         System.setProperty("java.awt.headless", "false");
         System.setProperty("javafx.platform", "desktop");
@@ -44,44 +41,4 @@ public class Launcher {
             System.exit(1);
         }
     }
-    
-    /**
-     * Detects system configuration and configures universal scaling
-     */
-    private static void detectAndConfigureUniversalScaling() {
-        try {
-            java.awt.Toolkit toolkit = java.awt.Toolkit.getDefaultToolkit();
-            java.awt.Dimension screenSize = toolkit.getScreenSize();
-            int dpi = toolkit.getScreenResolution();
-            
-            double screenWidth = screenSize.getWidth();
-            double dpiScale = dpi / 96.0;
-            
-            System.out.println("Screen: " + (int)screenWidth + "x" + (int)screenSize.getHeight() + 
-                ", DPI: " + dpi + ", Scale Factor: " + String.format("%.1f", dpiScale));
-            
-            // Configure JavaFX properties based on system
-            if (dpiScale >= 1.25) {
-                // Configure for high DPI systems
-                System.setProperty("glass.win.uiScale", Math.round(dpiScale * 100) + "%");
-                System.setProperty("sun.java2d.win.uiScaleX", String.valueOf(dpiScale));
-                System.setProperty("sun.java2d.win.uiScaleY", String.valueOf(dpiScale));
-                System.out.println("Configured for high DPI: " + Math.round(dpiScale * 100) + "%");
-            }
-            
-            // Set display configuration hints
-            if (screenWidth >= 3840) {
-                System.out.println("Detected 4K+ display - optimizing for large screens");
-            } else if (screenWidth >= 2560) {
-                System.out.println("Detected 1440p display - optimizing for medium-large screens");
-            } else if (screenWidth >= 1920) {
-                System.out.println("Detected 1080p display - using standard scaling");
-            } else {
-                System.out.println("Detected lower resolution - optimizing for compact layout");
-            }
-            
-        } catch (Exception e) {
-            System.out.println("Could not detect system configuration: " + e.getMessage());
-        }
-    }
 }
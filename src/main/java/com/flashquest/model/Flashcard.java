@@ -3,13 +3,25 @@ package com.flashquest.model;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Represents a flashcard with question, answer, and learning statistics.
  * Follows the FlashQuest Agent Rule Set specifications.
  */
 public class Flashcard {
+    /** Most tags a card keeps. */
+    public static final int MAX_TAGS = 20;
+    /** Longest tag kept, matching the flashcard_tags.tag column. */
+    public static final int MAX_TAG_LENGTH = 30;
+
     private final String id;
     private String question;
     private String answer;
@@ -18,6 +30,7 @@ public class Flashcard {
     private LocalDateTime dateCreated;
     private int timesAsked;
     private int timesCorrect;
+    private List<String> tags;
 
     /**
      * Creates a new flashcard with generated ID and current timestamp.
@@ -31,10 +44,20 @@ public class Flashcard {
         this.dateCreated = LocalDateTime.now();
         this.timesAsked = 0;
         this.timesCorrect = 0;
+        this.tags = new ArrayList<>();
+    }
+
+    /**
+     * Creates a flashcard from stored data without tags.
+     */
+    public Flashcard(String id, String question, String answer, String category, DifficultyLevel difficulty,
+                     LocalDateTime dateCreated, int timesAsked, int timesCorrect) {
+        this(id, question, answer, category, difficulty, dateCreated, timesAsked, timesCorrect, null);
     }
 
     /**
      * Constructor for JSON deserialization.
+     * Cards saved before tags existed have no "tags" property and load with an empty list.
      */
     @JsonCreator
     public Flashcard(
@@ -45,7 +68,8 @@ public class Flashcard {
             @JsonProperty("difficulty") DifficultyLevel difficulty,
             @JsonProperty("dateCreated") LocalDateTime dateCreated,
             @JsonProperty("timesAsked") int timesAsked,
-            @JsonProperty("timesCorrect") int timesCorrect) {
+            @JsonProperty("timesCorrect") int timesCorrect,
+            @JsonProperty("tags") List<String> tags) {
         this.id = id != null ? id : java.util.UUID.randomUUID().toString();
         this.question = question;
         this.answer = answer;
@@ -54,13 +78,15 @@ public class Flashcard {
         this.dateCreated = dateCreated != null ? dateCreated : LocalDateTime.now();
         this.timesAsked = timesAsked;
         this.timesCorrect = timesCorrect;
+        this.tags = tags != null ? new ArrayList<>(tags) : new ArrayList<>();
     }
 
     /**
      * Records that this flashcard was asked and whether it was answered correctly.
      * Updates statistics for weighted random selection.
+     * Synchronized because concurrent quest sessions share the same card instances.
      */
-    public void recordAnswer(boolean correct) {
+    public synchronized void recordAnswer(boolean correct) {
         timesAsked++;
         if (correct) {
             timesCorrect++;
@@ -119,9 +145,49 @@ public class Flashcard {
     
     public LocalDateTime getDateCreated() { return dateCreated; }
     
-    public int getTimesAsked() { return timesAsked; }
+    public synchronized int getTimesAsked() { return timesAsked; }
     
-    public int getTimesCorrect() { return timesCorrect; }
+    public synchronized int getTimesCorrect() { return timesCorrect; }
+
+    public List<String> getTags() { return new ArrayList<>(tags); }
+    public void setTags(List<String> tags) { 
+        this.tags = tags != null ? new ArrayList<>(tags) : new ArrayList<>(); 
+    }
+
+    /**
+     * Splits a comma-separated tag list as typed or imported and normalizes it.
+     */
+    public static List<String> parseTags(String commaSeparated) {
+        if (commaSeparated == null || commaSeparated.isBlank()) {
+            return new ArrayList<>();
+        }
+        return normalizeTags(Arrays.asList(commaSeparated.split(",")));
+    }
+
+    /**
+     * Cleans up tags before they are stored: trims them, truncates them to MAX_TAG_LENGTH,
+     * drops empty ones and repeats that differ only in case, and keeps at most MAX_TAGS.
+     */
+    public static List<String> normalizeTags(Collection<String> tags) {
+        List<String> normalized = new ArrayList<>();
+        if (tags == null) {
+            return normalized;
+        }
+        
+        Set<String> seen = new HashSet<>();
+        for (String tag : tags) {
+            if (normalized.size() >= MAX_TAGS) break;
+            if (tag == null) continue;
+            String trimmed = tag.trim();
+            if (trimmed.length() > MAX_TAG_LENGTH) {
+                trimmed = trimmed.substring(0, MAX_TAG_LENGTH).trim();
+            }
+            if (!trimmed.isEmpty() && seen.add(trimmed.toLowerCase(Locale.ROOT))) {
+                normalized.add(trimmed);
+            }
+        }
+        return normalized;
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -18,6 +18,7 @@ public class Quest {
     private int questionCount;
     private int customHp;
     private List<String> categoryFilter;
+    private String tagQuery;
     private DifficultyDistribution difficultyDistribution;
     private LocalDateTime dateCreated;
     
@@ -39,6 +40,7 @@ public class Quest {
         this.questionCount = 10; // Default per rules
         this.customHp = 3; // Default starting HP
         this.categoryFilter = new ArrayList<>();
+        this.tagQuery = "";
         this.difficultyDistribution = new DifficultyDistribution();
         this.dateCreated = LocalDateTime.now();
         
@@ -62,6 +64,7 @@ public class Quest {
             @JsonProperty("questionCount") int questionCount,
             @JsonProperty("customHp") int customHp,
             @JsonProperty("categoryFilter") List<String> categoryFilter,
+            @JsonProperty("tagQuery") String tagQuery,
             @JsonProperty("difficultyDistribution") DifficultyDistribution difficultyDistribution,
             @JsonProperty("dateCreated") LocalDateTime dateCreated) {
         this.id = id != null ? id : java.util.UUID.randomUUID().toString();
@@ -70,6 +73,7 @@ public class Quest {
         this.questionCount = Math.max(5, Math.min(20, questionCount)); // Clamp to valid range
         this.customHp = Math.max(1, customHp);
         this.categoryFilter = categoryFilter != null ? categoryFilter : new ArrayList<>();
+        this.tagQuery = tagQuery != null ? tagQuery : "";
         this.difficultyDistribution = difficultyDistribution != null ? difficultyDistribution : new DifficultyDistribution();
         this.dateCreated = dateCreated != null ? dateCreated : LocalDateTime.now();
         
@@ -166,6 +170,15 @@ public class Quest {
         return null;
     }
 
+    /**
+     * Gets up to the given number of flashcards that follow the current one, without advancing.
+     */
+    public List<Flashcard> peekUpcomingFlashcards(int count) {
+        int from = Math.min(currentQuestionIndex + 1, questFlashcards.size());
+        int to = Math.min(from + count, questFlashcards.size());
+        return new ArrayList<>(questFlashcards.subList(from, to));
+    }
+
     /**
      * Checks if this is a perfect quest (all answers correct).
      */
@@ -218,6 +231,12 @@ public class Quest {
         this.categoryFilter = categoryFilter != null ? categoryFilter : new ArrayList<>(); 
     }
     
+    /**
+     * Tag query restricting the quest's cards, e.g. "java & streams | collections"; empty for no restriction.
+     */
+    public String getTagQuery() { return tagQuery; }
+    public void setTagQuery(String tagQuery) { this.tagQuery = tagQuery != null ? tagQuery : ""; }
+    
     public DifficultyDistribution getDifficultyDistribution() { return difficultyDistribution; }
     public void setDifficultyDistribution(DifficultyDistribution difficultyDistribution) { 
         this.difficultyDistribution = difficultyDistribution != null ? difficultyDistribution : new DifficultyDistribution(); 
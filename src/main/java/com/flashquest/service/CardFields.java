@@ -0,0 +1,33 @@
+package com.flashquest.service;
+
+/**
+ * Raw field values of one card as read from an import file, before validation.
+ * A field that never appeared is null; a field that appeared without content is empty.
+ */
+final class CardFields {
+    static final String QUESTION_PREFIX = "QUESTION:";
+    static final String ANSWER_PREFIX = "ANSWER:";
+    static final String DIFFICULTY_PREFIX = "DIFFICULTY:";
+    static final String CATEGORY_PREFIX = "CATEGORY:";
+    static final String TAGS_PREFIX = "TAGS:";
+
+    private final String question;
+    private final String answer;
+    private final String difficulty;
+    private final String category;
+    private final String tags;
+
+    CardFields(String question, String answer, String difficulty, String category, String tags) {
+        this.question = question;
+        this.answer = answer;
+        this.difficulty = difficulty;
+        this.category = category;
+        this.tags = tags;
+    }
+
+    String getQuestion() { return question; }
+    String getAnswer() { return answer; }
+    String getDifficulty() { return difficulty; }
+    String getCategory() { return category; }
+    String getTags() { return tags; }
+}
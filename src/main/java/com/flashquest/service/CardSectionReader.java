@@ -0,0 +1,216 @@
+package com.flashquest.service;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Streams "---"-separated card sections from a reader, one section at a time.
+ * Only the section being read is held in memory, so the footprint does not grow with the file size.
+ */
+final class CardSectionReader implements SectionSource {
+    private static final String CARD_SEPARATOR = "---";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final CountingInputStream input;
+    private long lineNumber;
+    private int sectionCount;
+    private boolean finished;
+
+    private CardSectionReader(BufferedReader reader, CountingInputStream input) {
+        this.reader = reader;
+        this.input = input;
+    }
+
+    /**
+     * Opens a UTF-8 file for section reading, counting bytes for progress.
+     */
+    static CardSectionReader open(File file) throws IOException {
+        CountingInputStream input = new CountingInputStream(new FileInputStream(file));
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        return new CardSectionReader(reader, input);
+    }
+
+    /**
+     * Reads the next non-blank section.
+     * @return the section, or null at end of input
+     */
+    @Override
+    public Section next() throws IOException {
+        if (finished) return null;
+        
+        List<String> lines = new ArrayList<>();
+        long startLine = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            
+            if (isSeparator(line)) {
+                if (!lines.isEmpty()) {
+                    return new Section(++sectionCount, startLine, lines);
+                }
+                continue;
+            }
+            
+            // Leading blank lines never belong to a field, so a section starts at its first content line
+            if (lines.isEmpty()) {
+                if (isBlank(line)) continue;
+                startLine = lineNumber;
+            }
+            lines.add(line);
+        }
+        
+        finished = true;
+        return lines.isEmpty() ? null : new Section(++sectionCount, startLine, lines);
+    }
+
+    @Override
+    public long getBytesRead() { return input.getCount(); }
+
+    @Override
+    public long getLineNumber() { return lineNumber; }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * A separator is "---" at the start of a line followed only by whitespace.
+     */
+    static boolean isSeparator(String line) {
+        if (!line.startsWith(CARD_SEPARATOR)) return false;
+        for (int i = CARD_SEPARATOR.length(); i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\u000B' && c != '\f' && c != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(String line) {
+        // Same notion of whitespace as String.trim()
+        for (int i = 0; i < line.length(); i++) {
+            if (line.charAt(i) > ' ') return false;
+        }
+        return true;
+    }
+
+    /**
+     * One card section with its 1-based card number and the file line it starts on.
+     */
+    static final class Section implements ImportSection {
+        private final int cardNumber;
+        private final long lineNumber;
+        private final List<String> lines;
+        
+        Section(int cardNumber, long lineNumber, List<String> lines) {
+            this.cardNumber = cardNumber;
+            this.lineNumber = lineNumber;
+            this.lines = Collections.unmodifiableList(lines);
+        }
+        
+        @Override
+        public int getCardNumber() { return cardNumber; }
+        
+        @Override
+        public long getLineNumber() { return lineNumber; }
+        
+        List<String> getLines() { return lines; }
+        
+        /**
+         * Splits the section's lines into QUESTION/ANSWER/DIFFICULTY/CATEGORY/TAGS fields.
+         * Lines without a prefix continue the current field; blank lines inside a field are kept.
+         */
+        @Override
+        public CardFields parseFields() {
+            StringBuilder currentContent = new StringBuilder();
+            String currentField = null;
+            
+            String question = null;
+            String answer = null;
+            String difficulty = null;
+            String category = null;
+            String tags = null;
+            
+            for (String line : lines) {
+                String trimmedLine = line.trim();
+                
+                // Skip empty lines
+                if (trimmedLine.isEmpty()) {
+                    if (currentField != null) {
+                        currentContent.append("\n");
+                    }
+                    continue;
+                }
+                
+                // Check if this line starts a new field
+                String newField = null;
+                if (trimmedLine.startsWith(CardFields.QUESTION_PREFIX)) {
+                    newField = "QUESTION";
+                    trimmedLine = trimmedLine.substring(CardFields.QUESTION_PREFIX.length()).trim();
+                } else if (trimmedLine.startsWith(CardFields.ANSWER_PREFIX)) {
+                    newField = "ANSWER";
+                    trimmedLine = trimmedLine.substring(CardFields.ANSWER_PREFIX.length()).trim();
+                } else if (trimmedLine.startsWith(CardFields.DIFFICULTY_PREFIX)) {
+                    newField = "DIFFICULTY";
+                    trimmedLine = trimmedLine.substring(CardFields.DIFFICULTY_PREFIX.length()).trim();
+                } else if (trimmedLine.startsWith(CardFields.CATEGORY_PREFIX)) {
+                    newField = "CATEGORY";
+                    trimmedLine = trimmedLine.substring(CardFields.CATEGORY_PREFIX.length()).trim();
+                } else if (trimmedLine.startsWith(CardFields.TAGS_PREFIX)) {
+                    newField = "TAGS";
+                    trimmedLine = trimmedLine.substring(CardFields.TAGS_PREFIX.length()).trim();
+                }
+                
+                // Save previous field content
+                if (newField != null && currentField != null) {
+                    switch (currentField) {
+                        case "QUESTION": question = currentContent.toString().trim(); break;
+                        case "ANSWER": answer = currentContent.toString().trim(); break;
+                        case "DIFFICULTY": difficulty = currentContent.toString().trim(); break;
+                        case "CATEGORY": category = currentContent.toString().trim(); break;
+                        case "TAGS": tags = currentContent.toString().trim(); break;
+                    }
+                    currentContent.setLength(0);
+                }
+                
+                // Start new field or continue current field
+                if (newField != null) {
+                    currentField = newField;
+                    if (!trimmedLine.isEmpty()) {
+                        currentContent.append(trimmedLine);
+                    }
+                } else if (currentField != null) {
+                    if (currentContent.length() > 0) {
+                        currentContent.append("\n");
+                    }
+                    currentContent.append(trimmedLine);
+                }
+            }
+            
+            // Save the last field
+            if (currentField != null) {
+                switch (currentField) {
+                    case "QUESTION": question = currentContent.toString().trim(); break;
+                    case "ANSWER": answer = currentContent.toString().trim(); break;
+                    case "DIFFICULTY": difficulty = currentContent.toString().trim(); break;
+                    case "CATEGORY": category = currentContent.toString().trim(); break;
+                    case "TAGS": tags = currentContent.toString().trim(); break;
+                }
+            }
+            
+            return new CardFields(question, answer, difficulty, category, tags);
+        }
+    }
+}
+        
\ No newline at end of file
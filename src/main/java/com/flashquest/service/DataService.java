@@ -16,6 +16,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Handles data persistence for FlashQuest using JSON files.
@@ -30,18 +31,52 @@ public class DataService {
     private static final String FLASHCARDS_FILE = "flashcards.json";
     private static final String QUESTS_FILE = "quests.json";
     private static final String BACKUP_SUFFIX = ".backup";
+    private static final String SAVE_HEADER_SUFFIX = ".meta";
+    private static final String DEFAULT_SAVE_ID = "default";
     
-    private final ObjectMapper objectMapper;
+    private volatile ObjectMapper objectMapper;
     private final Path dataDirectory;
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong filesWritten = new AtomicLong();
     
     /**
      * Creates a new DataService and initializes data directory.
      */
     public DataService() {
-        this.objectMapper = createObjectMapper();
         this.dataDirectory = initializeDataDirectory();
     }
     
+    /**
+     * Creates a DataService rooted at a specific directory.
+     * Used by headless tools that must not touch the player's real save data.
+     */
+    public DataService(Path dataDirectory) {
+        try {
+            Files.createDirectories(dataDirectory);
+        } catch (IOException e) {
+            throw new RuntimeException("Cannot initialize data directory", e);
+        }
+        this.dataDirectory = dataDirectory;
+    }
+    
+    /**
+     * Gets the ObjectMapper, creating it on first use. Building it loads much of Jackson,
+     * so it is kept off the startup path until something is actually read or written.
+     */
+    private ObjectMapper objectMapper() {
+        ObjectMapper mapper = objectMapper;
+        if (mapper == null) {
+            synchronized (this) {
+                mapper = objectMapper;
+                if (mapper == null) {
+                    mapper = createObjectMapper();
+                    objectMapper = mapper;
+                }
+            }
+        }
+        return mapper;
+    }
+    
     /**
      * Creates and configures the Jackson ObjectMapper for JSON serialization.
      */
@@ -79,6 +114,37 @@ public class DataService {
     public void savePlayer(Player player) {
         Path playerFile = dataDirectory.resolve(PLAYER_FILE);
         saveToFileWithBackup(player, playerFile, "player data");
+        writeSaveHeader(player, playerFile);
+    }
+    
+    /**
+     * Serializes the player and quests now, so they can be written later while the game keeps
+     * changing them. The flashcard list is kept as is and serialized when written, so it must
+     * be a list that no longer changes, such as a game state snapshot.
+     */
+    public PreparedSave prepareSave(Player player, List<Flashcard> flashcards, List<Quest> quests) {
+        try {
+            byte[] playerJson = player != null ? objectMapper().writeValueAsBytes(player) : null;
+            byte[] headerJson = player != null ? objectMapper().writeValueAsBytes(SaveHeader.of(player)) : null;
+            byte[] questsJson = objectMapper().writeValueAsBytes(new QuestCollection(quests));
+            return new PreparedSave(playerJson, headerJson, flashcards, questsJson);
+        } catch (IOException e) {
+            logger.error("Failed to serialize game data", e);
+            throw new RuntimeException("Failed to serialize game data", e);
+        }
+    }
+    
+    /**
+     * Writes a save prepared with {@link #prepareSave}.
+     */
+    public void writeSave(PreparedSave save) {
+        if (save.playerJson != null) {
+            Path playerFile = dataDirectory.resolve(PLAYER_FILE);
+            writeFileWithBackup(save.playerJson, playerFile, "player data");
+            writeSaveHeader(save.headerJson, playerFile);
+        }
+        saveFlashcards(save.flashcards);
+        writeFileWithBackup(save.questsJson, dataDirectory.resolve(QUESTS_FILE), "quests");
     }
     
     /**
@@ -171,6 +237,7 @@ public class DataService {
             deleteFileIfExists(PLAYER_FILE);
             deleteFileIfExists(FLASHCARDS_FILE);
             deleteFileIfExists(QUESTS_FILE);
+            deleteFileIfExists(PLAYER_FILE + SAVE_HEADER_SUFFIX);
             deleteFileIfExists(PLAYER_FILE + BACKUP_SUFFIX);
             deleteFileIfExists(FLASHCARDS_FILE + BACKUP_SUFFIX);
             deleteFileIfExists(QUESTS_FILE + BACKUP_SUFFIX);
@@ -196,36 +263,90 @@ public class DataService {
     }
     
     /**
-     * Gets a list of all available player save files.
+     * Gets the total number of bytes written by this service since it was created.
+     */
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+    
+    /**
+     * Gets the number of file writes performed by this service since it was created.
+     */
+    public long getFilesWritten() {
+        return filesWritten.get();
+    }
+    
+    /**
+     * Gets a list of all available player save files, most recently played first.
      */
     public List<SaveInfo> getAvailableSaves() {
         List<SaveInfo> saves = new ArrayList<>();
         
+        // There is one save, the default player file
+        Path playerFile = dataDirectory.resolve(PLAYER_FILE);
+        if (Files.exists(playerFile)) {
+            saves.add(readSaveInfo(playerFile));
+        }
+        return saves;
+    }
+    
+    /**
+     * Reads what the save list shows about the player file, from its small header if that is
+     * at least as new as the file. A save without an up-to-date header is read in full and
+     * gets a header the next time it is saved.
+     */
+    private SaveInfo readSaveInfo(Path playerFile) {
+        String fileName = playerFile.getFileName().toString();
+        long lastModified = 0;
         try {
-            // Check for default player save
-            Path playerFile = dataDirectory.resolve(PLAYER_FILE);
-            if (Files.exists(playerFile)) {
-                try {
-                    Player player = objectMapper.readValue(playerFile.toFile(), Player.class);
-                    long lastModified = Files.getLastModifiedTime(playerFile).toMillis();
-                    saves.add(new SaveInfo(player.getName(), player.getCurrentLevel(), 
-                        player.getTotalXp(), player.getQuestsCompleted(), lastModified, "default"));
-                } catch (Exception e) {
-                    logger.warn("Failed to read player save: {}", playerFile, e);
-                    // Add corrupted save entry
-                    long lastModified = Files.getLastModifiedTime(playerFile).toMillis();
-                    saves.add(new SaveInfo("Corrupted Save", 0, 0, 0, lastModified, "default"));
-                }
+            lastModified = Files.getLastModifiedTime(playerFile).toMillis();
+            Path headerFile = saveHeaderFile(playerFile);
+            if (Files.exists(headerFile) && Files.getLastModifiedTime(headerFile).toMillis() >= lastModified) {
+                SaveHeader header = objectMapper().readValue(headerFile.toFile(), SaveHeader.class);
+                return new SaveInfo(header.getPlayerName(), header.getLevel(), header.getTotalXp(),
+                    header.getQuestsCompleted(), lastModified, DEFAULT_SAVE_ID);
             }
-            
-            // Sort by last modified time (most recent first)
-            saves.sort((a, b) -> Long.compare(b.getLastModified(), a.getLastModified()));
-            
-        } catch (Exception e) {
-            logger.error("Error scanning for save files", e);
+        } catch (IOException e) {
+            logger.warn("Failed to read save header for {}, reading the full save", fileName, e);
         }
         
-        return saves;
+        try {
+            // Headers are only written by savePlayer, so listing never races a save in progress
+            Player player = objectMapper().readValue(playerFile.toFile(), Player.class);
+            return new SaveInfo(player.getName(), player.getCurrentLevel(), 
+                player.getTotalXp(), player.getQuestsCompleted(), lastModified, DEFAULT_SAVE_ID);
+        } catch (Exception e) {
+            logger.warn("Failed to read player save: {}", playerFile, e);
+            // Add corrupted save entry
+            return new SaveInfo("Corrupted Save", 0, 0, 0, lastModified, DEFAULT_SAVE_ID);
+        }
+    }
+    
+    /**
+     * Writes the small header the save list reads instead of the whole player file.
+     * A failure only costs a slower listing, so it is logged rather than thrown.
+     */
+    private void writeSaveHeader(Player player, Path playerFile) {
+        try {
+            writeSaveHeader(objectMapper().writeValueAsBytes(SaveHeader.of(player)), playerFile);
+        } catch (IOException e) {
+            logger.warn("Failed to serialize save header for {}", playerFile.getFileName(), e);
+        }
+    }
+    
+    private void writeSaveHeader(byte[] headerJson, Path playerFile) {
+        Path headerFile = saveHeaderFile(playerFile);
+        try {
+            Files.write(headerFile, headerJson);
+            bytesWritten.addAndGet(Files.size(headerFile));
+            filesWritten.incrementAndGet();
+        } catch (IOException e) {
+            logger.warn("Failed to write save header {}", headerFile.getFileName(), e);
+        }
+    }
+    
+    private static Path saveHeaderFile(Path playerFile) {
+        return playerFile.resolveSibling(playerFile.getFileName() + SAVE_HEADER_SUFFIX);
     }
     
     /**
@@ -268,8 +389,44 @@ public class DataService {
                 playerName, level, totalXp, questsCompleted);
         }
     }
+    
+    /**
+     * Game data serialized by {@link #prepareSave}, waiting to be written.
+     */
+    public static final class PreparedSave {
+        private final byte[] playerJson;
+        private final byte[] headerJson;
+        private final List<Flashcard> flashcards;
+        private final byte[] questsJson;
+        
+        private PreparedSave(byte[] playerJson, byte[] headerJson, List<Flashcard> flashcards, byte[] questsJson) {
+            this.playerJson = playerJson;
+            this.headerJson = headerJson;
+            this.flashcards = flashcards;
+            this.questsJson = questsJson;
+        }
+    }
+    
     // Private helper methods
     
+    private void writeFileWithBackup(byte[] json, Path filePath, String dataType) {
+        try {
+            if (Files.exists(filePath)) {
+                Path backupPath = Paths.get(filePath.toString() + BACKUP_SUFFIX);
+                Files.copy(filePath, backupPath, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+            }
+            
+            Files.write(filePath, json);
+            bytesWritten.addAndGet(json.length);
+            filesWritten.incrementAndGet();
+            logger.debug("Saved {} to {}", dataType, filePath.getFileName());
+            
+        } catch (IOException e) {
+            logger.error("Failed to save {} to {}", dataType, filePath.getFileName(), e);
+            throw new RuntimeException("Failed to save " + dataType, e);
+        }
+    }
+    
     private <T> void saveToFileWithBackup(T object, Path filePath, String dataType) {
         try {
             // Create backup if file exists
@@ -279,7 +436,9 @@ public class DataService {
             }
             
             // Save new data
-            objectMapper.writeValue(filePath.toFile(), object);
+            objectMapper().writeValue(filePath.toFile(), object);
+            bytesWritten.addAndGet(Files.size(filePath));
+            filesWritten.incrementAndGet();
             logger.debug("Saved {} to {}", dataType, filePath.getFileName());
             
         } catch (IOException e) {
@@ -295,7 +454,7 @@ public class DataService {
         }
         
         try {
-            T result = objectMapper.readValue(filePath.toFile(), clazz);
+            T result = objectMapper().readValue(filePath.toFile(), clazz);
             logger.debug("Loaded {} from {}", dataType, filePath.getFileName());
             return result;
             
@@ -307,7 +466,7 @@ public class DataService {
                 Path backupPath = Paths.get(filePath.toString() + BACKUP_SUFFIX);
                 if (Files.exists(backupPath)) {
                     logger.info("Attempting to restore {} from backup", dataType);
-                    T result = objectMapper.readValue(backupPath.toFile(), clazz);
+                    T result = objectMapper().readValue(backupPath.toFile(), clazz);
                     logger.info("Successfully restored {} from backup", dataType);
                     return result;
                 }
@@ -376,6 +535,37 @@ public class DataService {
         }
     }
     
+    /**
+     * What the save list shows about a player, stored next to the player file.
+     */
+    public static class SaveHeader {
+        private String playerName;
+        private int level;
+        private int totalXp;
+        private int questsCompleted;
+        
+        public SaveHeader() {
+        }
+        
+        static SaveHeader of(Player player) {
+            SaveHeader header = new SaveHeader();
+            header.playerName = player.getName();
+            header.level = player.getCurrentLevel();
+            header.totalXp = player.getTotalXp();
+            header.questsCompleted = player.getQuestsCompleted();
+            return header;
+        }
+        
+        public String getPlayerName() { return playerName; }
+        public void setPlayerName(String playerName) { this.playerName = playerName; }
+        public int getLevel() { return level; }
+        public void setLevel(int level) { this.level = level; }
+        public int getTotalXp() { return totalXp; }
+        public void setTotalXp(int totalXp) { this.totalXp = totalXp; }
+        public int getQuestsCompleted() { return questsCompleted; }
+        public void setQuestsCompleted(int questsCompleted) { this.questsCompleted = questsCompleted; }
+    }
+    
     /**
      * Wrapper class for serializing quest collections.
      */
@@ -7,6 +7,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -17,10 +19,16 @@ import java.util.*;
 public class DatabaseService {
     private static final Logger logger = LoggerFactory.getLogger(DatabaseService.class);
     
-    private static final String DB_URL = "jdbc:h2:~/flashquest-data/flashquest;AUTO_SERVER=TRUE;DB_CLOSE_ON_EXIT=FALSE";
+    private static final String DB_URL = "jdbc:h2:~/flashquest-data/flashquest;AUTO_SERVER=TRUE";
     private static final String DB_USER = "flashquest";
     private static final String DB_PASSWORD = "";
     
+    // Joins a card's tags in the export query, as CHAR(31): a control character no tag contains, unlike ','
+    private static final String TAG_SEPARATOR = "\u001F";
+    
+    /** Number of imported cards written per transaction by default. */
+    public static final int DEFAULT_IMPORT_COMMIT_INTERVAL = 500;
+    
     private static DatabaseService instance;
     private Connection connection;
     private boolean initialized = false;
@@ -120,6 +128,28 @@ public class DatabaseService {
             )
         """;
         
+        // Create flashcard_tags table, one row per card and tag
+        String createFlashcardTagsTable = """
+            CREATE TABLE IF NOT EXISTS flashcard_tags (
+                flashcard_id VARCHAR(50),
+                tag VARCHAR(30),
+                PRIMARY KEY (flashcard_id, tag),
+                FOREIGN KEY (flashcard_id) REFERENCES flashcards(id) ON DELETE CASCADE
+            )
+        """;
+        
+        // Create import_checkpoints table, one row per unfinished file import
+        String createImportCheckpointsTable = """
+            CREATE TABLE IF NOT EXISTS import_checkpoints (
+                import_key VARCHAR(50) PRIMARY KEY,
+                file_path TEXT NOT NULL,
+                player_id VARCHAR(50),
+                last_card_number INTEGER NOT NULL,
+                cards_committed INTEGER DEFAULT 0,
+                last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+            )
+        """;
+        
         // Create save_profiles table for organizing saves
         String createSaveProfilesTable = """
             CREATE TABLE IF NOT EXISTS save_profiles (
@@ -149,6 +179,9 @@ public class DatabaseService {
             stmt.execute(createPlayersTable);
             stmt.execute(createPlayerTitlesTable);
             stmt.execute(createFlashcardsTable);
+            stmt.execute(createFlashcardTagsTable);
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_flashcard_tags_tag ON flashcard_tags(tag)");
+            stmt.execute(createImportCheckpointsTable);
             stmt.execute(createSaveProfilesTable);
             stmt.execute(createProfilePlayersTable);
             
@@ -423,9 +456,138 @@ public class DatabaseService {
             logger.error("Error loading flashcards for profile: {}", profileId, e);
         }
         
+        loadFlashcardTags(flashcards);
         return flashcards;
     }
 
+    /**
+     * Attaches stored tags to loaded flashcards.
+     */
+    private void loadFlashcardTags(List<Flashcard> flashcards) {
+        if (flashcards.isEmpty()) return;
+        
+        Map<String, Flashcard> byId = new HashMap<>();
+        for (Flashcard flashcard : flashcards) {
+            byId.put(flashcard.getId(), flashcard);
+        }
+        
+        Map<String, List<String>> tagsById = new HashMap<>();
+        String query = "SELECT flashcard_id, tag FROM flashcard_tags ORDER BY flashcard_id, tag";
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(query)) {
+            
+            while (rs.next()) {
+                String flashcardId = rs.getString("flashcard_id");
+                if (byId.containsKey(flashcardId)) {
+                    tagsById.computeIfAbsent(flashcardId, id -> new ArrayList<>()).add(rs.getString("tag"));
+                }
+            }
+            
+        } catch (SQLException e) {
+            logger.error("Error loading flashcard tags", e);
+        }
+        
+        tagsById.forEach((id, tags) -> byId.get(id).setTags(tags));
+    }
+
+    /**
+     * Exports the profile's flashcards to a file, streaming rows from a cursor instead of loading them.
+     *
+     * @param profileId Profile whose cards to export
+     * @param file Target file, replaced only if the export completes
+     * @param format Output format
+     * @param gzip Whether to gzip the output
+     * @param listener Receives progress and can cancel the export
+     */
+    public FlashcardExportService.ExportResult exportFlashcards(String profileId, File file, ExportFormat format,
+                                                                boolean gzip,
+                                                                FlashcardExportService.ExportListener listener) {
+        String countQuery = """
+            SELECT COUNT(*)
+            FROM flashcards f
+            LEFT JOIN players p ON f.created_by_player = p.id
+            LEFT JOIN profile_players pp ON p.id = pp.player_id
+            WHERE f.is_default = TRUE OR pp.profile_id = ?
+        """;
+        
+        // Tags are aggregated per row so the export never has to hold a card-to-tags map
+        String query = """
+            SELECT f.id, f.question, f.answer, f.category, f.difficulty,
+                   f.times_asked, f.times_correct, f.date_created,
+                   (SELECT LISTAGG(t.tag, CHAR(31)) WITHIN GROUP (ORDER BY t.tag)
+                    FROM flashcard_tags t WHERE t.flashcard_id = f.id) AS tags
+            FROM flashcards f
+            LEFT JOIN players p ON f.created_by_player = p.id
+            LEFT JOIN profile_players pp ON p.id = pp.player_id
+            WHERE f.is_default = TRUE OR pp.profile_id = ?
+            ORDER BY f.date_created DESC
+        """;
+        
+        try (PreparedStatement countStmt = connection.prepareStatement(countQuery);
+             PreparedStatement pstmt = connection.prepareStatement(query,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            countStmt.setString(1, profileId);
+            int totalCards;
+            try (ResultSet rs = countStmt.executeQuery()) {
+                totalCards = rs.next() ? rs.getInt(1) : -1;
+            }
+            
+            pstmt.setString(1, profileId);
+            pstmt.setFetchSize(500);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return new FlashcardExportService().exportToFile(new ResultSetCards(rs), totalCards,
+                    file, format, gzip, listener);
+            }
+            
+        } catch (SQLException e) {
+            logger.error("Error exporting flashcards for profile: {}", profileId, e);
+            throw new RuntimeException("Failed to export flashcards", e);
+        }
+    }
+
+    /**
+     * Iterates flashcards straight off an open result set.
+     */
+    private class ResultSetCards implements Iterator<Flashcard> {
+        private final ResultSet rs;
+        private Boolean hasNext;
+        
+        ResultSetCards(ResultSet rs) {
+            this.rs = rs;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (hasNext == null) {
+                try {
+                    hasNext = rs.next();
+                } catch (SQLException e) {
+                    throw new RuntimeException("Failed to read flashcards", e);
+                }
+            }
+            return hasNext;
+        }
+        
+        @Override
+        public Flashcard next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            hasNext = null;
+            try {
+                Flashcard flashcard = createFlashcardFromResultSet(rs);
+                String tags = rs.getString("tags");
+                if (tags != null) {
+                    flashcard.setTags(Arrays.asList(tags.split(TAG_SEPARATOR)));
+                }
+                return flashcard;
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to read flashcards", e);
+            }
+        }
+    }
+
     /**
      * Saves a flashcard to the database.
      */
@@ -449,12 +611,278 @@ public class DatabaseService {
             
             pstmt.executeUpdate();
             
+            saveFlashcardTags(flashcard);
+            
         } catch (SQLException e) {
             logger.error("Error saving flashcard: {}", flashcard.getId(), e);
             throw new RuntimeException("Failed to save flashcard", e);
         }
     }
 
+    /**
+     * Saves a flashcard's tags, replacing any stored before.
+     */
+    private void saveFlashcardTags(Flashcard flashcard) throws SQLException {
+        String deleteQuery = "DELETE FROM flashcard_tags WHERE flashcard_id = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(deleteQuery)) {
+            pstmt.setString(1, flashcard.getId());
+            pstmt.executeUpdate();
+        }
+        
+        String insertQuery = "MERGE INTO flashcard_tags (flashcard_id, tag) KEY (flashcard_id, tag) VALUES (?, ?)";
+        try (PreparedStatement pstmt = connection.prepareStatement(insertQuery)) {
+            for (String tag : flashcard.getTags()) {
+                pstmt.setString(1, flashcard.getId());
+                pstmt.setString(2, tag);
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * Imports flashcards from a file straight into the database, writing them in batched transactions.
+     *
+     * Every commit also records the last written card number for the file, so if the import is
+     * cancelled or the process dies, importing the same unchanged file again picks up after the
+     * last committed card instead of starting over. Card ids are derived from the file and card
+     * number and written with MERGE, so replaying a batch never duplicates rows.
+     *
+     * The import runs on its own connection, so its open transaction never holds up or takes in
+     * statements from the rest of the app, and accepted cards are not collected in the result.
+     *
+     * @param file The file to import, in any format the import service accepts
+     * @param profileId Profile whose cards are checked for duplicate questions
+     * @param createdByPlayerId Player recorded as the cards' creator
+     * @param commitInterval Number of imported cards per transaction
+     * @param listener Receives accepted cards and progress, and can cancel the import
+     * @return ImportResult for the cards processed in this run
+     */
+    public FlashcardImportService.ImportResult importFlashcards(File file, String profileId, String createdByPlayerId,
+                                                                int commitInterval,
+                                                                FlashcardImportService.ImportListener listener) {
+        String importKey = UUID.nameUUIDFromBytes((file.getAbsolutePath() + "|" + file.length() + "|"
+            + file.lastModified() + "|" + createdByPlayerId).getBytes(StandardCharsets.UTF_8)).toString();
+        
+        FlashcardImportService importService = new FlashcardImportService();
+        importService.setCardIdSeed(importKey);
+        importService.setRetainImportedCards(false);
+        
+        try (Connection importConnection = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD)) {
+            return importFlashcards(importConnection, importService, importKey, file, profileId,
+                createdByPlayerId, commitInterval, listener);
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Error importing flashcards from file: {}", file.getAbsolutePath(), e);
+            throw e instanceof RuntimeException runtime ? runtime : new RuntimeException("Failed to import flashcards", e);
+        }
+    }
+
+    private FlashcardImportService.ImportResult importFlashcards(Connection connection,
+                                                                 FlashcardImportService importService,
+                                                                 String importKey, File file, String profileId,
+                                                                 String createdByPlayerId, int commitInterval,
+                                                                 FlashcardImportService.ImportListener listener)
+            throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            int[] checkpoint = loadImportCheckpoint(connection, importKey);
+            if (checkpoint != null) {
+                logger.info("Resuming import of {} after card {} ({} cards already committed)",
+                    file.getName(), checkpoint[0], checkpoint[1]);
+                importService.setResumeAfterCard(checkpoint[0]);
+            }
+            Set<String> existingQuestions = loadFlashcardQuestions(connection, profileId);
+            
+            try (ImportSink sink = new ImportSink(connection, importKey, file, createdByPlayerId, commitInterval,
+                    checkpoint != null ? checkpoint[1] : 0, listener)) {
+                
+                FlashcardImportService.ImportResult result = importService.importFromFile(file, existingQuestions, sink);
+                sink.commitPending();
+                if (!result.isCancelled()) {
+                    deleteImportCheckpoint(connection, importKey);
+                    connection.commit();
+                }
+                logger.info("Imported {} cards into the database ({} in total for this file)",
+                    result.getSuccessfulImports(), sink.getCardsCommitted());
+                return result;
+            }
+            
+        } catch (SQLException | RuntimeException e) {
+            // Only the uncommitted batch is lost; the checkpoint still points at the last commit
+            try {
+                connection.rollback();
+            } catch (SQLException rollbackFailure) {
+                e.addSuppressed(rollbackFailure);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the lower-cased questions of a profile's cards, for duplicate checks.
+     */
+    private static Set<String> loadFlashcardQuestions(Connection connection, String profileId) throws SQLException {
+        String query = """
+            SELECT f.question
+            FROM flashcards f
+            LEFT JOIN players p ON f.created_by_player = p.id
+            LEFT JOIN profile_players pp ON p.id = pp.player_id
+            WHERE f.is_default = TRUE OR pp.profile_id = ?
+        """;
+        
+        Set<String> questions = new HashSet<>();
+        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+            pstmt.setString(1, profileId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    questions.add(rs.getString("question").toLowerCase().trim());
+                }
+            }
+        }
+        return questions;
+    }
+
+    /**
+     * Gets the last committed card number and committed card count of an unfinished import, or null.
+     */
+    private static int[] loadImportCheckpoint(Connection connection, String importKey) throws SQLException {
+        String query = "SELECT last_card_number, cards_committed FROM import_checkpoints WHERE import_key = ?";
+        try (PreparedStatement pstmt = connection.prepareStatement(query)) {
+            pstmt.setString(1, importKey);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? new int[] {rs.getInt("last_card_number"), rs.getInt("cards_committed")} : null;
+            }
+        }
+    }
+
+    private static void deleteImportCheckpoint(Connection connection, String importKey) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM import_checkpoints WHERE import_key = ?")) {
+            pstmt.setString(1, importKey);
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Import listener that batches accepted cards into the database and commits them, together
+     * with the import checkpoint, every few hundred cards. Runs on the importing thread only.
+     */
+    private static class ImportSink implements FlashcardImportService.ImportListener, AutoCloseable {
+        private final Connection connection;
+        private final String importKey;
+        private final String filePath;
+        private final String createdByPlayerId;
+        private final int commitInterval;
+        private final FlashcardImportService.ImportListener delegate;
+        private final PreparedStatement cardStmt;
+        private final PreparedStatement tagDeleteStmt;
+        private final PreparedStatement tagStmt;
+        private int pendingCards;
+        private int lastCardNumber;
+        private int cardsCommitted;
+        
+        ImportSink(Connection connection, String importKey, File file, String createdByPlayerId, int commitInterval,
+                   int cardsCommitted, FlashcardImportService.ImportListener delegate) throws SQLException {
+            this.connection = connection;
+            this.importKey = importKey;
+            this.filePath = file.getAbsolutePath();
+            this.createdByPlayerId = createdByPlayerId;
+            this.commitInterval = Math.max(1, commitInterval);
+            this.cardsCommitted = cardsCommitted;
+            this.delegate = delegate;
+            this.cardStmt = connection.prepareStatement("""
+                MERGE INTO flashcards (id, question, answer, category, difficulty,
+                                       times_asked, times_correct, created_by_player, is_default)
+                KEY (id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, FALSE)
+            """);
+            this.tagDeleteStmt = connection.prepareStatement("DELETE FROM flashcard_tags WHERE flashcard_id = ?");
+            this.tagStmt = connection.prepareStatement(
+                "MERGE INTO flashcard_tags (flashcard_id, tag) KEY (flashcard_id, tag) VALUES (?, ?)");
+        }
+        
+        int getCardsCommitted() { return cardsCommitted; }
+        
+        @Override
+        public void onCardAccepted(int cardNumber, Flashcard card) {
+            try {
+                cardStmt.setString(1, card.getId());
+                cardStmt.setString(2, card.getQuestion());
+                cardStmt.setString(3, card.getAnswer());
+                cardStmt.setString(4, card.getCategory());
+                cardStmt.setString(5, card.getDifficulty().name());
+                cardStmt.setInt(6, card.getTimesAsked());
+                cardStmt.setInt(7, card.getTimesCorrect());
+                cardStmt.setString(8, createdByPlayerId);
+                cardStmt.addBatch();
+                
+                tagDeleteStmt.setString(1, card.getId());
+                tagDeleteStmt.addBatch();
+                for (String tag : card.getTags()) {
+                    tagStmt.setString(1, card.getId());
+                    tagStmt.setString(2, tag);
+                    tagStmt.addBatch();
+                }
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to import flashcard", e);
+            }
+            
+            pendingCards++;
+            lastCardNumber = cardNumber;
+            if (pendingCards >= commitInterval) {
+                commitPending();
+            }
+            delegate.onCardAccepted(cardNumber, card);
+        }
+        
+        @Override
+        public void onProgress(FlashcardImportService.ImportProgress progress) {
+            delegate.onProgress(progress);
+        }
+        
+        @Override
+        public boolean isCancelled() {
+            return delegate.isCancelled();
+        }
+        
+        /**
+         * Writes the batched cards and moves the checkpoint past them in one transaction.
+         */
+        void commitPending() {
+            if (pendingCards == 0) return;
+            
+            String checkpointQuery = """
+                MERGE INTO import_checkpoints (import_key, file_path, player_id, last_card_number,
+                                               cards_committed, last_updated)
+                KEY (import_key) VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+            """;
+            try (PreparedStatement checkpointStmt = connection.prepareStatement(checkpointQuery)) {
+                cardStmt.executeBatch();
+                tagDeleteStmt.executeBatch();
+                tagStmt.executeBatch();
+                
+                checkpointStmt.setString(1, importKey);
+                checkpointStmt.setString(2, filePath);
+                checkpointStmt.setString(3, createdByPlayerId);
+                checkpointStmt.setInt(4, lastCardNumber);
+                checkpointStmt.setInt(5, cardsCommitted + pendingCards);
+                checkpointStmt.executeUpdate();
+                
+                connection.commit();
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to commit imported flashcards", e);
+            }
+            cardsCommitted += pendingCards;
+            pendingCards = 0;
+            logger.debug("Committed imported cards up to card {}", lastCardNumber);
+        }
+        
+        @Override
+        public void close() throws SQLException {
+            cardStmt.close();
+            tagDeleteStmt.close();
+            tagStmt.close();
+        }
+    }
+
     /**
      * Loads default flashcards into the database.
      */
@@ -0,0 +1,372 @@
+package com.flashquest.service;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Streams CSV, TSV and Anki text exports as card sections, one row per card.
+ *
+ * Quoted cells follow RFC 4180: a cell wrapped in double quotes may contain the delimiter and
+ * line breaks, and "" stands for a literal quote. CSV/TSV files may start with a header row naming
+ * the columns; otherwise columns are question, answer, difficulty, category, tags. Anki exports
+ * are read as front/back plus any deck and tags columns declared in their #-header lines.
+ * Rows without a difficulty column default to MEDIUM, and rows without a category use the file name.
+ */
+final class DelimitedSectionReader implements SectionSource {
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final String DEFAULT_DIFFICULTY = "MEDIUM";
+    private static final Pattern HTML_BREAK = Pattern.compile("(?i)<br\\s*/?>|</div>|</p>");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+
+    private static final int QUESTION = 0;
+    private static final int ANSWER = 1;
+    private static final int DIFFICULTY = 2;
+    private static final int CATEGORY = 3;
+    private static final int TAGS = 4;
+
+    private final BufferedReader reader;
+    private final CountingInputStream input;
+    private final String defaultCategory;
+    private char delimiter;
+    private boolean html;
+    private boolean spaceSeparatedTags;
+    private int[] columns = {0, 1, 2, 3, 4};
+    private long lineNumber;
+    private int sectionCount;
+    private int pending = -2;
+    private List<String> firstDataRow;
+    private long firstDataRowLine;
+
+    private DelimitedSectionReader(BufferedReader reader, CountingInputStream input, String defaultCategory) {
+        this.reader = reader;
+        this.input = input;
+        this.defaultCategory = defaultCategory;
+    }
+
+    /**
+     * Opens a CSV, TSV or Anki export for section reading.
+     */
+    static DelimitedSectionReader open(File file, ImportFormat format) throws IOException {
+        CountingInputStream input = new CountingInputStream(new FileInputStream(file));
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(input, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        DelimitedSectionReader sections = new DelimitedSectionReader(reader, input, baseName(file));
+        try {
+            sections.skipByteOrderMark();
+            switch (format) {
+                case CSV -> sections.readHeaderRow(',');
+                case TSV -> sections.readHeaderRow('\t');
+                case ANKI -> sections.readAnkiHeader();
+                default -> throw new IllegalArgumentException("Not a delimited format: " + format);
+            }
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        return sections;
+    }
+
+    @Override
+    public ImportSection next() throws IOException {
+        List<String> row;
+        long startLine;
+        do {
+            if (firstDataRow != null) {
+                row = firstDataRow;
+                startLine = firstDataRowLine;
+                firstDataRow = null;
+            } else {
+                startLine = lineNumber + 1;
+                row = readRow();
+            }
+            if (row == null) return null;
+        } while (isBlankRow(row));
+        
+        return new RowSection(++sectionCount, startLine, toFields(row));
+    }
+
+    @Override
+    public long getBytesRead() { return input.getCount(); }
+
+    @Override
+    public long getLineNumber() { return lineNumber; }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Uses the first row as column names when it names a question or answer column.
+     */
+    private void readHeaderRow(char delimiter) throws IOException {
+        this.delimiter = delimiter;
+        long firstLine = lineNumber + 1;
+        List<String> first = readRow();
+        if (first == null) return;
+        
+        int[] mapped = {-1, -1, -1, -1, -1};
+        for (int i = 0; i < first.size(); i++) {
+            int field = fieldForHeader(first.get(i));
+            if (field >= 0 && mapped[field] < 0) mapped[field] = i;
+        }
+        
+        if (mapped[QUESTION] >= 0 || mapped[ANSWER] >= 0) {
+            columns = mapped;
+        } else {
+            // No header: the first row is data
+            firstDataRow = first;
+            firstDataRowLine = firstLine;
+        }
+    }
+
+    private static int fieldForHeader(String header) {
+        return switch (header.trim().toLowerCase(Locale.ROOT)) {
+            case "question", "front", "prompt" -> QUESTION;
+            case "answer", "back" -> ANSWER;
+            case "difficulty", "level" -> DIFFICULTY;
+            case "category", "deck", "topic" -> CATEGORY;
+            case "tags", "tag" -> TAGS;
+            default -> -1;
+        };
+    }
+
+    /**
+     * Reads Anki's "#key:value" header lines, e.g. #separator:tab, #html:true, #tags column:3.
+     */
+    private void readAnkiHeader() throws IOException {
+        delimiter = '\t';
+        html = true;
+        spaceSeparatedTags = true;
+        int deckColumn = -1;
+        int tagsColumn = -1;
+        Set<Integer> metaColumns = new HashSet<>();
+        
+        while (true) {
+            // Peek one char so data rows of any length are left untouched
+            reader.mark(1);
+            if (reader.read() != '#') {
+                reader.reset();
+                break;
+            }
+            String line = reader.readLine();
+            lineNumber++;
+            
+            int colon = line != null ? line.indexOf(':') : -1;
+            if (colon < 0) continue;
+            String key = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            switch (key) {
+                case "separator" -> delimiter = ankiSeparator(value);
+                case "html" -> html = Boolean.parseBoolean(value);
+                case "deck column" -> deckColumn = parseColumn(value, metaColumns);
+                case "tags column" -> tagsColumn = parseColumn(value, metaColumns);
+                case "guid column", "notetype column" -> parseColumn(value, metaColumns);
+                default -> { }
+            }
+        }
+        
+        // The first two non-meta columns are the note's front and back
+        int[] mapped = {-1, -1, -1, deckColumn, tagsColumn};
+        int column = 0;
+        for (int field : new int[] {QUESTION, ANSWER}) {
+            while (metaColumns.contains(column)) column++;
+            mapped[field] = column++;
+        }
+        columns = mapped;
+    }
+
+    private static int parseColumn(String value, Set<Integer> metaColumns) {
+        try {
+            int column = Integer.parseInt(value) - 1;
+            metaColumns.add(column);
+            return column;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static char ankiSeparator(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "comma" -> ',';
+            case "semicolon" -> ';';
+            case "space" -> ' ';
+            case "pipe" -> '|';
+            case "colon" -> ':';
+            case "tab" -> '\t';
+            default -> value.length() == 1 ? value.charAt(0) : '\t';
+        };
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    /**
+     * Reads one record, following quoted cells across line breaks.
+     * @return the cells, or null at end of input
+     */
+    private List<String> readRow() throws IOException {
+        int c = read();
+        if (c < 0) return null;
+        
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean cellStart = true;
+        
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IOException("Unterminated quoted cell starting before line " + (lineNumber + 1));
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        cell.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\r' || c == '\n') {
+                        c = consumeLineBreak(c);
+                        cell.append('\n');
+                        continue;
+                    }
+                    cell.append((char) c);
+                }
+                c = read();
+                continue;
+            }
+            
+            if (c < 0 || c == '\r' || c == '\n') {
+                cells.add(cell.toString());
+                if (c >= 0) {
+                    pending = consumeLineBreak(c);
+                }
+                return cells;
+            }
+            if (c == delimiter) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+                cellStart = true;
+            } else if (c == '"' && cellStart) {
+                quoted = true;
+                cellStart = false;
+            } else {
+                cell.append((char) c);
+                cellStart = false;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Consumes a line break whose first char is c, counting the line.
+     * @return the char after the break
+     */
+    private int consumeLineBreak(int c) throws IOException {
+        lineNumber++;
+        int next = read();
+        if (c == '\r' && next == '\n') {
+            next = read();
+        }
+        return next;
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private static boolean isBlankRow(List<String> row) {
+        for (String cell : row) {
+            if (!cell.isBlank()) return false;
+        }
+        return true;
+    }
+
+    private CardFields toFields(List<String> row) {
+        String question = cell(row, QUESTION);
+        String answer = cell(row, ANSWER);
+        String difficulty = columns[DIFFICULTY] >= 0 ? cell(row, DIFFICULTY) : DEFAULT_DIFFICULTY;
+        String category = columns[CATEGORY] >= 0 ? cell(row, CATEGORY) : defaultCategory;
+        String tags = cell(row, TAGS);
+        
+        if (html) {
+            question = stripHtml(question);
+            answer = stripHtml(answer);
+        }
+        if (spaceSeparatedTags && tags != null) {
+            tags = String.join(", ", tags.trim().split("\\s+"));
+        }
+        return new CardFields(question, answer, difficulty, category, tags);
+    }
+
+    private String cell(List<String> row, int field) {
+        int column = columns[field];
+        if (column < 0 || column >= row.size()) return null;
+        return row.get(column).trim();
+    }
+
+    private static String stripHtml(String text) {
+        if (text == null || text.indexOf('<') < 0 && text.indexOf('&') < 0) return text;
+        String plain = HTML_TAG.matcher(HTML_BREAK.matcher(text).replaceAll("\n")).replaceAll("");
+        return plain.replace("&nbsp;", " ")
+            .replace("&lt;", "<")
+            .replace("&gt;", ">")
+            .replace("&quot;", "\"")
+            .replace("&#39;", "'")
+            .replace("&amp;", "&")
+            .trim();
+    }
+
+    private static String baseName(File file) {
+        String name = file.getName();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    /**
+     * A row that has already been split into fields by the reader.
+     */
+    private static final class RowSection implements ImportSection {
+        private final int cardNumber;
+        private final long lineNumber;
+        private final CardFields fields;
+        
+        RowSection(int cardNumber, long lineNumber, CardFields fields) {
+            this.cardNumber = cardNumber;
+            this.lineNumber = lineNumber;
+            this.fields = fields;
+        }
+        
+        @Override
+        public int getCardNumber() { return cardNumber; }
+        
+        @Override
+        public long getLineNumber() { return lineNumber; }
+        
+        @Override
+        public CardFields parseFields() { return fields; }
+    }
+}
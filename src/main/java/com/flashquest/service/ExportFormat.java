@@ -0,0 +1,53 @@
+package com.flashquest.service;
+
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * File formats written by the flashcard exporter.
+ */
+public enum ExportFormat {
+    /** FlashQuest QUESTION:/ANSWER: blocks separated by "---", readable by the importer. */
+    BLOCK("FlashQuest text", ".txt"),
+    /** RFC 4180 CSV with a header row, readable by the importer. */
+    CSV("CSV", ".csv"),
+    /** One JSON object per line, including statistics. */
+    NDJSON("NDJSON", ".ndjson");
+
+    /** Suffix of gzip-compressed exports, after the format's own extension. */
+    public static final String GZIP_SUFFIX = ".gz";
+
+    private final String displayName;
+    private final String extension;
+
+    ExportFormat(String displayName, String extension) {
+        this.displayName = displayName;
+        this.extension = extension;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getExtension() { return extension; }
+
+    /**
+     * Picks the format from a file name such as "deck.csv" or "deck.ndjson.gz", defaulting to BLOCK.
+     */
+    public static ExportFormat fromFile(File file) {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        if (name.endsWith(GZIP_SUFFIX)) {
+            name = name.substring(0, name.length() - GZIP_SUFFIX.length());
+        }
+        for (ExportFormat format : values()) {
+            if (name.endsWith(format.extension)) {
+                return format;
+            }
+        }
+        return name.endsWith(".jsonl") ? NDJSON : BLOCK;
+    }
+
+    /**
+     * Checks whether a file name asks for gzip compression.
+     */
+    public static boolean isGzip(File file) {
+        return file.getName().toLowerCase(Locale.ROOT).endsWith(GZIP_SUFFIX);
+    }
+}
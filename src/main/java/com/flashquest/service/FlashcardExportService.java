@@ -0,0 +1,328 @@
+package com.flashquest.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.flashquest.model.Flashcard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Service for exporting flashcards to files.
+ *
+ * Cards are pulled one at a time from an iterator and written straight through a buffered
+ * file channel, optionally gzip-compressed, so memory use does not grow with the deck.
+ * Output goes to a ".part" file that replaces the target only once the export completes;
+ * a cancelled or failed export leaves any existing file untouched.
+ */
+public class FlashcardExportService {
+    private static final Logger logger = LoggerFactory.getLogger(FlashcardExportService.class);
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int PROGRESS_INTERVAL = 1024;
+    private static final String PARTIAL_SUFFIX = ".part";
+    private static final String CSV_HEADER = "question,answer,difficulty,category,tags";
+
+    /**
+     * Result of an export operation.
+     */
+    public static class ExportResult {
+        private final File file;
+        private final ExportFormat format;
+        private final int cardsWritten;
+        private final long bytesWritten;
+        private final boolean cancelled;
+        
+        public ExportResult(File file, ExportFormat format, int cardsWritten, long bytesWritten, boolean cancelled) {
+            this.file = file;
+            this.format = format;
+            this.cardsWritten = cardsWritten;
+            this.bytesWritten = bytesWritten;
+            this.cancelled = cancelled;
+        }
+        
+        public File getFile() { return file; }
+        public ExportFormat getFormat() { return format; }
+        public int getCardsWritten() { return cardsWritten; }
+        public long getBytesWritten() { return bytesWritten; }
+        public boolean isCancelled() { return cancelled; }
+        
+        public String getSummary() {
+            return String.format("Export Results: %d cards, %.1f KB as %s%s", cardsWritten,
+                bytesWritten / 1024.0, format.getDisplayName(), cancelled ? " (cancelled)" : "");
+        }
+    }
+
+    /**
+     * Snapshot of a running export's progress.
+     */
+    public static class ExportProgress {
+        private final int cardsWritten;
+        private final int totalCards;
+        private final long bytesWritten;
+        private final long elapsedNanos;
+        
+        public ExportProgress(int cardsWritten, int totalCards, long bytesWritten, long elapsedNanos) {
+            this.cardsWritten = cardsWritten;
+            this.totalCards = totalCards;
+            this.bytesWritten = bytesWritten;
+            this.elapsedNanos = elapsedNanos;
+        }
+        
+        public int getCardsWritten() { return cardsWritten; }
+        public int getTotalCards() { return totalCards; }
+        public long getBytesWritten() { return bytesWritten; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        
+        public double getCardsPerSecond() {
+            return elapsedNanos > 0 ? cardsWritten * 1_000_000_000.0 / elapsedNanos : 0.0;
+        }
+    }
+
+    /**
+     * Callbacks for a running export. All methods are called on the exporting thread.
+     */
+    public interface ExportListener {
+        /**
+         * Called every few hundred cards and once at the end.
+         */
+        default void onProgress(ExportProgress progress) { }
+        
+        /**
+         * Polled between cards; returning true stops the export.
+         */
+        default boolean isCancelled() { return false; }
+    }
+
+    /**
+     * Exports cards to a file.
+     *
+     * @param cards Cards to write, consumed once
+     * @param totalCards Number of cards the iterator yields, for progress; -1 if unknown
+     * @param file Target file, replaced only if the export completes
+     * @param format Output format
+     * @param gzip Whether to gzip the output
+     * @param listener Receives progress and can cancel the export
+     * @return ExportResult with the cards and bytes written, flagged as cancelled if stopped early
+     */
+    public ExportResult exportToFile(Iterator<Flashcard> cards, int totalCards, File file,
+                                     ExportFormat format, boolean gzip, ExportListener listener) {
+        logger.info("Starting {} export to file: {}", format.getDisplayName(), file.getAbsolutePath());
+        
+        long startNanos = System.nanoTime();
+        Path target = file.toPath();
+        Path partial = target.resolveSibling(target.getFileName() + PARTIAL_SUFFIX);
+        int cardsWritten = 0;
+        long bytesWritten;
+        boolean cancelled = false;
+        
+        try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            
+            OutputStream output = Channels.newOutputStream(channel);
+            if (gzip) {
+                output = new GZIPOutputStream(output, WRITE_BUFFER_SIZE);
+            }
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8),
+                    WRITE_BUFFER_SIZE)) {
+                CardWriter cardWriter = openCardWriter(format, writer);
+                while (cards.hasNext()) {
+                    if (listener.isCancelled() || Thread.currentThread().isInterrupted()) {
+                        cancelled = true;
+                        break;
+                    }
+                    
+                    cardWriter.write(cards.next());
+                    cardsWritten++;
+                    if (cardsWritten % PROGRESS_INTERVAL == 0) {
+                        // Channel position lags the writer's buffers, close enough for progress
+                        listener.onProgress(new ExportProgress(cardsWritten, totalCards,
+                            channel.position(), System.nanoTime() - startNanos));
+                    }
+                }
+                cardWriter.finish();
+            }
+            bytesWritten = Files.size(partial);
+            
+        } catch (IOException e) {
+            deletePartial(partial);
+            logger.error("IOException while exporting to file: {}", file.getAbsolutePath(), e);
+            throw new RuntimeException("Failed to export flashcards", e);
+        } catch (RuntimeException e) {
+            // e.g. the card source failing mid-stream
+            deletePartial(partial);
+            throw e;
+        }
+        
+        if (cancelled) {
+            deletePartial(partial);
+            logger.info("Export cancelled after {} cards", cardsWritten);
+            return new ExportResult(file, format, cardsWritten, 0, true);
+        }
+        
+        try {
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deletePartial(partial);
+            throw new RuntimeException("Failed to export flashcards", e);
+        }
+        listener.onProgress(new ExportProgress(cardsWritten, totalCards, bytesWritten, System.nanoTime() - startNanos));
+        
+        ExportResult result = new ExportResult(file, format, cardsWritten, bytesWritten, false);
+        logger.info("Export completed: {}", result.getSummary());
+        return result;
+    }
+
+    private void deletePartial(Path partial) {
+        try {
+            Files.deleteIfExists(partial);
+        } catch (IOException e) {
+            logger.warn("Failed to delete partial export: {}", partial, e);
+        }
+    }
+
+    private CardWriter openCardWriter(ExportFormat format, Writer writer) throws IOException {
+        return switch (format) {
+            case BLOCK -> new BlockCardWriter(writer);
+            case CSV -> new CsvCardWriter(writer);
+            case NDJSON -> new NdjsonCardWriter(writer);
+        };
+    }
+
+    /**
+     * Writes cards in one format.
+     */
+    private interface CardWriter {
+        void write(Flashcard card) throws IOException;
+        
+        default void finish() throws IOException { }
+    }
+
+    /**
+     * Writes the import block format. Multi-line values round-trip as long as no line inside
+     * them starts with a field prefix or "---"; CSV and NDJSON have no such restriction.
+     */
+    private static final class BlockCardWriter implements CardWriter {
+        private final Writer writer;
+        
+        BlockCardWriter(Writer writer) {
+            this.writer = writer;
+        }
+        
+        @Override
+        public void write(Flashcard card) throws IOException {
+            writeField(CardFields.QUESTION_PREFIX, card.getQuestion());
+            writeField(CardFields.ANSWER_PREFIX, card.getAnswer());
+            writeField(CardFields.DIFFICULTY_PREFIX, card.getDifficulty().getDisplayName());
+            writeField(CardFields.CATEGORY_PREFIX, card.getCategory());
+            if (!card.getTags().isEmpty()) {
+                writeField(CardFields.TAGS_PREFIX, String.join(", ", card.getTags()));
+            }
+            writer.write("---\n");
+        }
+        
+        private void writeField(String prefix, String value) throws IOException {
+            writer.write(prefix);
+            writer.write(' ');
+            writer.write(value);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Writes CSV with the importer's default column order and RFC 4180 quoting.
+     */
+    private static final class CsvCardWriter implements CardWriter {
+        private final Writer writer;
+        
+        CsvCardWriter(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        @Override
+        public void write(Flashcard card) throws IOException {
+            writeCell(card.getQuestion());
+            writer.write(',');
+            writeCell(card.getAnswer());
+            writer.write(',');
+            writeCell(card.getDifficulty().getDisplayName());
+            writer.write(',');
+            writeCell(card.getCategory());
+            writer.write(',');
+            writeCell(String.join(", ", card.getTags()));
+            writer.write('\n');
+        }
+        
+        private void writeCell(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+
+    /**
+     * Writes one JSON object per line through a streaming generator.
+     */
+    private static final class NdjsonCardWriter implements CardWriter {
+        private final JsonGenerator generator;
+        
+        NdjsonCardWriter(Writer writer) throws IOException {
+            this.generator = new JsonFactory().createGenerator(writer);
+            // The writer is closed by the caller; the generator must not close it early
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+        }
+        
+        @Override
+        public void write(Flashcard card) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", card.getId());
+            generator.writeStringField("question", card.getQuestion());
+            generator.writeStringField("answer", card.getAnswer());
+            generator.writeStringField("category", card.getCategory());
+            generator.writeStringField("difficulty", card.getDifficulty().name());
+            generator.writeArrayFieldStart("tags");
+            for (String tag : card.getTags()) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+            generator.writeStringField("dateCreated", card.getDateCreated().toString());
+            generator.writeNumberField("timesAsked", card.getTimesAsked());
+            generator.writeNumberField("timesCorrect", card.getTimesCorrect());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
@@ -5,16 +5,25 @@ import com.flashquest.model.Flashcard;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Service for importing flashcards from text files.
@@ -23,18 +32,82 @@ import java.util.stream.Collectors;
 public class FlashcardImportService {
     private static final Logger logger = LoggerFactory.getLogger(FlashcardImportService.class);
     
-    private static final String CARD_SEPARATOR = "---";
-    private static final String QUESTION_PREFIX = "QUESTION:";
-    private static final String ANSWER_PREFIX = "ANSWER:";
-    private static final String DIFFICULTY_PREFIX = "DIFFICULTY:";
-    private static final String CATEGORY_PREFIX = "CATEGORY:";
-    private static final String TAGS_PREFIX = "TAGS:";
-    
     private static final int MIN_QUESTION_LENGTH = 3;
     private static final int MIN_ANSWER_LENGTH = 1;
     private static final int MAX_CATEGORY_LENGTH = 50;
-    private static final int MAX_TAG_LENGTH = 30;
-    private static final int MAX_TAGS_PER_CARD = 20;
+    private static final int PARSE_BATCH_SIZE = 256;
+    private static final long MAPPED_IMPORT_THRESHOLD = 16L * 1024 * 1024;
+
+    private final Executor parseExecutor;
+    private final int maxBatchesInFlight;
+    private final long mappedImportThreshold;
+    private NearDuplicateIndex nearDuplicateIndex;
+    private double nearDuplicateThreshold = NearDuplicateIndex.DEFAULT_THRESHOLD;
+    private int resumeAfterCard;
+    private String cardIdSeed;
+    private boolean retainImportedCards = true;
+
+    /**
+     * Creates an import service that parses on the common fork-join pool.
+     */
+    public FlashcardImportService() {
+        this(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Creates an import service that parses on the given executor.
+     *
+     * @param parseExecutor Executor for the parse and validate stage
+     * @param parallelism Number of threads the executor can use, sizes the read-ahead window
+     */
+    public FlashcardImportService(Executor parseExecutor, int parallelism) {
+        this(parseExecutor, parallelism, MAPPED_IMPORT_THRESHOLD);
+    }
+
+    FlashcardImportService(Executor parseExecutor, int parallelism, long mappedImportThreshold) {
+        this.parseExecutor = parseExecutor;
+        this.maxBatchesInFlight = Math.max(2, parallelism * 4);
+        this.mappedImportThreshold = mappedImportThreshold;
+    }
+
+    /**
+     * Enables near-duplicate detection against an index of the existing deck.
+     * Suspected near-duplicates are still imported, but reported in the result.
+     *
+     * @param index Index of the existing deck, or null to disable detection
+     * @param threshold Minimum estimated similarity to report, between 0 and 1
+     */
+    public void setNearDuplicateIndex(NearDuplicateIndex index, double threshold) {
+        this.nearDuplicateIndex = index;
+        this.nearDuplicateThreshold = threshold;
+    }
+
+    /**
+     * Skips every section up to and including the given card number, to resume an interrupted import.
+     * Skipped sections are neither parsed nor counted in the result.
+     */
+    public void setResumeAfterCard(int cardNumber) {
+        this.resumeAfterCard = cardNumber;
+    }
+
+    /**
+     * Derives card ids from a seed and the card number instead of generating random ones,
+     * so importing the same source again produces the same ids.
+     *
+     * @param seed Identifies the import source, or null for random ids
+     */
+    public void setCardIdSeed(String seed) {
+        this.cardIdSeed = seed;
+    }
+
+    /**
+     * Sets whether accepted cards are collected into the result. A caller that stores each card
+     * from its listener can turn this off, so a large import doesn't hold the whole file in memory;
+     * the result's imported cards are then empty, but its counts are unchanged.
+     */
+    public void setRetainImportedCards(boolean retain) {
+        this.retainImportedCards = retain;
+    }
 
     /**
      * Result of an import operation containing success/failure statistics and details.
@@ -46,15 +119,32 @@ public class FlashcardImportService {
         private final int failedImports;
         private final List<String> errorMessages;
         private final List<Flashcard> importedCards;
+        private final List<SuspectedDuplicate> suspectedDuplicates;
+        private final boolean cancelled;
 
         public ImportResult(int totalCards, int successfulImports, int skippedDuplicates, 
                           int failedImports, List<String> errorMessages, List<Flashcard> importedCards) {
+            this(totalCards, successfulImports, skippedDuplicates, failedImports, errorMessages, importedCards, false);
+        }
+
+        public ImportResult(int totalCards, int successfulImports, int skippedDuplicates, 
+                          int failedImports, List<String> errorMessages, List<Flashcard> importedCards,
+                          boolean cancelled) {
+            this(totalCards, successfulImports, skippedDuplicates, failedImports, errorMessages, importedCards,
+                List.of(), cancelled);
+        }
+
+        public ImportResult(int totalCards, int successfulImports, int skippedDuplicates, 
+                          int failedImports, List<String> errorMessages, List<Flashcard> importedCards,
+                          List<SuspectedDuplicate> suspectedDuplicates, boolean cancelled) {
             this.totalCards = totalCards;
             this.successfulImports = successfulImports;
             this.skippedDuplicates = skippedDuplicates;
             this.failedImports = failedImports;
             this.errorMessages = new ArrayList<>(errorMessages);
             this.importedCards = new ArrayList<>(importedCards);
+            this.suspectedDuplicates = new ArrayList<>(suspectedDuplicates);
+            this.cancelled = cancelled;
         }
 
         // Getters
@@ -64,17 +154,160 @@ public class FlashcardImportService {
         public int getFailedImports() { return failedImports; }
         public List<String> getErrorMessages() { return new ArrayList<>(errorMessages); }
         public List<Flashcard> getImportedCards() { return new ArrayList<>(importedCards); }
+        public List<SuspectedDuplicate> getSuspectedDuplicates() { return new ArrayList<>(suspectedDuplicates); }
+        public boolean isCancelled() { return cancelled; }
 
         public boolean isSuccessful() {
-            return successfulImports > 0 || (totalCards == 0 && failedImports == 0);
+            return !cancelled && successfulImports > 0 || (totalCards == 0 && failedImports == 0);
         }
 
         public String getSummary() {
-            return String.format("Import Results: %d total, %d imported, %d duplicates skipped, %d failed",
-                totalCards, successfulImports, skippedDuplicates, failedImports);
+            String nearDuplicates = suspectedDuplicates.isEmpty() ? ""
+                : String.format(", %d suspected near-duplicates", suspectedDuplicates.size());
+            return String.format("Import Results: %d total, %d imported, %d duplicates skipped, %d failed%s%s",
+                totalCards, successfulImports, skippedDuplicates, failedImports, nearDuplicates,
+                cancelled ? " (cancelled)" : "");
+        }
+    }
+
+    /**
+     * An imported card whose question closely resembles an existing or earlier imported one.
+     */
+    public static class SuspectedDuplicate {
+        private final int cardNumber;
+        private final String question;
+        private final String similarQuestion;
+        private final double similarity;
+
+        public SuspectedDuplicate(int cardNumber, String question, String similarQuestion, double similarity) {
+            this.cardNumber = cardNumber;
+            this.question = question;
+            this.similarQuestion = similarQuestion;
+            this.similarity = similarity;
+        }
+
+        public int getCardNumber() { return cardNumber; }
+        public String getQuestion() { return question; }
+        public String getSimilarQuestion() { return similarQuestion; }
+        public double getSimilarity() { return similarity; }
+
+        @Override
+        public String toString() {
+            return String.format("Card %d: \"%s\" is %.0f%% similar to \"%s\"", cardNumber,
+                question, similarity * 100, similarQuestion);
         }
     }
 
+    /**
+     * Result of a validation (dry-run) pass over an import file.
+     * The individual findings are in the report file; this holds the totals.
+     */
+    public static class ValidationReport {
+        private final File reportFile;
+        private final int totalCards;
+        private final int rejectedCards;
+        private final Map<ValidationIssue, Integer> issueCounts;
+        private final boolean cancelled;
+
+        public ValidationReport(File reportFile, int totalCards, int rejectedCards,
+                                Map<ValidationIssue, Integer> issueCounts, boolean cancelled) {
+            this.reportFile = reportFile;
+            this.totalCards = totalCards;
+            this.rejectedCards = rejectedCards;
+            this.issueCounts = new EnumMap<>(ValidationIssue.class);
+            this.issueCounts.putAll(issueCounts);
+            this.cancelled = cancelled;
+        }
+
+        public File getReportFile() { return reportFile; }
+        public int getTotalCards() { return totalCards; }
+        public int getRejectedCards() { return rejectedCards; }
+        public int getValidCards() { return totalCards - rejectedCards; }
+        public Map<ValidationIssue, Integer> getIssueCounts() { return new EnumMap<>(issueCounts); }
+        public int getIssueCount(ValidationIssue issue) { return issueCounts.getOrDefault(issue, 0); }
+        public boolean isCancelled() { return cancelled; }
+
+        public boolean hasErrors() {
+            return rejectedCards > 0 || getIssueCount(ValidationIssue.READ_FAILURE) > 0;
+        }
+
+        public String getSummary() {
+            StringBuilder summary = new StringBuilder(String.format(
+                "Validation Results: %d total, %d valid, %d rejected", totalCards, getValidCards(), rejectedCards));
+            issueCounts.forEach((issue, count) ->
+                summary.append(String.format(", %d %s", count, issue.getDescription().toLowerCase())));
+            if (cancelled) {
+                summary.append(" (cancelled)");
+            }
+            return summary.toString();
+        }
+    }
+
+    /**
+     * Snapshot of a running import's progress.
+     */
+    public static class ImportProgress {
+        private final long bytesRead;
+        private final long totalBytes;
+        private final int cardsParsed;
+        private final long elapsedNanos;
+
+        public ImportProgress(long bytesRead, long totalBytes, int cardsParsed, long elapsedNanos) {
+            this.bytesRead = bytesRead;
+            this.totalBytes = totalBytes;
+            this.cardsParsed = cardsParsed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public long getBytesRead() { return bytesRead; }
+        public long getTotalBytes() { return totalBytes; }
+        public int getCardsParsed() { return cardsParsed; }
+        public long getElapsedNanos() { return elapsedNanos; }
+
+        public double getCardsPerSecond() {
+            return elapsedNanos > 0 ? cardsParsed * 1_000_000_000.0 / elapsedNanos : 0.0;
+        }
+
+        public double getBytesPerSecond() {
+            return elapsedNanos > 0 ? bytesRead * 1_000_000_000.0 / elapsedNanos : 0.0;
+        }
+
+        /**
+         * Estimates the remaining time from the byte rate so far.
+         * @return seconds remaining, or -1 if unknown
+         */
+        public double getEtaSeconds() {
+            double rate = getBytesPerSecond();
+            if (rate <= 0 || totalBytes <= 0) return -1;
+            return Math.max(0, totalBytes - bytesRead) / rate;
+        }
+    }
+
+    /**
+     * Callbacks for a running import. All methods are called on the importing thread.
+     */
+    public interface ImportListener {
+        /**
+         * Called with each accepted card, in file order, as soon as it is merged.
+         */
+        default void onCardAccepted(Flashcard card) { }
+
+        /**
+         * Called with each accepted card and its number in the file. Defaults to {@link #onCardAccepted(Flashcard)}.
+         */
+        default void onCardAccepted(int cardNumber, Flashcard card) { onCardAccepted(card); }
+
+        /**
+         * Called after every merged batch and once at the end.
+         */
+        default void onProgress(ImportProgress progress) { }
+
+        /**
+         * Polled between sections; returning true stops the import.
+         */
+        default boolean isCancelled() { return false; }
+    }
+
     /**
      * Imports flashcards from a text file.
      * 
@@ -83,190 +316,199 @@ public class FlashcardImportService {
      * @return ImportResult containing statistics and imported cards
      */
     public ImportResult importFromFile(File file, Set<String> existingCards) {
+        return importFromFile(file, existingCards, new ImportListener() { });
+    }
+
+    /**
+     * Imports flashcards from a file, streaming it one card section at a time.
+     * The format (FlashQuest blocks, CSV, TSV or Anki text export) is detected from the file.
+     * Sections are parsed and validated in parallel batches; duplicate checks, numbering and
+     * error messages are applied in file order, so results match a sequential import.
+     * 
+     * @param file The text file to import from
+     * @param existingCards Set of existing flashcard questions to check for duplicates
+     * @param listener Receives accepted cards and progress, and can cancel the import
+     * @return ImportResult containing statistics and imported cards, flagged as cancelled if stopped early
+     */
+    public ImportResult importFromFile(File file, Set<String> existingCards, ImportListener listener) {
         logger.info("Starting import from file: {}", file.getAbsolutePath());
         
-        List<String> errorMessages = new ArrayList<>();
-        List<Flashcard> importedCards = new ArrayList<>();
-        int successfulImports = 0;
-        int skippedDuplicates = 0;
-        int failedImports = 0;
+        ImportTally tally = new ImportTally(existingCards, listener);
+        if (runPipeline(file, tally, listener)) {
+            logger.info("Import cancelled after {} cards", tally.getCardsProcessed());
+            return tally.toResult(true);
+        }
+        
+        ImportResult result = tally.toResult(false);
+        logger.info("Import completed: {}", result.getSummary());
+        return result;
+    }
 
-        try {
-            String content = readFileContent(file);
-            List<String> cardSections = parseCardSections(content);
+    /**
+     * Validates a file without importing anything (a dry run). Sections go through the same parallel
+     * parsing, validation and duplicate checks as a real import, but nothing is kept per card: each
+     * finding is streamed to the report file with its line and card number, and only totals per
+     * issue type stay in memory. Neither the existing cards nor the near-duplicate index are changed,
+     * and the listener's onCardAccepted is never called.
+     *
+     * Near-duplicates are only checked against the existing deck, not between cards of the file.
+     *
+     * @param file The file to validate
+     * @param existingCards Set of existing flashcard questions to check for duplicates, left unchanged
+     * @param reportFile File the findings are written to, as tab-separated lines
+     * @param listener Receives progress and can cancel the validation
+     * @return ValidationReport with the totals, flagged as cancelled if stopped early
+     */
+    public ValidationReport validateFile(File file, Set<String> existingCards, File reportFile,
+                                         ImportListener listener) {
+        logger.info("Validating import file: {}", file.getAbsolutePath());
+        
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+            ValidationTally tally = new ValidationTally(existingCards, writer);
+            tally.writeHeader(file);
+            boolean cancelled = runPipeline(file, tally, listener);
+            
+            ValidationReport report = tally.toReport(reportFile, cancelled);
+            tally.writeFooter(report);
+            logger.info("Validation completed: {}", report.getSummary());
+            return report;
             
-            logger.info("Found {} potential flashcards in file", cardSections.size());
+        } catch (IOException | UncheckedIOException e) {
+            logger.error("Failed to write validation report: {}", reportFile.getAbsolutePath(), e);
+            throw new RuntimeException("Failed to write validation report", e);
+        }
+    }
 
-            for (int i = 0; i < cardSections.size(); i++) {
-                String section = cardSections.get(i);
-                int cardNumber = i + 1;
+    /**
+     * Streams a file's sections through the parallel parse stage into a merge stage, in file order.
+     *
+     * @return true if the listener cancelled before the end of the file
+     */
+    private boolean runPipeline(File file, MergeStage stage, ImportListener listener) {
+        long startNanos = System.nanoTime();
+        long totalBytes = file.length();
+        Deque<CompletableFuture<List<ParsedSection>>> inFlight = new ArrayDeque<>();
+        List<ImportSection> batch = new ArrayList<>(PARSE_BATCH_SIZE);
+        IOException readFailure = null;
+        long bytesRead = 0;
+        long linesRead = 0;
+        boolean cancelled = false;
+
+        try (SectionSource sections = openSections(file, totalBytes)) {
+            ImportSection section;
+            while ((section = sections.next()) != null) {
+                if (listener.isCancelled() || Thread.currentThread().isInterrupted()) {
+                    cancelled = true;
+                    break;
+                }
+                linesRead = section.getLineNumber();
+                if (section.getCardNumber() <= resumeAfterCard) continue;
                 
-                try {
-                    Flashcard card = parseFlashcard(section, cardNumber);
-                    
-                    // Check for duplicate
-                    if (existingCards.contains(card.getQuestion().toLowerCase().trim())) {
-                        logger.debug("Skipping duplicate card {}: {}", cardNumber, 
-                            truncateText(card.getQuestion(), 50));
-                        skippedDuplicates++;
-                        errorMessages.add(String.format("Card %d: Duplicate question skipped - \"%s\"", 
-                            cardNumber, truncateText(card.getQuestion(), 50)));
-                        continue;
-                    }
-                    
-                    // Add to results
-                    importedCards.add(card);
-                    existingCards.add(card.getQuestion().toLowerCase().trim());
-                    successfulImports++;
-                    
-                    logger.debug("Successfully imported card {}: {}", cardNumber, 
-                        truncateText(card.getQuestion(), 50));
-                        
-                } catch (Exception e) {
-                    failedImports++;
-                    String errorMsg = String.format("Card %d: %s", cardNumber, e.getMessage());
-                    errorMessages.add(errorMsg);
-                    logger.warn("Failed to import card {}: {}", cardNumber, e.getMessage());
+                batch.add(section);
+                if (batch.size() < PARSE_BATCH_SIZE) continue;
+                
+                inFlight.add(parseBatchAsync(batch));
+                batch = new ArrayList<>(PARSE_BATCH_SIZE);
+                
+                // Bound the read-ahead so memory stays flat on huge files
+                if (inFlight.size() >= maxBatchesInFlight) {
+                    mergeAll(stage, inFlight.poll().join());
+                    listener.onProgress(new ImportProgress(sections.getBytesRead(), totalBytes,
+                        stage.getCardsProcessed(), System.nanoTime() - startNanos));
                 }
             }
+            
+            bytesRead = sections.getBytesRead();
+            logger.info("Read {} lines from file", sections.getLineNumber());
 
         } catch (IOException e) {
-            failedImports++;
-            String errorMsg = "Failed to read file: " + e.getMessage();
-            errorMessages.add(errorMsg);
+            readFailure = e;
             logger.error("IOException while importing from file: {}", file.getAbsolutePath(), e);
         }
 
-        int totalCards = successfulImports + skippedDuplicates + failedImports;
-        ImportResult result = new ImportResult(totalCards, successfulImports, skippedDuplicates, 
-                                             failedImports, errorMessages, importedCards);
+        if (cancelled) {
+            // Callers only commit finished results, so dropping the pending work leaves no partial adds
+            inFlight.forEach(pending -> pending.cancel(false));
+            return true;
+        }
         
-        logger.info("Import completed: {}", result.getSummary());
-        return result;
+        // Merge whatever was read before the end of the file (or a read failure), in order
+        if (!batch.isEmpty()) {
+            inFlight.add(parseBatchAsync(batch));
+        }
+        while (!inFlight.isEmpty()) {
+            mergeAll(stage, inFlight.poll().join());
+        }
+        if (readFailure != null) {
+            stage.recordReadFailure(readFailure, linesRead);
+        }
+        listener.onProgress(new ImportProgress(bytesRead, totalBytes,
+            stage.getCardsProcessed(), System.nanoTime() - startNanos));
+        return false;
     }
-
-    /**
-     * Reads the entire content of a file as UTF-8 text.
-     */
-    private String readFileContent(File file) throws IOException {
-        StringBuilder content = new StringBuilder();
         
-        try (BufferedReader reader = new BufferedReader(
-                new FileReader(file, StandardCharsets.UTF_8))) {
-            
-            String line;
-            while ((line = reader.readLine()) != null) {
-                content.append(line).append("\n");
-            }
+    private static void mergeAll(MergeStage stage, List<ParsedSection> parsedSections) {
+        for (ParsedSection parsed : parsedSections) {
+            stage.merge(parsed);
         }
-        
-        return content.toString();
     }
 
     /**
-     * Parses the file content into individual card sections separated by "---".
+     * Opens the section source for a file's detected format. Large block-format files are scanned
+     * through a memory mapping, smaller ones through a buffered reader; both produce identical sections.
      */
-    private List<String> parseCardSections(String content) {
-        List<String> sections = new ArrayList<>();
-        
-        String[] parts = content.split("(?m)^" + CARD_SEPARATOR + "\\s*$");
-        
-        for (String part : parts) {
-            String trimmed = part.trim();
-            if (!trimmed.isEmpty()) {
-                sections.add(trimmed);
-            }
+    private SectionSource openSections(File file, long fileSize) throws IOException {
+        ImportFormat format = ImportFormat.detect(file);
+        if (format != ImportFormat.BLOCK) {
+            logger.info("Reading {} as {}", file.getName(), format.getDisplayName());
+            return DelimitedSectionReader.open(file, format);
         }
-        
-        return sections;
+        if (fileSize >= mappedImportThreshold) {
+            logger.info("Scanning {} MB import file through a memory mapping", fileSize >> 20);
+            return MappedSectionScanner.open(file);
+        }
+        return CardSectionReader.open(file);
     }
 
     /**
-     * Parses a single flashcard section into a Flashcard object.
+     * Parses and validates a batch of sections on the parse executor.
      */
-    private Flashcard parseFlashcard(String section, int cardNumber) throws Exception {
-        String[] lines = section.split("\n");
-        
-        StringBuilder currentContent = new StringBuilder();
-        String currentField = null;
-        
-        String question = null;
-        String answer = null;
-        String difficulty = null;
-        String category = null;
-        String tags = null;
-
-        for (String line : lines) {
-            String trimmedLine = line.trim();
-            
-            // Skip empty lines
-            if (trimmedLine.isEmpty()) {
-                if (currentField != null) {
-                    currentContent.append("\n");
-                }
-                continue;
-            }
-
-            // Check if this line starts a new field
-            String newField = null;
-            if (trimmedLine.startsWith(QUESTION_PREFIX)) {
-                newField = "QUESTION";
-                trimmedLine = trimmedLine.substring(QUESTION_PREFIX.length()).trim();
-            } else if (trimmedLine.startsWith(ANSWER_PREFIX)) {
-                newField = "ANSWER";
-                trimmedLine = trimmedLine.substring(ANSWER_PREFIX.length()).trim();
-            } else if (trimmedLine.startsWith(DIFFICULTY_PREFIX)) {
-                newField = "DIFFICULTY";
-                trimmedLine = trimmedLine.substring(DIFFICULTY_PREFIX.length()).trim();
-            } else if (trimmedLine.startsWith(CATEGORY_PREFIX)) {
-                newField = "CATEGORY";
-                trimmedLine = trimmedLine.substring(CATEGORY_PREFIX.length()).trim();
-            } else if (trimmedLine.startsWith(TAGS_PREFIX)) {
-                newField = "TAGS";
-                trimmedLine = trimmedLine.substring(TAGS_PREFIX.length()).trim();
-            }
-
-            // Save previous field content
-            if (newField != null && currentField != null) {
-                saveFieldContent(currentField, currentContent.toString().trim(), 
-                               cardNumber, question, answer, difficulty, category, tags);
-                
-                // Update references based on current field
-                switch (currentField) {
-                    case "QUESTION": question = currentContent.toString().trim(); break;
-                    case "ANSWER": answer = currentContent.toString().trim(); break;
-                    case "DIFFICULTY": difficulty = currentContent.toString().trim(); break;
-                    case "CATEGORY": category = currentContent.toString().trim(); break;
-                    case "TAGS": tags = currentContent.toString().trim(); break;
-                }
-                
-                currentContent.setLength(0);
-            }
-
-            // Start new field or continue current field
-            if (newField != null) {
-                currentField = newField;
-                if (!trimmedLine.isEmpty()) {
-                    currentContent.append(trimmedLine);
-                }
-            } else if (currentField != null) {
-                if (currentContent.length() > 0) {
-                    currentContent.append("\n");
+    private CompletableFuture<List<ParsedSection>> parseBatchAsync(List<ImportSection> batch) {
+        boolean computeSignatures = nearDuplicateIndex != null;
+        return CompletableFuture.supplyAsync(() -> {
+            List<ParsedSection> parsed = new ArrayList<>(batch.size());
+            for (ImportSection section : batch) {
+                int cardNumber = section.getCardNumber();
+                long lineNumber = section.getLineNumber();
+                List<Finding> warnings = new ArrayList<>(0);
+                try {
+                    Flashcard card = parseFlashcard(section, warnings);
+                    // MinHash signatures are the costly part of the near-duplicate check, so compute them here in parallel
+                    int[] signature = computeSignatures ? NearDuplicateIndex.signatureOf(card.getQuestion()) : null;
+                    parsed.add(new ParsedSection(cardNumber, lineNumber, card, signature, warnings, null));
+                } catch (CardValidationException e) {
+                    parsed.add(new ParsedSection(cardNumber, lineNumber, null, null, warnings,
+                        new Finding(e.getIssue(), e.getMessage())));
+                } catch (Exception e) {
+                    parsed.add(new ParsedSection(cardNumber, lineNumber, null, null, warnings,
+                        new Finding(ValidationIssue.MALFORMED_SECTION, e.getMessage())));
                 }
-                currentContent.append(trimmedLine);
             }
-        }
+            return parsed;
+        }, parseExecutor);
+    }
 
-        // Save the last field
-        if (currentField != null) {
-            switch (currentField) {
-                case "QUESTION": question = currentContent.toString().trim(); break;
-                case "ANSWER": answer = currentContent.toString().trim(); break;
-                case "DIFFICULTY": difficulty = currentContent.toString().trim(); break;
-                case "CATEGORY": category = currentContent.toString().trim(); break;
-                case "TAGS": tags = currentContent.toString().trim(); break;
-            }
-        }
+    /**
+     * Parses a single flashcard section into a Flashcard object.
+     */
+    private Flashcard parseFlashcard(ImportSection section, List<Finding> warnings) throws Exception {
+        CardFields fields = section.parseFields();
+        int cardNumber = section.getCardNumber();
+        String question = fields.getQuestion();
+        String answer = fields.getAnswer();
+        String difficulty = fields.getDifficulty();
+        String category = fields.getCategory();
+        String tags = fields.getTags();
 
         // Validate required fields
         validateFlashcardFields(question, answer, difficulty, category, cardNumber);
@@ -277,67 +519,356 @@ public class FlashcardImportService {
             difficultyLevel = DifficultyLevel.valueOf(difficulty.toUpperCase());
         } catch (IllegalArgumentException e) {
             logger.warn("Invalid difficulty '{}' for card {}, defaulting to MEDIUM", difficulty, cardNumber);
+            warnings.add(new Finding(ValidationIssue.UNKNOWN_DIFFICULTY, "Unknown difficulty \"" + difficulty + "\""));
             difficultyLevel = DifficultyLevel.MEDIUM;
         }
 
         // Parse tags
-        List<String> tagList = new ArrayList<>();
-        if (tags != null && !tags.isEmpty()) {
-            tagList = Arrays.stream(tags.split(","))
-                    .map(String::trim)
-                    .filter(tag -> !tag.isEmpty())
-                    .limit(MAX_TAGS_PER_CARD)
-                    .collect(Collectors.toList());
-
-            // Validate tag lengths
-            tagList = tagList.stream()
-                    .map(tag -> tag.length() > MAX_TAG_LENGTH ? 
-                         tag.substring(0, MAX_TAG_LENGTH) : tag)
-                    .collect(Collectors.toList());
-        }
+        List<String> tagList = Flashcard.parseTags(tags);
 
         // Validate and truncate category if necessary
         if (category.length() > MAX_CATEGORY_LENGTH) {
+            warnings.add(new Finding(ValidationIssue.CATEGORY_TRUNCATED, String.format(
+                "Category of %d characters truncated to %d", category.length(), MAX_CATEGORY_LENGTH)));
             category = category.substring(0, MAX_CATEGORY_LENGTH);
             logger.warn("Category truncated to {} characters for card {}", MAX_CATEGORY_LENGTH, cardNumber);
         }
 
-        // Create and return the flashcard (note: current Flashcard model doesn't support tags)
-        // For now, we'll ignore tags and create a basic flashcard
-        return new Flashcard(question, answer, category, difficultyLevel);
-    }
-
-    /**
-     * Helper method to save field content (placeholder for future use).
-     */
-    private void saveFieldContent(String field, String content, int cardNumber, 
-                                String question, String answer, String difficulty, 
-                                String category, String tags) {
-        // This method is currently unused but kept for potential future enhancements
+        if (cardIdSeed != null) {
+            String id = UUID.nameUUIDFromBytes((cardIdSeed + "#" + cardNumber).getBytes(StandardCharsets.UTF_8)).toString();
+            return new Flashcard(id, question, answer, category, difficultyLevel, LocalDateTime.now(), 0, 0, tagList);
+        }
+        Flashcard card = new Flashcard(question, answer, category, difficultyLevel);
+        card.setTags(tagList);
+        return card;
     }
 
     /**
      * Validates that all required fields are present and meet minimum requirements.
      */
     private void validateFlashcardFields(String question, String answer, String difficulty, 
-                                       String category, int cardNumber) throws Exception {
+                                       String category, int cardNumber) throws CardValidationException {
         
         if (question == null || question.trim().length() < MIN_QUESTION_LENGTH) {
-            throw new Exception(String.format("Question is missing or too short (minimum %d characters)", 
-                MIN_QUESTION_LENGTH));
+            throw new CardValidationException(ValidationIssue.QUESTION_TOO_SHORT, String.format(
+                "Question is missing or too short (minimum %d characters)", MIN_QUESTION_LENGTH));
         }
 
         if (answer == null || answer.trim().length() < MIN_ANSWER_LENGTH) {
-            throw new Exception(String.format("Answer is missing or too short (minimum %d characters)", 
-                MIN_ANSWER_LENGTH));
+            throw new CardValidationException(ValidationIssue.ANSWER_MISSING, String.format(
+                "Answer is missing or too short (minimum %d characters)", MIN_ANSWER_LENGTH));
         }
 
         if (difficulty == null || difficulty.trim().isEmpty()) {
-            throw new Exception("Difficulty level is missing");
+            throw new CardValidationException(ValidationIssue.DIFFICULTY_MISSING, "Difficulty level is missing");
         }
 
         if (category == null || category.trim().isEmpty()) {
-            throw new Exception("Category is missing");
+            throw new CardValidationException(ValidationIssue.CATEGORY_MISSING, "Category is missing");
+        }
+    }
+
+    /**
+     * A card that fails validation, tagged with the kind of problem.
+     */
+    private static final class CardValidationException extends Exception {
+        private static final long serialVersionUID = 1L;
+        
+        private final ValidationIssue issue;
+        
+        CardValidationException(ValidationIssue issue, String message) {
+            super(message);
+            this.issue = issue;
+        }
+        
+        ValidationIssue getIssue() { return issue; }
+    }
+
+    /**
+     * One problem found in a section.
+     */
+    private record Finding(ValidationIssue issue, String detail) { }
+
+    /**
+     * Outcome of parsing one section: either a card, with its MinHash signature when
+     * near-duplicate detection is on, or the error that rejected it. Warnings are kept either way.
+     */
+    private static final class ParsedSection {
+        private final int cardNumber;
+        private final long lineNumber;
+        private final Flashcard card;
+        private final int[] signature;
+        private final List<Finding> warnings;
+        private final Finding error;
+        
+        ParsedSection(int cardNumber, long lineNumber, Flashcard card, int[] signature,
+                      List<Finding> warnings, Finding error) {
+            this.cardNumber = cardNumber;
+            this.lineNumber = lineNumber;
+            this.card = card;
+            this.signature = signature;
+            this.warnings = warnings;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Consumes parsed sections in file order. Only ever used from the importing thread.
+     */
+    private interface MergeStage {
+        void merge(ParsedSection parsed);
+        
+        void recordReadFailure(IOException e, long lineNumber);
+        
+        int getCardsProcessed();
+    }
+
+    /**
+     * Ordered merge stage: applies duplicate checks and collects results in card order.
+     */
+    private final class ImportTally implements MergeStage {
+        private final Set<String> existingCards;
+        private final ImportListener listener;
+        private final List<String> errorMessages = new ArrayList<>();
+        private final List<Flashcard> importedCards = new ArrayList<>();
+        private final List<SuspectedDuplicate> suspectedDuplicates = new ArrayList<>();
+        // Cards accepted so far in this import, so near-duplicates within the file are caught too
+        private final NearDuplicateIndex importedIndex = new NearDuplicateIndex();
+        private int successfulImports;
+        private int skippedDuplicates;
+        private int failedImports;
+        
+        ImportTally(Set<String> existingCards, ImportListener listener) {
+            this.existingCards = existingCards;
+            this.listener = listener;
+        }
+        
+        @Override
+        public void merge(ParsedSection parsed) {
+            int cardNumber = parsed.cardNumber;
+            if (parsed.card == null) {
+                failedImports++;
+                String errorMsg = String.format("Card %d: %s", cardNumber, parsed.error.detail());
+                errorMessages.add(errorMsg);
+                logger.warn("Failed to import card {}: {}", cardNumber, parsed.error.detail());
+                return;
+            }
+            
+            Flashcard card = parsed.card;
+            String questionKey = card.getQuestion().toLowerCase().trim();
+            
+            // Check for duplicate
+            if (existingCards.contains(questionKey)) {
+                logger.debug("Skipping duplicate card {}: {}", cardNumber, 
+                    truncateText(card.getQuestion(), 50));
+                skippedDuplicates++;
+                errorMessages.add(String.format("Card %d: Duplicate question skipped - \"%s\"", 
+                    cardNumber, truncateText(card.getQuestion(), 50)));
+                return;
+            }
+            
+            if (parsed.signature != null) {
+                checkNearDuplicate(cardNumber, card, parsed.signature);
+            }
+            
+            // Add to results
+            if (retainImportedCards) {
+                importedCards.add(card);
+            }
+            existingCards.add(questionKey);
+            successfulImports++;
+            listener.onCardAccepted(cardNumber, card);
+            
+            logger.debug("Successfully imported card {}: {}", cardNumber, 
+                truncateText(card.getQuestion(), 50));
+        }
+        
+        /**
+         * Reports the closest match from the deck or this import, then indexes the card.
+         */
+        private void checkNearDuplicate(int cardNumber, Flashcard card, int[] signature) {
+            NearDuplicateIndex.Match match = nearDuplicateIndex.findBestMatch(signature, nearDuplicateThreshold);
+            NearDuplicateIndex.Match importedMatch = importedIndex.findBestMatch(signature, nearDuplicateThreshold);
+            if (match == null || importedMatch != null && importedMatch.getSimilarity() > match.getSimilarity()) {
+                match = importedMatch;
+            }
+            importedIndex.add(card, signature);
+            
+            if (match != null) {
+                logger.debug("Card {} looks like a near-duplicate ({} similar): {}", cardNumber,
+                    String.format("%.2f", match.getSimilarity()), truncateText(card.getQuestion(), 50));
+                suspectedDuplicates.add(new SuspectedDuplicate(cardNumber, card.getQuestion(),
+                    match.getCard().getQuestion(), match.getSimilarity()));
+            }
+        }
+        
+        @Override
+        public void recordReadFailure(IOException e, long lineNumber) {
+            failedImports++;
+            errorMessages.add("Failed to read file: " + e.getMessage());
+        }
+        
+        @Override
+        public int getCardsProcessed() {
+            return successfulImports + skippedDuplicates + failedImports;
+        }
+
+        ImportResult toResult(boolean cancelled) {
+            return new ImportResult(getCardsProcessed(), successfulImports, skippedDuplicates, 
+                                    failedImports, errorMessages, importedCards, suspectedDuplicates, cancelled);
+        }
+    }
+
+    /**
+     * Dry-run merge stage: writes each finding to the report and keeps only counts.
+     * Questions seen in the file are remembered as 64-bit hashes, so memory stays small on huge files.
+     */
+    private final class ValidationTally implements MergeStage {
+        private final Set<String> existingCards;
+        private final Writer report;
+        private final QuestionHashSet seenQuestions = new QuestionHashSet();
+        private final Map<ValidationIssue, Integer> issueCounts = new EnumMap<>(ValidationIssue.class);
+        private int cardsProcessed;
+        private int rejectedCards;
+        
+        ValidationTally(Set<String> existingCards, Writer report) {
+            this.existingCards = existingCards;
+            this.report = report;
+        }
+        
+        void writeHeader(File file) throws IOException {
+            report.write("# FlashQuest import validation report for " + file.getAbsolutePath() + "\n");
+            report.write("line\tcard\tissue\tdetail\n");
+        }
+        
+        void writeFooter(ValidationReport summary) throws IOException {
+            report.write("# cards\t" + summary.getTotalCards() + "\n");
+            report.write("# valid\t" + summary.getValidCards() + "\n");
+            report.write("# rejected\t" + summary.getRejectedCards() + "\n");
+            for (Map.Entry<ValidationIssue, Integer> entry : issueCounts.entrySet()) {
+                report.write("# " + entry.getKey() + "\t" + entry.getValue() + "\n");
+            }
+            if (summary.isCancelled()) {
+                report.write("# cancelled\n");
+            }
+        }
+        
+        @Override
+        public void merge(ParsedSection parsed) {
+            cardsProcessed++;
+            for (Finding warning : parsed.warnings) {
+                record(parsed, warning);
+            }
+            if (parsed.card == null) {
+                rejectedCards++;
+                record(parsed, parsed.error);
+                return;
+            }
+            
+            String question = parsed.card.getQuestion();
+            String questionKey = question.toLowerCase().trim();
+            if (existingCards.contains(questionKey) || !seenQuestions.add(questionKey)) {
+                rejectedCards++;
+                record(parsed, new Finding(ValidationIssue.DUPLICATE, truncateText(question, 50)));
+                return;
+            }
+            
+            if (parsed.signature != null) {
+                NearDuplicateIndex.Match match = nearDuplicateIndex.findBestMatch(parsed.signature, nearDuplicateThreshold);
+                if (match != null) {
+                    record(parsed, new Finding(ValidationIssue.NEAR_DUPLICATE, String.format("%.0f%% similar to \"%s\"",
+                        match.getSimilarity() * 100, truncateText(match.getCard().getQuestion(), 50))));
+                }
+            }
+        }
+        
+        @Override
+        public void recordReadFailure(IOException e, long lineNumber) {
+            issueCounts.merge(ValidationIssue.READ_FAILURE, 1, Integer::sum);
+            writeLine(lineNumber, "", ValidationIssue.READ_FAILURE, e.getMessage());
+        }
+        
+        @Override
+        public int getCardsProcessed() {
+            return cardsProcessed;
+        }
+        
+        private void record(ParsedSection parsed, Finding finding) {
+            issueCounts.merge(finding.issue(), 1, Integer::sum);
+            writeLine(parsed.lineNumber, Integer.toString(parsed.cardNumber), finding.issue(), finding.detail());
+        }
+        
+        private void writeLine(long lineNumber, String cardNumber, ValidationIssue issue, String detail) {
+            try {
+                report.write(Long.toString(lineNumber));
+                report.write('\t');
+                report.write(cardNumber);
+                report.write('\t');
+                report.write(issue.name());
+                report.write('\t');
+                // Keep one finding per line
+                report.write(detail == null ? "" : detail.replace('\t', ' ').replace('\r', ' ').replace('\n', ' '));
+                report.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        ValidationReport toReport(File reportFile, boolean cancelled) {
+            return new ValidationReport(reportFile, cardsProcessed, rejectedCards, issueCounts, cancelled);
+        }
+    }
+
+    /**
+     * Open-addressed set of 64-bit question hashes. A collision could flag a unique question
+     * as a duplicate, which at 64 bits is vanishingly unlikely for any realistic file.
+     */
+    private static final class QuestionHashSet {
+        private long[] slots = new long[1024];
+        private int size;
+        
+        /**
+         * Adds a question key.
+         * @return false if it was already present
+         */
+        boolean add(String key) {
+            long hash = hash(key);
+            if ((size + 1) * 2 > slots.length) {
+                long[] old = slots;
+                slots = new long[old.length * 2];
+                for (long value : old) {
+                    if (value != 0) {
+                        slots[findSlot(value)] = value;
+                    }
+                }
+            }
+            int slot = findSlot(hash);
+            if (slots[slot] == hash) {
+                return false;
+            }
+            slots[slot] = hash;
+            size++;
+            return true;
+        }
+        
+        private int findSlot(long hash) {
+            int mask = slots.length - 1;
+            int slot = (int) (hash ^ (hash >>> 32)) & mask;
+            while (slots[slot] != 0 && slots[slot] != hash) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+        
+        private static long hash(String key) {
+            // FNV-1a over the chars, then a finalizer; 0 marks an empty slot so it is remapped
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < key.length(); i++) {
+                hash = (hash ^ key.charAt(i)) * 0x100000001B3L;
+            }
+            hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+            hash ^= hash >>> 33;
+            return hash != 0 ? hash : 1;
         }
     }
 
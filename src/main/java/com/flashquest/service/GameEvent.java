@@ -0,0 +1,104 @@
+package com.flashquest.service;
+
+import com.flashquest.model.Flashcard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A typed change notification published by GameService.
+ * Carries just enough payload for the UI to apply a delta instead of re-reading all state.
+ */
+public class GameEvent {
+
+    /**
+     * Kinds of game state changes.
+     */
+    public enum Type {
+        CARDS_ADDED,
+        STATS_CHANGED,
+        XP_GAINED,
+        LEVEL_UP,
+        TITLE_UNLOCKED,
+        QUEST_STARTED,
+        QUEST_ENDED,
+        DATA_RESET
+    }
+
+    private final Type type;
+    private final List<Flashcard> cards;
+    private final int amount;
+    private final String title;
+
+    private GameEvent(Type type, List<Flashcard> cards, int amount, String title) {
+        this.type = type;
+        this.cards = cards;
+        this.amount = amount;
+        this.title = title;
+    }
+
+    public static GameEvent cardsAdded(List<Flashcard> cards) {
+        return new GameEvent(Type.CARDS_ADDED, Collections.unmodifiableList(new ArrayList<>(cards)), cards.size(), null);
+    }
+
+    public static GameEvent statsChanged() {
+        return new GameEvent(Type.STATS_CHANGED, List.of(), 0, null);
+    }
+
+    public static GameEvent xpGained(int xp) {
+        return new GameEvent(Type.XP_GAINED, List.of(), xp, null);
+    }
+
+    public static GameEvent levelUp(int newLevel) {
+        return new GameEvent(Type.LEVEL_UP, List.of(), newLevel, null);
+    }
+
+    public static GameEvent titleUnlocked(String title) {
+        return new GameEvent(Type.TITLE_UNLOCKED, List.of(), 0, title);
+    }
+
+    public static GameEvent questStarted() {
+        return new GameEvent(Type.QUEST_STARTED, List.of(), 0, null);
+    }
+
+    public static GameEvent questEnded() {
+        return new GameEvent(Type.QUEST_ENDED, List.of(), 0, null);
+    }
+
+    public static GameEvent dataReset() {
+        return new GameEvent(Type.DATA_RESET, List.of(), 0, null);
+    }
+
+    /**
+     * Merges this event with a later event of the same type, if they can be combined.
+     * @return the merged event, or null if the two must be delivered separately
+     */
+    GameEvent mergeWith(GameEvent later) {
+        if (later.type != type) {
+            return null;
+        }
+        return switch (type) {
+            case CARDS_ADDED -> {
+                List<Flashcard> merged = new ArrayList<>(cards.size() + later.cards.size());
+                merged.addAll(cards);
+                merged.addAll(later.cards);
+                yield new GameEvent(type, Collections.unmodifiableList(merged), merged.size(), null);
+            }
+            case XP_GAINED -> new GameEvent(type, List.of(), amount + later.amount, null);
+            case LEVEL_UP -> new GameEvent(type, List.of(), Math.max(amount, later.amount), null);
+            case STATS_CHANGED, DATA_RESET -> this;
+            default -> null;
+        };
+    }
+
+    public Type getType() { return type; }
+    public List<Flashcard> getCards() { return cards; }
+    public int getAmount() { return amount; }
+    public String getTitle() { return title; }
+
+    @Override
+    public String toString() {
+        return String.format("GameEvent{type=%s, amount=%d, title=%s}", type, amount, title);
+    }
+}
@@ -0,0 +1,104 @@
+package com.flashquest.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Delivers GameEvents from the service layer to listeners.
+ *
+ * Publishers enqueue onto a lock-free queue and at most one drain is scheduled on the
+ * dispatcher at a time. Every event published before the drain runs is coalesced into a
+ * single batch, so with the FX dispatcher the UI applies one set of deltas per pulse.
+ */
+public class GameEventBus {
+    private static final Logger logger = LoggerFactory.getLogger(GameEventBus.class);
+
+    /**
+     * Receives coalesced batches of game events.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void onGameEvents(List<GameEvent> events);
+    }
+
+    private final ConcurrentLinkedQueue<GameEvent> pending = new ConcurrentLinkedQueue<>();
+    private final CopyOnWriteArrayList<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private volatile Executor dispatcher = Runnable::run;
+
+    /**
+     * Sets the executor that delivers batches, e.g. Platform::runLater for the FX thread.
+     */
+    public void setDispatcher(Executor dispatcher) {
+        this.dispatcher = dispatcher != null ? dispatcher : Runnable::run;
+    }
+
+    public void subscribe(Listener listener) {
+        listeners.addIfAbsent(listener);
+    }
+
+    public void unsubscribe(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Queues an event for delivery with the next batch.
+     */
+    public void publish(GameEvent event) {
+        pending.offer(event);
+        if (drainScheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    /**
+     * Delivers all queued events as one coalesced batch.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        
+        List<GameEvent> batch = coalesce();
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        for (Listener listener : listeners) {
+            try {
+                listener.onGameEvents(batch);
+            } catch (Exception e) {
+                logger.error("Game event listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Drains the queue in publish order, merging consecutive events of the same type where
+     * possible. Only neighbours are merged, so listeners see events in the order they were
+     * published. A DATA_RESET supersedes every delta queued before it.
+     */
+    private List<GameEvent> coalesce() {
+        List<GameEvent> batch = new ArrayList<>();
+        
+        GameEvent event;
+        while ((event = pending.poll()) != null) {
+            if (event.getType() == GameEvent.Type.DATA_RESET) {
+                batch.clear();
+            }
+            int last = batch.size() - 1;
+            GameEvent combined = last >= 0 ? batch.get(last).mergeWith(event) : null;
+            if (combined != null) {
+                batch.set(last, combined);
+            } else {
+                batch.add(event);
+            }
+        }
+        return batch;
+    }
+}
@@ -1,43 +1,104 @@
 package com.flashquest.service;
 
 import com.flashquest.model.*;
+import com.flashquest.util.LatencyHistogram;
+import com.flashquest.util.PersistentList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
  * Main service layer for FlashQuest game operations.
  * Coordinates between UI, data persistence, and game logic.
+ *
+ * Game state is published as a {@link GameState} snapshot through an AtomicReference.
+ * The snapshot's lists are immutable, so readers grab the current one without locking or
+ * copying. The Player, Quest and Flashcard entities they hold are mutable and shared between
+ * snapshots; all mutations run on a single writer path guarded by {@code writeLock}.
  */
 public class GameService {
     private static final Logger logger = LoggerFactory.getLogger(GameService.class);
-    
-    private static GameService instance;
-    
+
+    private static volatile GameService instance;
+
+    private static final String QUICK_QUEST_NAME = "Quick Quest";
+    private static final int QUICK_QUEST_QUESTION_COUNT = 10;
+
     private final DataService dataService;
-    private Player currentPlayer;
-    private List<Flashcard> allFlashcards;
-    private List<Quest> savedQuests;
-    private Quest activeQuest;
-    private boolean gameInitialized;
+    private final ExecutorService backgroundExecutor;
+    private final ExecutorService persistenceExecutor;
+    private final AtomicBoolean saveQueued = new AtomicBoolean();
+    private final LatencyHistogram answerLatency = new LatencyHistogram();
+    private final AtomicLong deckVersion;
+    private final AtomicReference<GameState> state;
+    private final GameEventBus eventBus;
+    private final Object writeLock = new Object();
+    private volatile PrecomputedSelection precomputedQuickQuest;
+    private volatile boolean gameInitialized;
+    private final Object initializationLock = new Object();
+    private CompletableFuture<Void> initialization;
+    private volatile NearDuplicateIndex nearDuplicateIndex;
+    private volatile TagIndex tagIndex;
+    private volatile TrigramIndex trigramIndex;
+    private volatile boolean nearDuplicateDetection = true;
+    private volatile String activeProfileId;
 
     private GameService() {
-        this.dataService = new DataService();
-        this.allFlashcards = new ArrayList<>();
-        this.savedQuests = new ArrayList<>();
+        this(new DataService());
+    }
+
+    private GameService(DataService dataService) {
+        this.dataService = dataService;
+        this.backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flashquest-background");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Saves get their own thread so they never queue behind index builds
+        this.persistenceExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "flashquest-persistence");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.deckVersion = new AtomicLong();
+        this.state = new AtomicReference<>(GameState.EMPTY);
+        this.eventBus = new GameEventBus();
         this.gameInitialized = false;
     }
 
     /**
      * Gets the singleton instance of GameService.
      */
-    public static synchronized GameService getInstance() {
-        if (instance == null) {
-            instance = new GameService();
+    public static GameService getInstance() {
+        GameService service = instance;
+        if (service == null) {
+            synchronized (GameService.class) {
+                service = instance;
+                if (service == null) {
+                    service = new GameService();
+                    instance = service;
+                }
+            }
         }
-        return instance;
+        return service;
+    }
+
+    /**
+     * Creates a standalone GameService that is not the process-wide singleton.
+     * Intended for headless tools such as the quest simulator.
+     */
+    public static GameService createHeadless(DataService dataService) {
+        return new GameService(dataService);
     }
 
     /**
@@ -45,34 +106,71 @@ public class GameService {
      * Loads existing data or creates defaults.
      */
     public void initializeGame() {
-        if (gameInitialized) return;
-        
-        try {
-            logger.info("Initializing FlashQuest game...");
+        synchronized (writeLock) {
+            if (gameInitialized) return;
             
-            // Load existing data
-            loadGameData();
-            
-            // If no player exists, we'll need first-time setup
-            if (currentPlayer == null) {
-                logger.info("No existing player found - first-time setup required");
-            } else {
-                logger.info("Loaded existing player: {} (Level {}, {} XP)", 
-                    currentPlayer.getName(), currentPlayer.getCurrentLevel(), currentPlayer.getTotalXp());
+            try {
+                logger.info("Initializing FlashQuest game...");
+                
+                // Load existing data
+                loadGameData();
+                nearDuplicateIndex = null;
+                tagIndex = null;
+                trigramIndex = null;
+                
+                // If no player exists, we'll need first-time setup
+                Player player = state.get().player;
+                if (player == null) {
+                    logger.info("No existing player found - first-time setup required");
+                } else {
+                    logger.info("Loaded existing player: {} (Level {}, {} XP)",
+                        player.getName(), player.getCurrentLevel(), player.getTotalXp());
+                }
+                
+                // Ensure we have default flashcards
+                if (state.get().flashcards.isEmpty()) {
+                    logger.info("No flashcards found - loading defaults");
+                    loadDefaultFlashcards();
+                }
+                
+                gameInitialized = true;
+                onDeckOrStatsChanged();
+                if (nearDuplicateDetection) {
+                    // Build the index off the startup path so the first import doesn't pay for it
+                    backgroundExecutor.execute(this::getNearDuplicateIndex);
+                }
+                // Likewise for the first search of a large deck
+                backgroundExecutor.execute(this::getTrigramIndex);
+                eventBus.publish(GameEvent.dataReset());
+                logger.info("Game initialization complete");
+                
+            } catch (Exception e) {
+                logger.error("Failed to initialize game", e);
+                throw new RuntimeException("Game initialization failed", e);
             }
-            
-            // Ensure we have default flashcards
-            if (allFlashcards.isEmpty()) {
-                logger.info("No flashcards found - loading defaults");
-                loadDefaultFlashcards();
+        }
+    }
+
+    /**
+     * Runs {@link #initializeGame()} on a startup thread, so save data loads while the UI is already up.
+     * Calls while a load is running share it; after a failure the next call tries again.
+     *
+     * @return future completing once the game is initialized
+     */
+    public CompletableFuture<Void> initializeGameAsync() {
+        synchronized (initializationLock) {
+            if (gameInitialized) {
+                return CompletableFuture.completedFuture(null);
             }
-            
-            gameInitialized = true;
-            logger.info("Game initialization complete");
-            
-        } catch (Exception e) {
-            logger.error("Failed to initialize game", e);
-            throw new RuntimeException("Game initialization failed", e);
+            if (initialization == null || initialization.isDone()) {
+                // A dedicated thread, so loading never queues behind index builds on the background executor
+                initialization = CompletableFuture.runAsync(this::initializeGame, runnable -> {
+                    Thread thread = new Thread(runnable, "flashquest-startup");
+                    thread.setDaemon(true);
+                    thread.start();
+                });
+            }
+            return initialization;
         }
     }
 
@@ -86,16 +184,21 @@ public class GameService {
         
         logger.info("Creating new player: {}", playerName);
         
-        currentPlayer = new Player(playerName.trim());
-        
-        // Ensure default flashcards are loaded
-        if (allFlashcards.isEmpty()) {
-            loadDefaultFlashcards();
+        synchronized (writeLock) {
+            Player player = new Player(playerName.trim());
+            update(current -> current.withPlayer(player));
+            
+            // Ensure default flashcards are loaded
+            if (state.get().flashcards.isEmpty()) {
+                loadDefaultFlashcards();
+            }
+            
+            saveGameData();
+            onDeckOrStatsChanged();
+            eventBus.publish(GameEvent.dataReset());
+            
+            logger.info("New player created successfully: {}", player);
         }
-        
-        saveGameData();
-        
-        logger.info("New player created successfully: {}", currentPlayer);
     }
 
     /**
@@ -104,22 +207,21 @@ public class GameService {
     private void loadGameData() {
         try {
             // Load player
-            if (dataService.playerExists()) {
-                currentPlayer = dataService.loadPlayer();
-            }
+            Player player = dataService.playerExists() ? dataService.loadPlayer() : null;
             
             // Load flashcards
-            allFlashcards = dataService.loadFlashcards();
+            List<Flashcard> flashcards = dataService.loadFlashcards();
             
             // Load quests
-            savedQuests = dataService.loadQuests();
+            List<Quest> quests = dataService.loadQuests();
             
+            publish(new GameState(player, PersistentList.copyOf(flashcards),
+                PersistentList.copyOf(quests), null));
+                
         } catch (Exception e) {
             logger.error("Error loading game data", e);
             // Continue with empty data rather than crash
-            currentPlayer = null;
-            allFlashcards = new ArrayList<>();
-            savedQuests = new ArrayList<>();
+            publish(GameState.EMPTY);
         }
     }
 
@@ -127,12 +229,13 @@ public class GameService {
      * Saves all current game data.
      */
     public void saveGameData() {
+        GameState snapshot = state.get();
         try {
-            if (currentPlayer != null) {
-                dataService.savePlayer(currentPlayer);
+            if (snapshot.player != null) {
+                dataService.savePlayer(snapshot.player);
             }
-            dataService.saveFlashcards(allFlashcards);
-            dataService.saveQuests(savedQuests);
+            dataService.saveFlashcards(snapshot.flashcards);
+            dataService.saveQuests(snapshot.savedQuests);
             
         } catch (Exception e) {
             logger.error("Failed to save game data", e);
@@ -140,232 +243,408 @@ public class GameService {
         }
     }
 
+    /**
+     * Saves all current game data on the persistence thread, so the caller doesn't wait on disk.
+     * A request made while an earlier one is still queued is folded into it, since the queued
+     * save writes whatever the state is when it runs. Only serializing the mutable player and
+     * quests holds the write lock; the files are written after it is released.
+     */
+    public void saveGameDataAsync() {
+        if (!saveQueued.compareAndSet(false, true)) {
+            return;
+        }
+        persistenceExecutor.execute(() -> {
+            saveQueued.set(false);
+            try {
+                DataService.PreparedSave save;
+                // The player and quests are mutable, so keep writers out while they're serialized.
+                // The deck list is an immutable snapshot and card counters are synchronized.
+                synchronized (writeLock) {
+                    GameState snapshot = state.get();
+                    save = dataService.prepareSave(snapshot.player, snapshot.flashcards, snapshot.savedQuests);
+                }
+                dataService.writeSave(save);
+            } catch (RuntimeException e) {
+                // Already logged; the next save writes the same state again
+            }
+        });
+    }
+
+    /**
+     * Gets a future that completes once every save queued so far has been written.
+     */
+    public CompletableFuture<Void> whenSaved() {
+        return CompletableFuture.runAsync(() -> { }, persistenceExecutor);
+    }
+
     /**
      * Loads default Java flashcards.
      */
     private void loadDefaultFlashcards() {
         List<Flashcard> defaultCards = DefaultFlashcardService.createDefaultFlashcards();
-        allFlashcards.addAll(defaultCards);
+        update(current -> current.withFlashcards(current.flashcards.appendAll(defaultCards)));
         logger.info("Loaded {} default flashcards", defaultCards.size());
     }
 
     /**
      * Starts a new quick quest with default parameters.
+     * Uses the card set precomputed in the background when it is still current,
+     * so starting the quest does not run selection on the caller's thread.
      */
     public Quest startQuickQuest() {
-        return startQuest("Quick Quest", 10, new ArrayList<>(), DifficultyDistribution.balanced());
+        synchronized (writeLock) {
+            PrecomputedSelection precomputed = precomputedQuickQuest;
+            if (state.get().player != null && precomputed != null
+                    && precomputed.isReadyFor(deckVersion.get())) {
+                List<Flashcard> selectedCards = precomputed.selection.join();
+                if (selectedCards.size() == QUICK_QUEST_QUESTION_COUNT) {
+                    precomputedQuickQuest = null;
+                    Quest quest = createQuickQuest();
+                    beginQuest(quest, selectedCards);
+                    schedulePrecompute();
+                    return quest;
+                }
+            }
+            
+            logger.debug("No precomputed quick quest available - selecting synchronously");
+            return startQuest(QUICK_QUEST_NAME, QUICK_QUEST_QUESTION_COUNT, new ArrayList<>(),
+                DifficultyDistribution.balanced());
+        }
+    }
+
+    /**
+     * Creates the quest definition used for quick quests.
+     */
+    private Quest createQuickQuest() {
+        Quest quest = new Quest(QUICK_QUEST_NAME);
+        quest.setQuestionCount(QUICK_QUEST_QUESTION_COUNT);
+        quest.setCategoryFilter(new ArrayList<>());
+        quest.setDifficultyDistribution(DifficultyDistribution.balanced());
+        return quest;
     }
 
     /**
      * Starts a quest with specified parameters.
      */
     public Quest startQuest(String name, int questionCount, List<String> categoryFilter, DifficultyDistribution difficulty) {
-        if (currentPlayer == null) {
-            throw new IllegalStateException("No player loaded");
-        }
-        
-        if (allFlashcards.isEmpty()) {
-            throw new IllegalStateException("No flashcards available");
-        }
-        
-        // Create quest
-        Quest quest = new Quest(name);
-        quest.setQuestionCount(questionCount);
-        quest.setCategoryFilter(categoryFilter);
-        quest.setDifficultyDistribution(difficulty);
-        
-        // Select flashcards for the quest
-        List<Flashcard> selectedCards = selectQuestFlashcards(quest);
-        
-        if (selectedCards.size() < questionCount) {
-            throw new IllegalStateException("Not enough flashcards available for quest. Need " + 
-                questionCount + ", found " + selectedCards.size());
-        }
-        
-        // Start the quest
-        quest.startQuest(selectedCards);
-        activeQuest = quest;
-        
-        // Reset player HP for quest
-        currentPlayer.restoreFullHp();
-        if (quest.getCustomHp() != 3) {
-            currentPlayer.setCustomHp(quest.getCustomHp());
-        }
-        
-        logger.info("Started quest: {} with {} questions", name, selectedCards.size());
-        return quest;
+        return startQuest(name, questionCount, categoryFilter, "", difficulty);
     }
 
     /**
-     * Selects flashcards for a quest based on quest parameters.
+     * Starts a quest drawing only from cards that match a tag query.
+     *
+     * @param tagQuery Tags combined with & and |, e.g. "java & streams | collections"; blank for all cards
      */
-    private List<Flashcard> selectQuestFlashcards(Quest quest) {
-        List<Flashcard> availableCards = allFlashcards.stream()
-            .filter(card -> quest.getCategoryFilter().isEmpty() || 
-                           quest.getCategoryFilter().contains(card.getCategory()))
-            .collect(Collectors.toList());
-        
-        if (availableCards.isEmpty()) {
-            availableCards = new ArrayList<>(allFlashcards);
-        }
-        
-        // Apply weighted selection based on usage frequency
-        availableCards.sort((a, b) -> Double.compare(b.getSelectionWeight(), a.getSelectionWeight()));
-        
-        // Select required number of cards (or all available if less)
-        int cardsNeeded = Math.min(quest.getQuestionCount(), availableCards.size());
-        
-        // For now, use simple selection - could be enhanced with smarter algorithms
-        List<Flashcard> selected = new ArrayList<>();
-        Random random = new Random();
-        
-        while (selected.size() < cardsNeeded && !availableCards.isEmpty()) {
-            // Weighted random selection favoring higher weight cards
-            double totalWeight = availableCards.stream().mapToDouble(Flashcard::getSelectionWeight).sum();
-            double randomValue = random.nextDouble() * totalWeight;
+    public Quest startQuest(String name, int questionCount, List<String> categoryFilter, String tagQuery,
+                            DifficultyDistribution difficulty) {
+        synchronized (writeLock) {
+            GameState current = state.get();
+            if (current.player == null) {
+                throw new IllegalStateException("No player loaded");
+            }
             
-            double currentWeight = 0;
-            for (int i = 0; i < availableCards.size(); i++) {
-                currentWeight += availableCards.get(i).getSelectionWeight();
-                if (randomValue <= currentWeight) {
-                    selected.add(availableCards.remove(i));
-                    break;
-                }
+            if (current.flashcards.isEmpty()) {
+                throw new IllegalStateException("No flashcards available");
             }
+            
+            // Create quest
+            Quest quest = new Quest(name);
+            quest.setQuestionCount(questionCount);
+            quest.setCategoryFilter(categoryFilter);
+            quest.setTagQuery(tagQuery);
+            quest.setDifficultyDistribution(difficulty);
+            
+            // Narrow the deck through the tag index first, then apply the category filter
+            List<Flashcard> pool = quest.getTagQuery().isBlank() ? current.flashcards
+                : findFlashcardsByTags(quest.getTagQuery());
+            if (pool.isEmpty()) {
+                throw new IllegalStateException("No flashcards match tags: " + quest.getTagQuery());
+            }
+            
+            // Select flashcards for the quest
+            List<Flashcard> selectedCards = QuestRules.selectQuestFlashcards(quest, pool);
+            
+            if (selectedCards.size() < questionCount) {
+                throw new IllegalStateException("Not enough flashcards available for quest. Need " +
+                    questionCount + ", found " + selectedCards.size());
+            }
+            
+            beginQuest(quest, selectedCards);
+            return quest;
         }
+    }
+
+    /**
+     * Activates a quest with its selected cards and prepares the player for it.
+     * Must be called on the writer path.
+     */
+    private void beginQuest(Quest quest, List<Flashcard> selectedCards) {
+        // Start the quest
+        quest.startQuest(selectedCards);
+        Player player = update(current -> current.withActiveQuest(quest)).player;
         
-        return selected;
+        // Reset player HP for quest
+        QuestRules.preparePlayer(player, quest);
+        
+        eventBus.publish(GameEvent.questStarted());
+        eventBus.publish(GameEvent.statsChanged());
+        logger.info("Started quest: {} with {} questions", quest.getName(), selectedCards.size());
     }
 
     /**
      * Processes an answer during an active quest.
+     * Only the state change happens on the caller's thread; a quest that ends is saved in the
+     * background and stats listeners hear about it through the event bus.
      */
     public Quest.QuestionResult processQuestAnswer(boolean correct) {
-        if (activeQuest == null || !activeQuest.isActive()) {
-            throw new IllegalStateException("No active quest");
-        }
-        
-        if (currentPlayer == null) {
-            throw new IllegalStateException("No player loaded");
-        }
-        
-        Flashcard currentCard = activeQuest.getCurrentFlashcard();
-        if (currentCard != null) {
-            // Record answer for flashcard statistics
-            currentCard.recordAnswer(correct);
+        synchronized (writeLock) {
+            GameState current = state.get();
+            Quest activeQuest = current.activeQuest;
+            Player currentPlayer = current.player;
             
-            // Track Java questions for achievements
-            if (isJavaCategory(currentCard.getCategory())) {
-                if (correct) {
-                    currentPlayer.recordJavaQuestionCorrect();
-                }
+            if (activeQuest == null || !activeQuest.isActive()) {
+                throw new IllegalStateException("No active quest");
             }
             
-            // Apply HP loss for incorrect answers
-            if (!correct) {
-                boolean died = currentPlayer.takeDamage(1);
-                if (died) {
-                    // Quest failed due to HP loss - this is not an error, it's game mechanics
-                    activeQuest.completeWithFailure();
-                    activeQuest = null;
-                    saveGameData();
-                    return new Quest.QuestionResult(0, true, false); // Quest complete due to failure
-                }
+            if (currentPlayer == null) {
+                throw new IllegalStateException("No player loaded");
             }
+            
+            boolean died = QuestRules.applyAnswer(currentPlayer, activeQuest, correct);
+            if (died) {
+                update(snapshot -> snapshot.withActiveQuest(null));
+                saveGameDataAsync();
+                onDeckOrStatsChanged();
+                eventBus.publish(GameEvent.questEnded());
+                eventBus.publish(GameEvent.statsChanged());
+                return new Quest.QuestionResult(0, true, false); // Quest complete due to failure
+            }
+            
+            // Process answer in quest
+            Quest.QuestionResult result = activeQuest.processAnswer(correct);
+            
+            if (result.isQuestComplete()) {
+                completeQuest();
+            } else {
+                eventBus.publish(GameEvent.statsChanged());
+            }
+            
+            return result;
         }
-        
-        // Process answer in quest
-        Quest.QuestionResult result = activeQuest.processAnswer(correct);
-        
-        if (result.isQuestComplete()) {
-            completeQuest();
-        }
-        
-        return result;
     }
 
     /**
      * Completes the active quest and awards XP.
+     * Must be called on the writer path.
      */
     private void completeQuest() {
+        GameState current = state.get();
+        Quest activeQuest = current.activeQuest;
+        Player currentPlayer = current.player;
         if (activeQuest == null || currentPlayer == null) {
             return;
         }
         
-        // Award XP to player
-        int questXp = activeQuest.getTotalXpEarned();
-        boolean leveledUp = currentPlayer.addXp(questXp);
-        
-        // Record quest completion for achievements
-        boolean isPerfect = activeQuest.isPerfectQuest();
-        currentPlayer.completeQuest(isPerfect);
+        int levelBefore = currentPlayer.getCurrentLevel();
+        List<String> titlesBefore = currentPlayer.getUnlockedTitles();
         
-        // Check for Survivor achievement (complete with exactly 1 HP)
-        if (currentPlayer.getCurrentHp() == 1 && 
-            !currentPlayer.getUnlockedTitles().contains("Survivor")) {
-            currentPlayer.getUnlockedTitles().add("Survivor");
-        }
+        int questXp = activeQuest.getTotalXpEarned();
+        boolean leveledUp = QuestRules.awardCompletion(currentPlayer, activeQuest);
         
         logger.info("Quest completed: {} XP awarded, leveled up: {}", questXp, leveledUp);
         
-        activeQuest = null;
-        saveGameData();
+        update(snapshot -> snapshot.withActiveQuest(null));
+        saveGameDataAsync();
+        onDeckOrStatsChanged();
+        
+        eventBus.publish(GameEvent.xpGained(questXp));
+        eventBus.publish(GameEvent.questEnded());
+        publishPlayerProgress(currentPlayer, levelBefore, titlesBefore);
     }
 
     /**
      * Adds a new flashcard to the collection.
      */
     public void addFlashcard(String question, String answer, String category, DifficultyLevel difficulty) {
+        addFlashcard(question, answer, category, difficulty, List.of());
+    }
+
+    /**
+     * Adds a new flashcard with tags to the collection.
+     */
+    public void addFlashcard(String question, String answer, String category, DifficultyLevel difficulty,
+                             List<String> tags) {
         Flashcard card = new Flashcard(question, answer, category, difficulty);
-        allFlashcards.add(card);
+        card.setTags(Flashcard.normalizeTags(tags));
         
-        if (currentPlayer != null) {
-            currentPlayer.recordFlashcardCreated();
+        synchronized (writeLock) {
+            GameState updated = update(current -> current.withFlashcards(current.flashcards.append(card)));
+            
+            if (updated.player != null) {
+                int levelBefore = updated.player.getCurrentLevel();
+                List<String> titlesBefore = updated.player.getUnlockedTitles();
+                updated.player.recordFlashcardCreated();
+                publishPlayerProgress(updated.player, levelBefore, titlesBefore);
+            }
+            
+            saveGameData();
+            onDeckOrStatsChanged();
+            eventBus.publish(GameEvent.cardsAdded(List.of(card)));
         }
-        
-        saveGameData();
         logger.info("Added new flashcard: {}", card);
     }
 
     /**
      * Imports flashcards from a text file.
-     * 
+     *
      * @param file The text file to import from
      * @return ImportResult containing statistics and details about the import
      */
     public FlashcardImportService.ImportResult importFlashcardsFromFile(java.io.File file) {
+        return importFlashcardsFromFile(file, new FlashcardImportService.ImportListener() { });
+    }
+
+    /**
+     * Sets the save profile whose database file imports go into, or null to import into the deck file.
+     */
+    public void setActiveProfile(String profileId) {
+        this.activeProfileId = profileId;
+    }
+    
+    public String getActiveProfileId() { return activeProfileId; }
+
+    /**
+     * Imports flashcards from a text file, reporting progress to the listener.
+     * Cards are only added once the whole file has been processed; a cancelled import adds nothing.
+     * With an active save profile the cards are instead streamed into the profile's database in
+     * batches, without holding them in memory; see {@link #importFlashcardsIntoProfile}.
+     *
+     * @param file The text file to import from
+     * @param listener Receives progress and can cancel the import
+     * @return ImportResult containing statistics and details about the import
+     */
+    public FlashcardImportService.ImportResult importFlashcardsFromFile(java.io.File file,
+                                                                       FlashcardImportService.ImportListener listener) {
+        String profileId = activeProfileId;
+        if (profileId != null) {
+            return importFlashcardsIntoProfile(file, profileId, listener);
+        }
+        
         FlashcardImportService importService = new FlashcardImportService();
+        if (nearDuplicateDetection) {
+            importService.setNearDuplicateIndex(getNearDuplicateIndex(), NearDuplicateIndex.DEFAULT_THRESHOLD);
+        }
         
         // Get existing question texts for duplicate detection
-        Set<String> existingQuestions = allFlashcards.stream()
+        Set<String> existingQuestions = state.get().flashcards.stream()
             .map(card -> card.getQuestion().toLowerCase().trim())
             .collect(java.util.stream.Collectors.toSet());
         
         // Perform the import
-        FlashcardImportService.ImportResult result = importService.importFromFile(file, existingQuestions);
+        FlashcardImportService.ImportResult result = importService.importFromFile(file, existingQuestions, listener);
+        if (result.isCancelled()) {
+            logger.info("Import from {} cancelled, no cards added", file.getName());
+            return result;
+        }
         
         // Add successfully imported cards to the collection
         if (!result.getImportedCards().isEmpty()) {
-            allFlashcards.addAll(result.getImportedCards());
+            synchronized (writeLock) {
+                // Last chance to cancel; once the deck is committed the import is final
+                if (listener.isCancelled()) {
+                    logger.info("Import from {} cancelled before commit, no cards added", file.getName());
+                    return new FlashcardImportService.ImportResult(result.getTotalCards(), result.getSuccessfulImports(),
+                        result.getSkippedDuplicates(), result.getFailedImports(), result.getErrorMessages(),
+                        result.getImportedCards(), result.getSuspectedDuplicates(), true);
+                }
+                
+                GameState updated = update(current ->
+                    current.withFlashcards(current.flashcards.appendAll(result.getImportedCards())));
+                
+                // Update player stats if player exists
+                if (updated.player != null) {
+                    int levelBefore = updated.player.getCurrentLevel();
+                    List<String> titlesBefore = updated.player.getUnlockedTitles();
+                    for (int i = 0; i < result.getSuccessfulImports(); i++) {
+                        updated.player.recordFlashcardCreated();
+                    }
+                    publishPlayerProgress(updated.player, levelBefore, titlesBefore);
+                }
+                
+                saveGameData();
+                onDeckOrStatsChanged();
+                eventBus.publish(GameEvent.cardsAdded(result.getImportedCards()));
+            }
+            logger.info("Successfully imported {} flashcards from {}",
+                result.getSuccessfulImports(), file.getName());
+        }
+        
+        return result;
+    }
+
+    /**
+     * Imports flashcards straight into a save profile's database, then reloads the deck from it.
+     * Batches committed before a cancel are kept, and importing the same file again resumes after them.
+     */
+    private FlashcardImportService.ImportResult importFlashcardsIntoProfile(java.io.File file, String profileId,
+                                                                           FlashcardImportService.ImportListener listener) {
+        Player player = state.get().player;
+        DatabaseService databaseService = DatabaseService.getInstance();
+        databaseService.initialize();
+        FlashcardImportService.ImportResult result = databaseService.importFlashcards(file, profileId,
+            player != null ? player.getId() : null, DatabaseService.DEFAULT_IMPORT_COMMIT_INTERVAL, listener);
+        if (result.getSuccessfulImports() == 0) {
+            return result;
+        }
+        
+        // The import didn't keep the cards, so the database is the only place that has them all
+        List<Flashcard> deck = databaseService.loadFlashcards(profileId);
+        synchronized (writeLock) {
+            GameState updated = update(current -> current.withFlashcards(PersistentList.copyOf(deck)));
             
-            // Update player stats if player exists
-            if (currentPlayer != null) {
+            if (updated.player != null) {
+                int levelBefore = updated.player.getCurrentLevel();
+                List<String> titlesBefore = updated.player.getUnlockedTitles();
                 for (int i = 0; i < result.getSuccessfulImports(); i++) {
-                    currentPlayer.recordFlashcardCreated();
+                    updated.player.recordFlashcardCreated();
                 }
+                publishPlayerProgress(updated.player, levelBefore, titlesBefore);
             }
             
             saveGameData();
-            logger.info("Successfully imported {} flashcards from {}", 
-                result.getSuccessfulImports(), file.getName());
+            onDeckOrStatsChanged();
+            eventBus.publish(GameEvent.dataReset());
         }
-        
+        logger.info("Imported {} flashcards from {} into profile {}",
+            result.getSuccessfulImports(), file.getName(), profileId);
         return result;
     }
 
+    /**
+     * Validates an import file against the current deck without changing anything,
+     * writing every finding to a report file.
+     *
+     * @param file The file to validate
+     * @param reportFile File the findings are written to
+     * @param listener Receives progress and can cancel the validation
+     * @return ValidationReport with counts per issue type
+     */
+    public FlashcardImportService.ValidationReport validateImportFile(java.io.File file, java.io.File reportFile,
+                                                                     FlashcardImportService.ImportListener listener) {
+        FlashcardImportService importService = new FlashcardImportService();
+        if (nearDuplicateDetection) {
+            importService.setNearDuplicateIndex(getNearDuplicateIndex(), NearDuplicateIndex.DEFAULT_THRESHOLD);
+        }
+        
+        Set<String> existingQuestions = state.get().flashcards.stream()
+            .map(card -> card.getQuestion().toLowerCase().trim())
+            .collect(java.util.stream.Collectors.toSet());
+        return importService.validateFile(file, existingQuestions, reportFile, listener);
+    }
+
     /**
      * Adds multiple flashcards at once (bulk operation).
-     * 
+     *
      * @param flashcards List of flashcards to add
      * @return Number of successfully added flashcards
      */
@@ -374,59 +653,256 @@ public class GameService {
             return 0;
         }
         
-        int addedCount = 0;
-        for (Flashcard card : flashcards) {
-            // Check for duplicates
-            boolean isDuplicate = allFlashcards.stream()
-                .anyMatch(existing -> existing.getQuestion().toLowerCase().trim()
-                    .equals(card.getQuestion().toLowerCase().trim()));
+        synchronized (writeLock) {
+            GameState current = state.get();
+            int levelBefore = current.player != null ? current.player.getCurrentLevel() : 0;
+            List<String> titlesBefore = current.player != null ? current.player.getUnlockedTitles() : List.of();
+            Set<String> knownQuestions = current.flashcards.stream()
+                .map(existing -> existing.getQuestion().toLowerCase().trim())
+                .collect(Collectors.toCollection(HashSet::new));
             
-            if (!isDuplicate) {
-                allFlashcards.add(card);
-                addedCount++;
-                
-                if (currentPlayer != null) {
-                    currentPlayer.recordFlashcardCreated();
+            List<Flashcard> accepted = new ArrayList<>();
+            for (Flashcard card : flashcards) {
+                // Check for duplicates
+                if (knownQuestions.add(card.getQuestion().toLowerCase().trim())) {
+                    accepted.add(card);
+                    
+                    if (current.player != null) {
+                        current.player.recordFlashcardCreated();
+                    }
                 }
             }
+            
+            if (!accepted.isEmpty()) {
+                update(snapshot -> snapshot.withFlashcards(snapshot.flashcards.appendAll(accepted)));
+                saveGameData();
+                onDeckOrStatsChanged();
+                eventBus.publish(GameEvent.cardsAdded(accepted));
+                if (current.player != null) {
+                    publishPlayerProgress(current.player, levelBefore, titlesBefore);
+                }
+                logger.info("Added {} flashcards in bulk operation", accepted.size());
+            }
+            
+            return accepted.size();
         }
-        
-        if (addedCount > 0) {
-            saveGameData();
-            logger.info("Added {} flashcards in bulk operation", addedCount);
+    }
+
+    /**
+     * Gets the near-duplicate index of the deck, first indexing any cards added since it was last used.
+     * The deck is append-only between resets, so catching up only hashes the new cards.
+     */
+    public NearDuplicateIndex getNearDuplicateIndex() {
+        NearDuplicateIndex index;
+        List<Flashcard> deck;
+        synchronized (writeLock) {
+            if (nearDuplicateIndex == null) {
+                nearDuplicateIndex = new NearDuplicateIndex();
+            }
+            index = nearDuplicateIndex;
+            deck = state.get().flashcards;
+        }
+        // Hashing a large deck takes a while, keep it outside the write lock
+        index.indexAppended(deck);
+        return index;
+    }
+
+    /**
+     * Gets the tag index of the deck, first indexing any cards added since it was last used.
+     */
+    public TagIndex getTagIndex() {
+        TagIndex index;
+        List<Flashcard> deck;
+        synchronized (writeLock) {
+            if (tagIndex == null) {
+                tagIndex = new TagIndex();
+            }
+            index = tagIndex;
+            deck = state.get().flashcards;
+        }
+        index.indexAppended(deck);
+        return index;
+    }
+
+    /**
+     * Finds the cards matching a tag query such as "java & streams | collections", in deck order.
+     */
+    public List<Flashcard> findFlashcardsByTags(String tagQuery) {
+        return getTagIndex().query(tagQuery);
+    }
+
+    /**
+     * Gets the text search index of the deck, first indexing any cards added since it was last used.
+     */
+    public TrigramIndex getTrigramIndex() {
+        TrigramIndex index;
+        List<Flashcard> deck;
+        synchronized (writeLock) {
+            if (trigramIndex == null) {
+                trigramIndex = new TrigramIndex();
+            }
+            index = trigramIndex;
+            deck = state.get().flashcards;
+        }
+        // Indexing a large import takes a while, keep it outside the write lock
+        index.indexAppended(deck);
+        return index;
+    }
+
+    /**
+     * Finds the cards whose question, answer, category or tags contain the query, ignoring case,
+     * in deck order.
+     *
+     * @param query Text to look for
+     * @param maxEdits Allowed typos in the query; 0 for an exact substring
+     */
+    public List<Flashcard> searchFlashcards(String query, int maxEdits) {
+        return getTrigramIndex().search(query, maxEdits);
+    }
+
+    /**
+     * Enables or disables near-duplicate reporting for imports.
+     */
+    public void setNearDuplicateDetection(boolean enabled) {
+        this.nearDuplicateDetection = enabled;
+    }
+
+    public boolean isNearDuplicateDetection() { return nearDuplicateDetection; }
+
+    /**
+     * Exports the deck to a file. Works on the current snapshot's deck list, so cards can be
+     * added or removed while a long export runs.
+     *
+     * @param file Target file, replaced only if the export completes
+     * @param format Output format
+     * @param gzip Whether to gzip the output
+     * @param listener Receives progress and can cancel the export
+     * @return ExportResult with the cards and bytes written
+     */
+    public FlashcardExportService.ExportResult exportFlashcards(java.io.File file, ExportFormat format, boolean gzip,
+                                                                FlashcardExportService.ExportListener listener) {
+        List<Flashcard> deck = state.get().flashcards;
+        return new FlashcardExportService().exportToFile(deck.iterator(), deck.size(), file, format, gzip, listener);
+    }
+
+    /**
+     * Applies a mutation to the current state and publishes the result.
+     * Must be called on the writer path.
+     */
+    private GameState update(UnaryOperator<GameState> mutation) {
+        GameState next = mutation.apply(state.get());
+        state.set(next);
+        return next;
+    }
+
+    /**
+     * Replaces the current state wholesale. Must be called on the writer path.
+     */
+    private void publish(GameState next) {
+        state.set(next);
+    }
+
+    /**
+     * Publishes stat, level and title events for changes made to the player since the given baseline.
+     */
+    private void publishPlayerProgress(Player player, int levelBefore, List<String> titlesBefore) {
+        if (player.getCurrentLevel() > levelBefore) {
+            eventBus.publish(GameEvent.levelUp(player.getCurrentLevel()));
+        }
+        for (String title : player.getUnlockedTitles()) {
+            if (!titlesBefore.contains(title)) {
+                eventBus.publish(GameEvent.titleUnlocked(title));
+            }
+        }
+        eventBus.publish(GameEvent.statsChanged());
+    }
+
+    /**
+     * Invalidates background precomputations after the deck or card statistics change.
+     */
+    private void onDeckOrStatsChanged() {
+        deckVersion.incrementAndGet();
+        schedulePrecompute();
+    }
+
+    /**
+     * Selects the next quick quest's cards on the background thread.
+     * Works on the current snapshot's deck list, so selection never races with cards being
+     * added or removed.
+     */
+    private void schedulePrecompute() {
+        GameState snapshot = state.get();
+        if (snapshot.player == null || snapshot.flashcards.size() < QUICK_QUEST_QUESTION_COUNT) {
+            precomputedQuickQuest = null;
+            return;
         }
         
-        return addedCount;
+        long version = deckVersion.get();
+        List<Flashcard> deck = snapshot.flashcards;
+        Quest template = createQuickQuest();
+        
+        CompletableFuture<List<Flashcard>> selection = CompletableFuture.supplyAsync(
+            () -> QuestRules.selectQuestFlashcards(template, deck), backgroundExecutor);
+        selection.exceptionally(e -> {
+            logger.warn("Background quick quest precomputation failed", e);
+            return null;
+        });
+        precomputedQuickQuest = new PrecomputedSelection(version, selection);
     }
 
     /**
-     * Checks if a category is Java-related for achievement tracking.
+     * Creates a session engine over this service's deck so several players can quest
+     * concurrently in one process. Sessions read the same snapshot of the deck list.
+     *
+     * @param playerSaver persists a session's player when their quest ends
      */
-    private boolean isJavaCategory(String category) {
-        return category != null && (
-            category.toLowerCase().contains("java") ||
-            category.equals("Java Basics") ||
-            category.equals("Object-Oriented Programming") ||
-            category.equals("Collections Framework") ||
-            category.equals("Exception Handling") ||
-            category.equals("Concurrency") ||
-            category.equals("Advanced Topics")
-        );
+    public SessionEngine createSessionEngine(java.util.function.Consumer<Player> playerSaver) {
+        return new SessionEngine(this::getAllFlashcards, playerSaver);
+    }
+
+    /**
+     * Gets the executor backing the game's background thread.
+     * Used by the UI to prepare upcoming content without blocking the FX thread.
+     */
+    public Executor getBackgroundExecutor() {
+        return backgroundExecutor;
+    }
+
+    /**
+     * Records how long the UI took to show the outcome of one quest answer.
+     */
+    public void recordAnswerLatency(long nanos) {
+        synchronized (answerLatency) {
+            answerLatency.record(nanos);
+        }
+    }
+
+    /**
+     * Gets a copy of the answer latencies recorded so far this session.
+     */
+    public LatencyHistogram getAnswerLatency() {
+        LatencyHistogram copy = new LatencyHistogram();
+        synchronized (answerLatency) {
+            copy.merge(answerLatency);
+        }
+        return copy;
     }
 
     // Getters
-    public Player getCurrentPlayer() { return currentPlayer; }
-    public List<Flashcard> getAllFlashcards() { return new ArrayList<>(allFlashcards); }
-    public List<Quest> getSavedQuests() { return new ArrayList<>(savedQuests); }
-    public Quest getActiveQuest() { return activeQuest; }
+    public GameEventBus getEventBus() { return eventBus; }
+    public GameState getSnapshot() { return state.get(); }
+    public Player getCurrentPlayer() { return state.get().player; }
+    public List<Flashcard> getAllFlashcards() { return state.get().flashcards; }
+    public List<Quest> getSavedQuests() { return state.get().savedQuests; }
+    public Quest getActiveQuest() { return state.get().activeQuest; }
     public boolean isGameInitialized() { return gameInitialized; }
-    public boolean hasPlayer() { return currentPlayer != null; }
+    public boolean hasPlayer() { return state.get().player != null; }
 
     /**
      * Gets available categories from all flashcards.
      */
     public List<String> getAvailableCategories() {
-        return allFlashcards.stream()
+        return state.get().flashcards.stream()
             .map(Flashcard::getCategory)
             .distinct()
             .sorted()
@@ -440,26 +916,95 @@ public class GameService {
         dataService.createBackup();
     }
 
+    /**
+     * Gets the data service backing this game.
+     */
+    public DataService getDataService() {
+        return dataService;
+    }
+
     /**
      * Gets total save data size in bytes.
      */
     public long getSaveDataSize() {
         return dataService.getSaveDataSize();
     }
-    
+
     /**
      * Deletes all save data and resets the game state.
      */
     public void deleteAllData() {
-        dataService.deleteAllData();
-        
-        // Reset game state
-        currentPlayer = null;
-        allFlashcards.clear();
-        savedQuests.clear();
-        activeQuest = null;
-        gameInitialized = false;
+        synchronized (writeLock) {
+            dataService.deleteAllData();
+            
+            // Reset game state
+            publish(GameState.EMPTY);
+            gameInitialized = false;
+            precomputedQuickQuest = null;
+            nearDuplicateIndex = null;
+            tagIndex = null;
+            trigramIndex = null;
+            deckVersion.incrementAndGet();
+        }
+        eventBus.publish(GameEvent.dataReset());
         
         logger.info("All game data deleted and state reset");
     }
-}
\ No newline at end of file
+
+    /**
+     * Snapshot of the game state. Its lists are immutable and persistent, shared between
+     * snapshots, so taking a snapshot never copies the deck. The entities in them are mutable
+     * and only changed under {@code writeLock}.
+     */
+    public static final class GameState {
+        static final GameState EMPTY = new GameState(null, PersistentList.empty(), PersistentList.empty(), null);
+        
+        private final Player player;
+        private final PersistentList<Flashcard> flashcards;
+        private final PersistentList<Quest> savedQuests;
+        private final Quest activeQuest;
+        
+        GameState(Player player, PersistentList<Flashcard> flashcards,
+                  PersistentList<Quest> savedQuests, Quest activeQuest) {
+            this.player = player;
+            this.flashcards = flashcards;
+            this.savedQuests = savedQuests;
+            this.activeQuest = activeQuest;
+        }
+        
+        GameState withPlayer(Player player) {
+            return new GameState(player, flashcards, savedQuests, activeQuest);
+        }
+        
+        GameState withFlashcards(PersistentList<Flashcard> flashcards) {
+            return new GameState(player, flashcards, savedQuests, activeQuest);
+        }
+        
+        GameState withActiveQuest(Quest activeQuest) {
+            return new GameState(player, flashcards, savedQuests, activeQuest);
+        }
+        
+        public Player getPlayer() { return player; }
+        public List<Flashcard> getFlashcards() { return flashcards; }
+        public List<Quest> getSavedQuests() { return savedQuests; }
+        public Quest getActiveQuest() { return activeQuest; }
+    }
+
+    /**
+     * Quest card selection computed in the background for a specific deck version.
+     */
+    private static class PrecomputedSelection {
+        private final long deckVersion;
+        private final CompletableFuture<List<Flashcard>> selection;
+        
+        PrecomputedSelection(long deckVersion, CompletableFuture<List<Flashcard>> selection) {
+            this.deckVersion = deckVersion;
+            this.selection = selection;
+        }
+        
+        boolean isReadyFor(long currentVersion) {
+            return deckVersion == currentVersion && selection.isDone()
+                && !selection.isCompletedExceptionally() && selection.getNow(null) != null;
+        }
+    }
+}
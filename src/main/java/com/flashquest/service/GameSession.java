@@ -0,0 +1,54 @@
+package com.flashquest.service;
+
+import com.flashquest.model.Player;
+import com.flashquest.model.Quest;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One learner's state inside a SessionEngine: their player profile and active quest.
+ * The engine changes the player and quest only while holding the session's lock, and
+ * getActiveQuest takes it too. The player's fields are not guarded when read from outside.
+ */
+public class GameSession {
+    private final String sessionId;
+    private final Player player;
+    private final ReentrantLock lock;
+    private final LocalDateTime openedAt;
+    private Quest activeQuest;
+
+    GameSession(String sessionId, Player player) {
+        this.sessionId = sessionId;
+        this.player = player;
+        this.lock = new ReentrantLock();
+        this.openedAt = LocalDateTime.now();
+    }
+
+    ReentrantLock getLock() { return lock; }
+
+    void setActiveQuest(Quest activeQuest) { this.activeQuest = activeQuest; }
+
+    public String getSessionId() { return sessionId; }
+    public Player getPlayer() { return player; }
+    public LocalDateTime getOpenedAt() { return openedAt; }
+
+    /**
+     * Gets the session's active quest, or null between quests.
+     */
+    public Quest getActiveQuest() {
+        lock.lock();
+        try {
+            return activeQuest;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        Quest quest = getActiveQuest();
+        return String.format("GameSession{id='%s', player='%s', questActive=%s}", 
+            sessionId.substring(0, 8), player.getName(), quest != null && quest.isActive());
+    }
+}
@@ -0,0 +1,77 @@
+package com.flashquest.service;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * File formats understood by the flashcard importer.
+ */
+public enum ImportFormat {
+    /** FlashQuest QUESTION:/ANSWER: blocks separated by "---". */
+    BLOCK("FlashQuest text"),
+    /** Comma-separated rows with optional header. */
+    CSV("CSV"),
+    /** Tab-separated rows with optional header. */
+    TSV("TSV"),
+    /** Anki "Notes in Plain Text" export. */
+    ANKI("Anki text export");
+
+    private static final int SNIFF_BYTES = 8 * 1024;
+
+    private final String displayName;
+
+    ImportFormat(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() { return displayName; }
+
+    /**
+     * Detects the format from the file extension, sniffing the first few KB of .txt files.
+     */
+    public static ImportFormat detect(File file) {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) return CSV;
+        if (name.endsWith(".tsv") || name.endsWith(".tab")) return TSV;
+        
+        String head;
+        try (InputStream input = new FileInputStream(file)) {
+            head = new String(input.readNBytes(SNIFF_BYTES), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // Let the import itself report the read failure
+            return BLOCK;
+        }
+        return sniff(head);
+    }
+
+    /**
+     * Guesses the format of text content. Falls back to BLOCK when nothing else matches.
+     */
+    static ImportFormat sniff(String head) {
+        if (head.startsWith("\uFEFF")) {
+            head = head.substring(1);
+        }
+        if (head.startsWith("#separator:") || head.startsWith("#html:")
+                || head.startsWith("#notetype") || head.startsWith("#deck")) {
+            return ANKI;
+        }
+        
+        boolean sawTabs = false;
+        for (String line : head.split("\r\n|\r|\n")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith(CardFields.QUESTION_PREFIX) || trimmed.startsWith(CardFields.ANSWER_PREFIX)
+                    || CardSectionReader.isSeparator(line)) {
+                return BLOCK;
+            }
+            if (line.indexOf('\t') >= 0) {
+                sawTabs = true;
+            }
+        }
+        // Older Anki exports are headerless tab-separated .txt files
+        return sawTabs ? ANKI : BLOCK;
+    }
+}
@@ -0,0 +1,23 @@
+package com.flashquest.service;
+
+/**
+ * One card's worth of input from an import file.
+ * Sections are handed to parse workers, so parseFields must not touch shared mutable state.
+ */
+interface ImportSection {
+
+    /**
+     * Gets the 1-based card number used in import messages.
+     */
+    int getCardNumber();
+
+    /**
+     * Gets the file line the section starts on.
+     */
+    long getLineNumber();
+
+    /**
+     * Extracts the raw field values of the card.
+     */
+    CardFields parseFields();
+}
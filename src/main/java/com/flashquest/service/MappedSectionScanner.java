@@ -0,0 +1,325 @@
+package com.flashquest.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Zero-copy section scanner for large import files.
+ *
+ * Maps the file in read-only windows and finds "---" separators and field prefixes at the byte level.
+ * The importing thread only locates section boundaries; parse workers extract fields straight from the
+ * mapping and decode just the field slices to Strings. Splitting rules match {@link CardSectionReader}:
+ * lines end at \n, \r or \r\n, and whitespace means bytes up to 0x20, as with String.trim().
+ */
+final class MappedSectionScanner implements SectionSource {
+    private static final long DEFAULT_WINDOW_SIZE = 256L * 1024 * 1024;
+
+    private static final byte[][] FIELD_PREFIXES = {
+        ascii(CardFields.QUESTION_PREFIX),
+        ascii(CardFields.ANSWER_PREFIX),
+        ascii(CardFields.DIFFICULTY_PREFIX),
+        ascii(CardFields.CATEGORY_PREFIX),
+        ascii(CardFields.TAGS_PREFIX)
+    };
+    private static final int QUESTION = 0;
+    private static final int ANSWER = 1;
+    private static final int DIFFICULTY = 2;
+    private static final int CATEGORY = 3;
+    private static final int TAGS = 4;
+
+    private static final long LF_WORD = 0x0A0A0A0A0A0A0A0AL;
+    private static final long CR_WORD = 0x0D0D0D0D0D0D0D0DL;
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final long windowSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private int position;
+    private long lineNumber;
+    private int sectionCount;
+
+    private MappedSectionScanner(FileChannel channel, long windowSize) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.windowSize = windowSize;
+        mapWindow(0);
+    }
+
+    /**
+     * Opens a file for mapped scanning.
+     */
+    static MappedSectionScanner open(File file) throws IOException {
+        return open(file, DEFAULT_WINDOW_SIZE);
+    }
+
+    static MappedSectionScanner open(File file, long windowSize) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            return new MappedSectionScanner(channel, windowSize);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public ImportSection next() throws IOException {
+        while (true) {
+            int limit = window.limit();
+            boolean lastWindow = windowStart + limit >= fileSize;
+            int contentStart = -1;
+            long startLine = 0;
+            int scan = position;
+            
+            while (scan < limit) {
+                int lineStart = scan;
+                int lineEnd = indexOfLineBreak(window, lineStart, limit);
+                
+                int nextLine;
+                if (lineEnd < limit) {
+                    nextLine = lineEnd + 1;
+                    if (window.get(lineEnd) == '\r') {
+                        // A \r at the window edge may be the first half of \r\n
+                        if (nextLine == limit && !lastWindow) break;
+                        if (nextLine < limit && window.get(nextLine) == '\n') nextLine++;
+                    }
+                } else if (lastWindow) {
+                    nextLine = limit;
+                } else {
+                    break; // Line continues past the window
+                }
+                
+                lineNumber++;
+                if (isSeparator(window, lineStart, lineEnd)) {
+                    if (contentStart >= 0) {
+                        position = nextLine;
+                        return new Section(window, contentStart, lineStart, ++sectionCount, startLine);
+                    }
+                } else if (contentStart < 0 && !isBlank(window, lineStart, lineEnd)) {
+                    contentStart = lineStart;
+                    startLine = lineNumber;
+                }
+                scan = nextLine;
+            }
+            
+            if (lastWindow) {
+                position = limit;
+                return contentStart >= 0 ? new Section(window, contentStart, limit, ++sectionCount, startLine) : null;
+            }
+            
+            // Remap so the unfinished section (or line) starts the next window
+            int restart = contentStart >= 0 ? contentStart : scan;
+            if (restart == 0) {
+                throw new IOException("Card section near byte " + windowStart + " is larger than the "
+                    + (windowSize >> 20) + " MB mapping window");
+            }
+            if (contentStart >= 0) {
+                lineNumber = startLine - 1;
+            }
+            mapWindow(windowStart + restart);
+        }
+    }
+
+    @Override
+    public long getBytesRead() { return windowStart + position; }
+
+    @Override
+    public long getLineNumber() { return lineNumber; }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void mapWindow(long start) throws IOException {
+        long length = Math.min(windowSize, fileSize - start);
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        windowStart = start;
+        position = 0;
+    }
+
+    /**
+     * Finds the next \n or \r in [from, limit), or limit if there is none.
+     * Tests eight bytes per step; the mapping is big-endian, so the first byte is the most significant.
+     */
+    private static int indexOfLineBreak(MappedByteBuffer buffer, int from, int limit) {
+        int i = from;
+        for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+            long word = buffer.getLong(i);
+            long matches = zeroBytes(word ^ LF_WORD) | zeroBytes(word ^ CR_WORD);
+            if (matches != 0) {
+                return i + (Long.numberOfLeadingZeros(matches) >>> 3);
+            }
+        }
+        for (; i < limit; i++) {
+            byte b = buffer.get(i);
+            if (b == '\n' || b == '\r') return i;
+        }
+        return limit;
+    }
+
+    /**
+     * Sets the high bit of every byte that is zero, with no false positives.
+     */
+    private static long zeroBytes(long word) {
+        long low7 = (word & LOW_SEVEN_BITS) + LOW_SEVEN_BITS;
+        return ~(low7 | word | LOW_SEVEN_BITS);
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return (b & 0xFF) <= ' ';
+    }
+
+    private static boolean isBlank(MappedByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isWhitespace(buffer.get(i))) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSeparator(MappedByteBuffer buffer, int start, int end) {
+        if (end - start < 3 || buffer.get(start) != '-' || buffer.get(start + 1) != '-' || buffer.get(start + 2) != '-') {
+            return false;
+        }
+        for (int i = start + 3; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '\t' && b != 0x0B && b != '\f') return false;
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * A section as a byte range of a mapped window. Parsing only reads the mapping with absolute
+     * gets, so sections can be parsed on any thread.
+     */
+    private static final class Section implements ImportSection {
+        private final MappedByteBuffer buffer;
+        private final int start;
+        private final int end;
+        private final int cardNumber;
+        private final long lineNumber;
+        
+        Section(MappedByteBuffer buffer, int start, int end, int cardNumber, long lineNumber) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+            this.cardNumber = cardNumber;
+            this.lineNumber = lineNumber;
+        }
+        
+        @Override
+        public int getCardNumber() { return cardNumber; }
+        
+        @Override
+        public long getLineNumber() { return lineNumber; }
+        
+        @Override
+        public CardFields parseFields() {
+            String[] values = new String[FIELD_PREFIXES.length];
+            FieldSlices field = null;
+            int fieldIndex = -1;
+            
+            int pos = start;
+            while (pos < end) {
+                int lineStart = pos;
+                int lineEnd = indexOfLineBreak(buffer, lineStart, end);
+                pos = lineEnd + 1;
+                if (lineEnd < end && buffer.get(lineEnd) == '\r' && pos < end && buffer.get(pos) == '\n') pos++;
+                
+                // Trim the line in place
+                while (lineStart < lineEnd && isWhitespace(buffer.get(lineStart))) lineStart++;
+                while (lineEnd > lineStart && isWhitespace(buffer.get(lineEnd - 1))) lineEnd--;
+                
+                if (lineStart == lineEnd) {
+                    if (field != null) field.blankLine();
+                    continue;
+                }
+                
+                int prefix = matchPrefix(lineStart, lineEnd);
+                if (prefix >= 0) {
+                    if (field != null) values[fieldIndex] = field.value();
+                    fieldIndex = prefix;
+                    field = new FieldSlices(buffer);
+                    int valueStart = lineStart + FIELD_PREFIXES[prefix].length;
+                    while (valueStart < lineEnd && isWhitespace(buffer.get(valueStart))) valueStart++;
+                    if (valueStart < lineEnd) field.text(valueStart, lineEnd);
+                } else if (field != null) {
+                    field.text(lineStart, lineEnd);
+                }
+            }
+            if (field != null) values[fieldIndex] = field.value();
+            
+            return new CardFields(values[QUESTION], values[ANSWER], values[DIFFICULTY], values[CATEGORY], values[TAGS]);
+        }
+        
+        private int matchPrefix(int lineStart, int lineEnd) {
+            for (int field = 0; field < FIELD_PREFIXES.length; field++) {
+                byte[] prefix = FIELD_PREFIXES[field];
+                if (lineEnd - lineStart < prefix.length) continue;
+                
+                boolean matches = true;
+                for (int i = 0; i < prefix.length && matches; i++) {
+                    matches = buffer.get(lineStart + i) == prefix[i];
+                }
+                if (matches) return field;
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Accumulates one field's trimmed lines. A single-line value is decoded straight from the mapping;
+     * only multi-line values need a builder. Lines are joined with one newline plus one per blank line between them.
+     */
+    private static final class FieldSlices {
+        private final MappedByteBuffer buffer;
+        private int firstStart = -1;
+        private int firstEnd;
+        private StringBuilder multiLine;
+        private int pendingBlankLines;
+        
+        FieldSlices(MappedByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+        
+        void blankLine() {
+            // Blank lines before the first text line are trimmed away
+            if (firstStart >= 0) pendingBlankLines++;
+        }
+        
+        void text(int start, int end) {
+            if (firstStart < 0) {
+                firstStart = start;
+                firstEnd = end;
+                return;
+            }
+            if (multiLine == null) {
+                multiLine = new StringBuilder(decode(firstStart, firstEnd));
+            }
+            multiLine.append("\n".repeat(pendingBlankLines + 1)).append(decode(start, end));
+            pendingBlankLines = 0;
+        }
+        
+        String value() {
+            if (firstStart < 0) return "";
+            return multiLine != null ? multiLine.toString() : decode(firstStart, firstEnd);
+        }
+        
+        private String decode(int start, int end) {
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
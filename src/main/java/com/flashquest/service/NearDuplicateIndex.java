@@ -0,0 +1,278 @@
+package com.flashquest.service;
+
+import com.flashquest.model.Flashcard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash/LSH index over flashcard questions for spotting near-duplicates.
+ *
+ * Each question is normalized and cut into character shingles, then summarized by a MinHash
+ * signature; the fraction of matching signature positions estimates the Jaccard similarity of
+ * two questions. Signatures are split into bands that are hashed into buckets, so a lookup only
+ * compares cards sharing at least one band instead of scanning the whole deck.
+ *
+ * The index only grows. Build a new one when the deck is replaced.
+ */
+public class NearDuplicateIndex {
+    /** Estimated similarity at which two questions are reported as near-duplicates. */
+    public static final double DEFAULT_THRESHOLD = 0.7;
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final long SHINGLE_MASK = (1L << (16 * SHINGLE_LENGTH)) - 1;
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 4;
+    private static final int SIGNATURE_LENGTH = BANDS * ROWS_PER_BAND;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Multiply-shift hash family; fixed seed so signatures are stable between runs
+    private static final long[] MULTIPLIERS = new long[SIGNATURE_LENGTH];
+    private static final long[] INCREMENTS = new long[SIGNATURE_LENGTH];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDF1A5C0DEL);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1;
+            INCREMENTS[i] = random.nextLong();
+        }
+    }
+
+    private final List<Flashcard> cards = new ArrayList<>();
+    private int[] signatures = new int[INITIAL_CAPACITY * SIGNATURE_LENGTH];
+    private int[] nextInBucket = new int[INITIAL_CAPACITY * BANDS];
+    private int[] visitedStamps = new int[INITIAL_CAPACITY];
+    private int stamp;
+
+    // Open-addressed bucket table keyed by band hash; heads hold entry + 1, 0 marks an empty slot
+    private long[] bucketKeys = new long[INITIAL_CAPACITY * BANDS * 2];
+    private int[] bucketHeads = new int[INITIAL_CAPACITY * BANDS * 2];
+    private int bucketCount;
+
+    /**
+     * A suspected near-duplicate found in the index.
+     */
+    public static class Match {
+        private final Flashcard card;
+        private final double similarity;
+        
+        public Match(Flashcard card, double similarity) {
+            this.card = card;
+            this.similarity = similarity;
+        }
+        
+        public Flashcard getCard() { return card; }
+        public double getSimilarity() { return similarity; }
+    }
+
+    /**
+     * Computes the MinHash signature of a question. Safe to call from any thread.
+     */
+    public static int[] signatureOf(String question) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        
+        String text = normalize(question);
+        long shingle = 0;
+        for (int i = 0; i < text.length(); i++) {
+            shingle = (shingle << 16 | text.charAt(i)) & SHINGLE_MASK;
+            if (i >= SHINGLE_LENGTH - 1) {
+                addShingle(signature, shingle);
+            }
+        }
+        if (text.length() < SHINGLE_LENGTH) {
+            // Too short to shingle, the whole text is the only shingle
+            addShingle(signature, shingle);
+        }
+        return signature;
+    }
+
+    /**
+     * Lower-cases letters and digits and collapses everything else to single spaces.
+     */
+    private static String normalize(String question) {
+        StringBuilder text = new StringBuilder(question.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < question.length(); i++) {
+            char c = question.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && text.length() > 0) {
+                    text.append(' ');
+                }
+                text.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return text.toString();
+    }
+
+    private static void addShingle(int[] signature, long shingle) {
+        long hash = mix(shingle);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            int value = (int) ((hash * MULTIPLIERS[i] + INCREMENTS[i]) >>> 33);
+            if (value < signature[i]) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Gets the number of indexed cards.
+     */
+    public synchronized int size() {
+        return cards.size();
+    }
+
+    /**
+     * Indexes a card.
+     */
+    public void add(Flashcard card) {
+        add(card, signatureOf(card.getQuestion()));
+    }
+
+    /**
+     * Indexes a card whose signature was computed with {@link #signatureOf(String)}.
+     */
+    public synchronized void add(Flashcard card, int[] signature) {
+        int entry = cards.size();
+        ensureCapacity(entry + 1);
+        cards.add(card);
+        System.arraycopy(signature, 0, signatures, entry * SIGNATURE_LENGTH, SIGNATURE_LENGTH);
+        
+        for (int band = 0; band < BANDS; band++) {
+            if ((bucketCount + 1) * 2 > bucketKeys.length) {
+                rehash(bucketKeys.length * 2);
+            }
+            long key = bandKey(signature, band);
+            int slot = findSlot(key);
+            if (bucketHeads[slot] == 0) {
+                bucketKeys[slot] = key;
+                bucketCount++;
+            }
+            nextInBucket[entry * BANDS + band] = bucketHeads[slot];
+            bucketHeads[slot] = entry + 1;
+        }
+    }
+
+    /**
+     * Indexes the cards appended to an append-only deck since the last call.
+     * Signatures are computed in parallel, so catching up with a large deck stays quick.
+     */
+    public synchronized void indexAppended(List<Flashcard> deck) {
+        int indexed = cards.size();
+        if (deck.size() <= indexed) {
+            return;
+        }
+        
+        List<Flashcard> appended = deck.subList(indexed, deck.size());
+        int[][] pending = appended.parallelStream()
+            .map(card -> signatureOf(card.getQuestion()))
+            .toArray(int[][]::new);
+        for (int i = 0; i < pending.length; i++) {
+            add(appended.get(i), pending[i]);
+        }
+    }
+
+    /**
+     * Finds the most similar indexed question.
+     *
+     * @param question Question to look up
+     * @param threshold Minimum estimated similarity, between 0 and 1
+     * @return the best match, or null if no indexed card reaches the threshold
+     */
+    public Match findBestMatch(String question, double threshold) {
+        return findBestMatch(signatureOf(question), threshold);
+    }
+
+    /**
+     * Finds the most similar indexed card for a precomputed signature.
+     * Only cards sharing a band bucket with the signature are compared.
+     */
+    public synchronized Match findBestMatch(int[] signature, double threshold) {
+        if (++stamp == 0) {
+            Arrays.fill(visitedStamps, 0);
+            stamp = 1;
+        }
+        
+        int requiredMatches = (int) Math.ceil(threshold * SIGNATURE_LENGTH);
+        int bestEntry = -1;
+        int bestMatches = requiredMatches - 1;
+        for (int band = 0; band < BANDS; band++) {
+            int slot = findSlot(bandKey(signature, band));
+            for (int entry = bucketHeads[slot] - 1; entry >= 0; entry = nextInBucket[entry * BANDS + band] - 1) {
+                if (visitedStamps[entry] == stamp) continue;
+                visitedStamps[entry] = stamp;
+                
+                int matches = countMatches(signature, entry * SIGNATURE_LENGTH);
+                if (matches > bestMatches) {
+                    bestMatches = matches;
+                    bestEntry = entry;
+                }
+            }
+        }
+        return bestEntry < 0 ? null
+            : new Match(cards.get(bestEntry), bestMatches / (double) SIGNATURE_LENGTH);
+    }
+
+    private int countMatches(int[] signature, int offset) {
+        int matches = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (signatures[offset + i] == signature[i]) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long hash = band;
+        int start = band * ROWS_PER_BAND;
+        for (int row = 0; row < ROWS_PER_BAND; row++) {
+            hash = hash * 0x9E3779B97F4A7C15L + signature[start + row];
+        }
+        return mix(hash);
+    }
+
+    private int findSlot(long key) {
+        int mask = bucketKeys.length - 1;
+        int slot = (int) (key ^ (key >>> 32)) & mask;
+        while (bucketHeads[slot] != 0 && bucketKeys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newLength) {
+        long[] oldKeys = bucketKeys;
+        int[] oldHeads = bucketHeads;
+        bucketKeys = new long[newLength];
+        bucketHeads = new int[newLength];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHeads[i] != 0) {
+                int slot = findSlot(oldKeys[i]);
+                bucketKeys[slot] = oldKeys[i];
+                bucketHeads[slot] = oldHeads[i];
+            }
+        }
+    }
+
+    private void ensureCapacity(int entries) {
+        if (entries <= visitedStamps.length) {
+            return;
+        }
+        int capacity = Math.max(entries, visitedStamps.length * 2);
+        signatures = Arrays.copyOf(signatures, capacity * SIGNATURE_LENGTH);
+        nextInBucket = Arrays.copyOf(nextInBucket, capacity * BANDS);
+        visitedStamps = Arrays.copyOf(visitedStamps, capacity);
+    }
+}
@@ -0,0 +1,164 @@
+package com.flashquest.service;
+
+import com.flashquest.model.Flashcard;
+import com.flashquest.model.Player;
+import com.flashquest.model.Quest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Quest gameplay rules shared by GameService and SessionEngine:
+ * card selection, answer handling and completion rewards.
+ * Stateless - callers are responsible for locking the player and quest they pass in.
+ */
+final class QuestRules {
+
+    private QuestRules() {
+    }
+
+    /**
+     * Selects flashcards for a quest from the given deck.
+     */
+    static List<Flashcard> selectQuestFlashcards(Quest quest, List<Flashcard> deck) {
+        List<Flashcard> availableCards = deck.stream()
+            .filter(card -> quest.getCategoryFilter().isEmpty() || 
+                           quest.getCategoryFilter().contains(card.getCategory()))
+            .collect(Collectors.toList());
+        
+        if (availableCards.isEmpty()) {
+            availableCards = new ArrayList<>(deck);
+        }
+        
+        return selectWeighted(availableCards, quest.getQuestionCount());
+    }
+
+    /**
+     * Weighted random selection favoring cards with a higher selection weight.
+     * Weights are read once up front because other sessions may record answers on the same
+     * cards while we sort, which would otherwise break the comparator's contract.
+     * @param availableCards mutable candidate pool; selected cards are removed from it
+     */
+    static List<Flashcard> selectWeighted(List<Flashcard> availableCards, int questionCount) {
+        // Apply weighted selection based on usage frequency
+        List<WeightedCard> pool = new ArrayList<>(availableCards.size());
+        for (Flashcard card : availableCards) {
+            pool.add(new WeightedCard(card, card.getSelectionWeight()));
+        }
+        pool.sort((a, b) -> Double.compare(b.weight, a.weight));
+        
+        // Select required number of cards (or all available if less)
+        int cardsNeeded = Math.min(questionCount, pool.size());
+        
+        // For now, use simple selection - could be enhanced with smarter algorithms
+        List<Flashcard> selected = new ArrayList<>();
+        Random random = new Random();
+        
+        while (selected.size() < cardsNeeded && !pool.isEmpty()) {
+            // Weighted random selection favoring higher weight cards
+            double totalWeight = pool.stream().mapToDouble(WeightedCard::weight).sum();
+            double randomValue = random.nextDouble() * totalWeight;
+            
+            double currentWeight = 0;
+            for (int i = 0; i < pool.size(); i++) {
+                currentWeight += pool.get(i).weight;
+                if (randomValue <= currentWeight) {
+                    selected.add(pool.remove(i).card);
+                    break;
+                }
+            }
+        }
+        
+        availableCards.clear();
+        for (WeightedCard remaining : pool) {
+            availableCards.add(remaining.card);
+        }
+        return selected;
+    }
+
+    /**
+     * A card paired with the selection weight it had when selection started.
+     */
+    private record WeightedCard(Flashcard card, double weight) { }
+
+    /**
+     * Resets the player's HP for a quest that is about to start.
+     */
+    static void preparePlayer(Player player, Quest quest) {
+        player.restoreFullHp();
+        if (quest.getCustomHp() != 3) {
+            player.setCustomHp(quest.getCustomHp());
+        }
+    }
+
+    /**
+     * Applies an answer's effect on card statistics and the player.
+     * @return true if the player ran out of HP; the quest is then marked as failed
+     */
+    static boolean applyAnswer(Player player, Quest quest, boolean correct) {
+        Flashcard currentCard = quest.getCurrentFlashcard();
+        if (currentCard == null) {
+            return false;
+        }
+        
+        // Record answer for flashcard statistics
+        currentCard.recordAnswer(correct);
+        
+        // Track Java questions for achievements
+        if (isJavaCategory(currentCard.getCategory())) {
+            if (correct) {
+                player.recordJavaQuestionCorrect();
+            }
+        }
+        
+        // Apply HP loss for incorrect answers
+        if (!correct) {
+            boolean died = player.takeDamage(1);
+            if (died) {
+                // Quest failed due to HP loss - this is not an error, it's game mechanics
+                quest.completeWithFailure();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Awards XP and achievements for a completed quest.
+     * @return true if the player leveled up
+     */
+    static boolean awardCompletion(Player player, Quest quest) {
+        // Award XP to player
+        int questXp = quest.getTotalXpEarned();
+        boolean leveledUp = player.addXp(questXp);
+        
+        // Record quest completion for achievements
+        boolean isPerfect = quest.isPerfectQuest();
+        player.completeQuest(isPerfect);
+        
+        // Check for Survivor achievement (complete with exactly 1 HP)
+        if (player.getCurrentHp() == 1 && 
+            !player.getUnlockedTitles().contains("Survivor")) {
+            player.getUnlockedTitles().add("Survivor");
+        }
+        
+        return leveledUp;
+    }
+
+    /**
+     * Checks if a category is Java-related for achievement tracking.
+     */
+    static boolean isJavaCategory(String category) {
+        return category != null && (
+            category.toLowerCase().contains("java") ||
+            category.equals("Java Basics") ||
+            category.equals("Object-Oriented Programming") ||
+            category.equals("Collections Framework") ||
+            category.equals("Exception Handling") ||
+            category.equals("Concurrency") ||
+            category.equals("Advanced Topics")
+        );
+    }
+}
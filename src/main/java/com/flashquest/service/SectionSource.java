@@ -0,0 +1,26 @@
+package com.flashquest.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Streams card sections out of an import file in file order.
+ */
+interface SectionSource extends Closeable {
+
+    /**
+     * Reads the next section.
+     * @return the section, or null at end of input
+     */
+    ImportSection next() throws IOException;
+
+    /**
+     * Gets the number of file bytes consumed so far, for progress reporting.
+     */
+    long getBytesRead();
+
+    /**
+     * Gets the number of lines consumed so far.
+     */
+    long getLineNumber();
+}
@@ -0,0 +1,235 @@
+package com.flashquest.service;
+
+import com.flashquest.model.DifficultyDistribution;
+import com.flashquest.model.Flashcard;
+import com.flashquest.model.Player;
+import com.flashquest.model.Quest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Session-scoped quest engine that lets several players quest concurrently in one process.
+ *
+ * Each session maps a session id to a player and their active quest and carries its own
+ * lock, so sessions never block each other. All sessions share one read-only deck,
+ * normally GameService's current deck list, plus a category index built once per deck version.
+ */
+public class SessionEngine {
+    private static final Logger logger = LoggerFactory.getLogger(SessionEngine.class);
+
+    private static final String QUICK_QUEST_NAME = "Quick Quest";
+    private static final int QUICK_QUEST_QUESTION_COUNT = 10;
+
+    private final Supplier<List<Flashcard>> deckSupplier;
+    private final Consumer<Player> playerSaver;
+    private final ConcurrentHashMap<String, GameSession> sessions;
+    private final ConcurrentHashMap<String, GameSession> sessionsByPlayer;
+    private final AtomicReference<DeckIndex> deckIndex;
+
+    /**
+     * Creates an engine over a shared deck.
+     *
+     * @param deckSupplier supplies the current read-only deck, e.g. GameService::getAllFlashcards
+     * @param playerSaver persists a session's player after quest completion or failure
+     */
+    public SessionEngine(Supplier<List<Flashcard>> deckSupplier, Consumer<Player> playerSaver) {
+        this.deckSupplier = deckSupplier;
+        this.playerSaver = playerSaver != null ? playerSaver : player -> { };
+        this.sessions = new ConcurrentHashMap<>();
+        this.sessionsByPlayer = new ConcurrentHashMap<>();
+        this.deckIndex = new AtomicReference<>();
+    }
+
+    /**
+     * Opens a new session for a player. A player can have only one open session at a time.
+     * @return the new session
+     */
+    public GameSession openSession(Player player) {
+        if (player == null) {
+            throw new IllegalArgumentException("Player cannot be null");
+        }
+        
+        GameSession session = new GameSession(UUID.randomUUID().toString(), player);
+        // Claim the player first, so two threads opening the same player can't both succeed
+        if (sessionsByPlayer.putIfAbsent(player.getId(), session) != null) {
+            throw new IllegalStateException("Player already has an open session: " + player.getName());
+        }
+        sessions.put(session.getSessionId(), session);
+        logger.info("Opened session {} for player {}", session.getSessionId(), player.getName());
+        return session;
+    }
+
+    /**
+     * Closes a session, abandoning any active quest.
+     */
+    public void closeSession(String sessionId) {
+        GameSession session = sessions.remove(sessionId);
+        if (session != null) {
+            sessionsByPlayer.remove(session.getPlayer().getId(), session);
+            logger.info("Closed session {} for player {}", sessionId, session.getPlayer().getName());
+        }
+    }
+
+    /**
+     * Gets an open session.
+     */
+    public GameSession getSession(String sessionId) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown session: " + sessionId);
+        }
+        return session;
+    }
+
+    /**
+     * Gets all open sessions.
+     */
+    public Collection<GameSession> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    /**
+     * Starts a quick quest for the session's player.
+     */
+    public Quest startQuickQuest(String sessionId) {
+        return startQuest(sessionId, QUICK_QUEST_NAME, QUICK_QUEST_QUESTION_COUNT,
+            new ArrayList<>(), DifficultyDistribution.balanced());
+    }
+
+    /**
+     * Starts a quest with specified parameters for the session's player.
+     */
+    public Quest startQuest(String sessionId, String name, int questionCount,
+                            List<String> categoryFilter, DifficultyDistribution difficulty) {
+        return withSession(sessionId, session -> {
+            DeckIndex index = currentIndex();
+            if (index.deck.isEmpty()) {
+                throw new IllegalStateException("No flashcards available");
+            }
+            
+            Quest quest = new Quest(name);
+            quest.setQuestionCount(questionCount);
+            quest.setCategoryFilter(categoryFilter);
+            quest.setDifficultyDistribution(difficulty);
+            
+            List<Flashcard> selectedCards = QuestRules.selectWeighted(
+                index.candidatesFor(quest.getCategoryFilter()), quest.getQuestionCount());
+            
+            if (selectedCards.size() < questionCount) {
+                throw new IllegalStateException("Not enough flashcards available for quest. Need " +
+                    questionCount + ", found " + selectedCards.size());
+            }
+            
+            quest.startQuest(selectedCards);
+            session.setActiveQuest(quest);
+            QuestRules.preparePlayer(session.getPlayer(), quest);
+            
+            logger.debug("Session {} started quest: {} with {} questions",
+                sessionId, name, selectedCards.size());
+            return quest;
+        });
+    }
+
+    /**
+     * Processes an answer in the session's active quest.
+     */
+    public Quest.QuestionResult processQuestAnswer(String sessionId, boolean correct) {
+        return withSession(sessionId, session -> {
+            Quest activeQuest = session.getActiveQuest();
+            if (activeQuest == null || !activeQuest.isActive()) {
+                throw new IllegalStateException("No active quest");
+            }
+            
+            Player player = session.getPlayer();
+            if (QuestRules.applyAnswer(player, activeQuest, correct)) {
+                session.setActiveQuest(null);
+                playerSaver.accept(player);
+                return new Quest.QuestionResult(0, true, false); // Quest complete due to failure
+            }
+            
+            Quest.QuestionResult result = activeQuest.processAnswer(correct);
+            if (result.isQuestComplete()) {
+                QuestRules.awardCompletion(player, activeQuest);
+                session.setActiveQuest(null);
+                playerSaver.accept(player);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Runs an action while holding the session's lock.
+     */
+    private <T> T withSession(String sessionId, Function<GameSession, T> action) {
+        GameSession session = getSession(sessionId);
+        session.getLock().lock();
+        try {
+            return action.apply(session);
+        } finally {
+            session.getLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the index for the current deck, rebuilding it once when the deck snapshot changes.
+     */
+    private DeckIndex currentIndex() {
+        List<Flashcard> deck = deckSupplier.get();
+        DeckIndex index = deckIndex.get();
+        if (index != null && index.deck == deck) {
+            return index;
+        }
+        
+        DeckIndex rebuilt = new DeckIndex(deck);
+        // Another session may have rebuilt concurrently; either result is equivalent
+        deckIndex.compareAndSet(index, rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * Read-only category index over one deck snapshot, shared by all sessions.
+     */
+    private static class DeckIndex {
+        private final List<Flashcard> deck;
+        private final Map<String, List<Flashcard>> byCategory;
+        
+        DeckIndex(List<Flashcard> deck) {
+            this.deck = deck;
+            Map<String, List<Flashcard>> categories = new HashMap<>();
+            for (Flashcard card : deck) {
+                categories.computeIfAbsent(card.getCategory(), key -> new ArrayList<>()).add(card);
+            }
+            this.byCategory = categories;
+        }
+        
+        /**
+         * Returns a fresh, mutable candidate pool for the category filter.
+         * Falls back to the whole deck when the filter matches nothing.
+         */
+        List<Flashcard> candidatesFor(List<String> categoryFilter) {
+            if (categoryFilter.isEmpty()) {
+                return new ArrayList<>(deck);
+            }
+            
+            List<Flashcard> candidates = new ArrayList<>();
+            for (String category : new LinkedHashSet<>(categoryFilter)) {
+                candidates.addAll(byCategory.getOrDefault(category, List.of()));
+            }
+            return candidates.isEmpty() ? new ArrayList<>(deck) : candidates;
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package com.flashquest.service;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative ints, laid out like a roaring bitmap.
+ *
+ * Values are split by their high 16 bits into containers. A sparse container keeps a sorted
+ * char array of the low bits; once it holds more than 4096 values it switches to a 65536-bit
+ * bitmap, which is smaller from then on. Intersections and unions work container by container,
+ * so combining two posting lists costs roughly the size of the smaller one.
+ *
+ * Not thread-safe; TagIndex and TrigramIndex guard their bitmaps with their own locks.
+ */
+final class TagBitmap {
+    private static final int ARRAY_CONTAINER_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+
+    TagBitmap() {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+    }
+
+    /**
+     * Adds a value. Appending in ascending order, as the tag index does, is the fast path.
+     */
+    void add(int value) {
+        char high = (char) (value >>> 16);
+        char low = (char) value;
+        
+        int position;
+        if (containerCount > 0 && keys[containerCount - 1] == high) {
+            position = containerCount - 1;
+        } else {
+            position = Arrays.binarySearch(keys, 0, containerCount, high);
+            if (position < 0) {
+                position = -position - 1;
+                insertContainer(position, high, new ArrayContainer());
+            }
+        }
+        containers[position] = containers[position].add(low);
+    }
+
+    boolean contains(int value) {
+        int position = Arrays.binarySearch(keys, 0, containerCount, (char) (value >>> 16));
+        return position >= 0 && containers[position].contains((char) value);
+    }
+
+    int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < containerCount; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return containerCount == 0;
+    }
+
+    /**
+     * Returns the intersection of this bitmap and another as a new bitmap.
+     */
+    TagBitmap and(TagBitmap other) {
+        TagBitmap result = new TagBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                Container both = containers[i].and(other.containers[j]);
+                if (both.cardinality() > 0) {
+                    result.appendContainer(keys[i], both);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the union of this bitmap and another as a new bitmap.
+     */
+    TagBitmap or(TagBitmap other) {
+        TagBitmap result = new TagBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            if (j >= other.containerCount || i < containerCount && keys[i] < other.keys[j]) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (i >= containerCount || keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calls the action with each value in ascending order.
+     */
+    void forEach(IntConsumer action) {
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    private void insertContainer(int position, char key, Container container) {
+        if (containerCount == keys.length) {
+            keys = Arrays.copyOf(keys, containerCount * 2);
+            containers = Arrays.copyOf(containers, containerCount * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, containerCount - position);
+        System.arraycopy(containers, position, containers, position + 1, containerCount - position);
+        keys[position] = key;
+        containers[position] = container;
+        containerCount++;
+    }
+
+    private void appendContainer(char key, Container container) {
+        insertContainer(containerCount, key, container);
+    }
+
+    /**
+     * The low 16 bits of all values sharing one high half.
+     */
+    private abstract static class Container {
+        abstract Container add(char value);
+        abstract boolean contains(char value);
+        abstract int cardinality();
+        abstract Container and(Container other);
+        abstract Container or(Container other);
+        abstract Container copy();
+        abstract void forEach(int high, IntConsumer action);
+    }
+
+    /**
+     * Sorted array of low bits, for containers with up to 4096 values.
+     */
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int size;
+        
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+        
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+        
+        @Override
+        Container add(char value) {
+            int position = size > 0 && values[size - 1] < value ? -size - 1
+                : Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (size == ARRAY_CONTAINER_LIMIT) {
+                return toBitmap().add(value);
+            }
+            
+            position = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(size * 2, 4), ARRAY_CONTAINER_LIMIT));
+            }
+            System.arraycopy(values, position, values, position + 1, size - position);
+            values[position] = value;
+            size++;
+            return this;
+        }
+        
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+        
+        @Override
+        int cardinality() {
+            return size;
+        }
+        
+        @Override
+        Container and(Container other) {
+            char[] result = new char[size];
+            int count = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < size && j < array.size) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[count++] = values[i];
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    if (other.contains(values[i])) {
+                        result[count++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, count);
+        }
+        
+        @Override
+        Container or(Container other) {
+            if (!(other instanceof ArrayContainer array)) {
+                return other.or(this);
+            }
+            char[] result = new char[size + array.size];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < array.size) {
+                if (j >= array.size || i < size && values[i] < array.values[j]) {
+                    result[count++] = values[i++];
+                } else if (i >= size || values[i] > array.values[j]) {
+                    result[count++] = array.values[j++];
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+            ArrayContainer union = new ArrayContainer(result, count);
+            return count > ARRAY_CONTAINER_LIMIT ? union.toBitmap() : union;
+        }
+        
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(size, 1)), size);
+        }
+        
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(high | values[i]);
+            }
+        }
+        
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer(new long[BITMAP_WORDS], 0);
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * Plain 65536-bit bitmap, for dense containers.
+     */
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+        
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+        
+        @Override
+        Container add(char value) {
+            long bit = 1L << value;
+            int word = value >>> 6;
+            if ((words[word] & bit) == 0) {
+                words[word] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+        
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+        
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+        
+        @Override
+        Container and(Container other) {
+            if (!(other instanceof BitmapContainer bitmap)) {
+                return other.and(this);
+            }
+            long[] result = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                result[i] = words[i] & bitmap.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            BitmapContainer intersection = new BitmapContainer(result, count);
+            return count > ARRAY_CONTAINER_LIMIT ? intersection : intersection.toArray();
+        }
+        
+        @Override
+        Container or(Container other) {
+            BitmapContainer union = (BitmapContainer) copy();
+            if (other instanceof BitmapContainer bitmap) {
+                int count = 0;
+                for (int i = 0; i < BITMAP_WORDS; i++) {
+                    union.words[i] |= bitmap.words[i];
+                    count += Long.bitCount(union.words[i]);
+                }
+                union.cardinality = count;
+            } else {
+                other.forEach(0, value -> union.add((char) value));
+            }
+            return union;
+        }
+        
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+        
+        @Override
+        void forEach(int high, IntConsumer action) {
+            for (int i = 0; i < BITMAP_WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    action.accept(high | i << 6 | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+        
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.flashquest.service;
+
+import com.flashquest.model.Flashcard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index from tags to flashcards.
+ *
+ * Tags are interned to small ids, compared case-insensitively, and each id maps to a compressed
+ * posting list of deck positions. Queries combine posting lists with AND/OR, e.g.
+ * {@code java & streams | collections}, where & binds tighter than |. The words "and" and "or"
+ * work as well.
+ *
+ * The index only grows. Build a new one when the deck is replaced.
+ */
+public class TagIndex {
+    private static final Pattern OR_SEPARATOR = Pattern.compile("\\s*(?:\\||\\bor\\b)\\s*", Pattern.CASE_INSENSITIVE);
+    private static final Pattern AND_SEPARATOR = Pattern.compile("\\s*(?:&|\\band\\b)\\s*", Pattern.CASE_INSENSITIVE);
+
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<String> tagNames = new ArrayList<>();
+    private final List<TagBitmap> postings = new ArrayList<>();
+    private final List<Flashcard> cards = new ArrayList<>();
+
+    /**
+     * Normalizes a tag for comparison.
+     */
+    public static String normalize(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Indexes the cards appended to an append-only deck since the last call.
+     */
+    public synchronized void indexAppended(List<Flashcard> deck) {
+        for (int position = cards.size(); position < deck.size(); position++) {
+            Flashcard card = deck.get(position);
+            cards.add(card);
+            for (String tag : card.getTags()) {
+                if (!tag.isBlank()) {
+                    postings.get(internTag(tag)).add(position);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of indexed cards.
+     */
+    public synchronized int size() {
+        return cards.size();
+    }
+
+    /**
+     * Gets every known tag with the number of cards carrying it, sorted by tag.
+     */
+    public synchronized Map<String, Integer> getTagCounts() {
+        Map<String, Integer> counts = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int id = 0; id < tagNames.size(); id++) {
+            counts.put(tagNames.get(id), postings.get(id).cardinality());
+        }
+        return counts;
+    }
+
+    /**
+     * Finds the cards matching a tag query, in deck order.
+     *
+     * @param query Tags combined with & and |, e.g. "java & streams | collections"
+     * @return matching cards, or every indexed card if the query is blank
+     */
+    public synchronized List<Flashcard> query(String query) {
+        if (query == null || query.isBlank()) {
+            return new ArrayList<>(cards);
+        }
+        
+        TagBitmap matches = evaluate(query);
+        List<Flashcard> result = new ArrayList<>(matches.cardinality());
+        matches.forEach(position -> result.add(cards.get(position)));
+        return result;
+    }
+
+    /**
+     * Counts the cards matching a tag query without materializing them.
+     */
+    public synchronized int count(String query) {
+        if (query == null || query.isBlank()) {
+            return cards.size();
+        }
+        return evaluate(query).cardinality();
+    }
+
+    /**
+     * Evaluates a query as a union of intersections. Unknown tags match nothing.
+     */
+    private TagBitmap evaluate(String query) {
+        TagBitmap union = new TagBitmap();
+        for (String alternative : OR_SEPARATOR.split(query.trim())) {
+            TagBitmap intersection = null;
+            for (String tag : AND_SEPARATOR.split(alternative.trim())) {
+                if (tag.isBlank()) continue;
+                
+                Integer id = tagIds.get(normalize(tag));
+                TagBitmap posting = id != null ? postings.get(id) : new TagBitmap();
+                intersection = intersection == null ? posting : intersection.and(posting);
+                if (intersection.isEmpty()) break;
+            }
+            if (intersection != null) {
+                union = union.or(intersection);
+            }
+        }
+        return union;
+    }
+
+    private int internTag(String tag) {
+        String key = normalize(tag);
+        Integer id = tagIds.get(key);
+        if (id == null) {
+            id = tagNames.size();
+            tagIds.put(key, id);
+            tagNames.add(tag.trim());
+            postings.add(new TagBitmap());
+        }
+        return id;
+    }
+}
@@ -0,0 +1,333 @@
+package com.flashquest.service;
+
+import com.flashquest.model.Flashcard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Trigram inverted index over flashcard text for substring and typo-tolerant search.
+ *
+ * Each card's question, answer, category and tags are lower-cased and cut into overlapping
+ * three-character grams, and each gram maps to a compressed posting list of deck positions.
+ * A substring query intersects the posting lists of its own grams, starting with the rarest,
+ * and only checks the text of the cards left over. A fuzzy query counts how many of its grams
+ * each card shares: every edit can break at most three grams, so cards sharing too few are
+ * skipped before the edit distance is computed.
+ *
+ * Queries shorter than three characters have no grams and scan the deck instead.
+ * The index only grows. Build a new one when the deck is replaced.
+ */
+public class TrigramIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final char FIELD_SEPARATOR = '\0';
+    private static final int INITIAL_GRAM_CAPACITY = 1024;
+    private static final int BATCH_SIZE = 8192;
+
+    private final List<Flashcard> cards = new ArrayList<>();
+    private final List<TagBitmap> postings = new ArrayList<>();
+
+    // Open-addressed gram table; ids hold posting index + 1, 0 marks an empty slot
+    private long[] gramKeys = new long[INITIAL_GRAM_CAPACITY];
+    private int[] gramIds = new int[INITIAL_GRAM_CAPACITY];
+
+    /**
+     * Gets the text a card is searched by: its question, answer, category and tags, lower-cased
+     * and joined so that no query can match across two of them. Safe to call from any thread.
+     */
+    public static String searchText(Flashcard card) {
+        StringBuilder text = new StringBuilder()
+            .append(card.getQuestion()).append(FIELD_SEPARATOR)
+            .append(card.getAnswer()).append(FIELD_SEPARATOR)
+            .append(card.getCategory());
+        for (String tag : card.getTags()) {
+            text.append(FIELD_SEPARATOR).append(tag);
+        }
+        return text.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalizes a query the way {@link #searchText(Flashcard)} normalizes card text.
+     */
+    public static String normalizeQuery(String query) {
+        return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Indexes the cards appended to an append-only deck since the last call.
+     *
+     * Cards are indexed in batches. A batch's positions are bucketed by gram first, so each
+     * posting list is appended to in one run rather than once per card, which keeps adding
+     * to the lists from missing the cache on every gram.
+     */
+    public synchronized void indexAppended(List<Flashcard> deck) {
+        int[] gramIdsInBatch = new int[4096];
+        int[] cardEnds = new int[BATCH_SIZE];
+        int start = cards.size();
+        while (start < deck.size()) {
+            int end = Math.min(deck.size(), start + BATCH_SIZE);
+            
+            // Intern every gram of the batch, remembering where each card's grams end
+            int gramCount = 0;
+            for (int position = start; position < end; position++) {
+                Flashcard card = deck.get(position);
+                cards.add(card);
+                
+                String text = searchText(card);
+                if (gramCount + text.length() > gramIdsInBatch.length) {
+                    gramIdsInBatch = Arrays.copyOf(gramIdsInBatch,
+                        Math.max(gramIdsInBatch.length * 2, gramCount + text.length()));
+                }
+                for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+                    long gram = gramAt(text, i);
+                    if (gram >= 0) {
+                        gramIdsInBatch[gramCount++] = internGram(gram);
+                    }
+                }
+                cardEnds[position - start] = gramCount;
+            }
+            
+            // Counting sort of the positions by gram; positions stay ascending within a gram
+            int[] bucketStarts = new int[postings.size() + 1];
+            for (int i = 0; i < gramCount; i++) {
+                bucketStarts[gramIdsInBatch[i] + 1]++;
+            }
+            for (int id = 0; id < postings.size(); id++) {
+                bucketStarts[id + 1] += bucketStarts[id];
+            }
+            int[] bucketFill = Arrays.copyOf(bucketStarts, postings.size());
+            int[] positions = new int[gramCount];
+            int i = 0;
+            for (int position = start; position < end; position++) {
+                for (; i < cardEnds[position - start]; i++) {
+                    positions[bucketFill[gramIdsInBatch[i]]++] = position;
+                }
+            }
+            
+            for (int id = 0; id < postings.size(); id++) {
+                if (bucketStarts[id] == bucketStarts[id + 1]) continue;
+                
+                TagBitmap posting = postings.get(id);
+                for (int j = bucketStarts[id]; j < bucketStarts[id + 1]; j++) {
+                    // Repeated grams within a card give the same position twice; the bitmap ignores it
+                    posting.add(positions[j]);
+                }
+            }
+            start = end;
+        }
+    }
+
+    /**
+     * Gets the number of indexed cards.
+     */
+    public synchronized int size() {
+        return cards.size();
+    }
+
+    /**
+     * Finds the cards whose text contains the query, ignoring case, in deck order.
+     */
+    public List<Flashcard> search(String query) {
+        return search(query, 0);
+    }
+
+    /**
+     * Finds the cards whose text contains the query with at most the given number of typos,
+     * ignoring case, in deck order.
+     *
+     * @param query Text to look for
+     * @param maxEdits Allowed insertions, deletions or substitutions; 0 for an exact substring
+     * @return matching cards, or every indexed card if the query is blank
+     */
+    public synchronized List<Flashcard> search(String query, int maxEdits) {
+        String pattern = normalizeQuery(query);
+        if (pattern.isEmpty()) {
+            return new ArrayList<>(cards);
+        }
+        
+        long[] grams = distinctGrams(pattern);
+        List<Flashcard> result = new ArrayList<>();
+        if (maxEdits <= 0) {
+            if (grams.length == 0) {
+                scan(pattern, 0, result);
+            } else {
+                TagBitmap candidates = intersectPostings(grams);
+                if (candidates != null) {
+                    candidates.forEach(position -> addIfContains(position, pattern, result));
+                }
+            }
+        } else {
+            // Cards within maxEdits still share all but 3 * maxEdits of the query's grams
+            int requiredGrams = grams.length - GRAM_LENGTH * maxEdits;
+            if (requiredGrams <= 0) {
+                scan(pattern, maxEdits, result);
+            } else {
+                int[] sharedGrams = countSharedGrams(grams);
+                for (int position = 0; position < sharedGrams.length; position++) {
+                    if (sharedGrams[position] >= requiredGrams
+                            && withinEdits(searchText(cards.get(position)), pattern, maxEdits)) {
+                        result.add(cards.get(position));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Intersects the posting lists of the given grams, rarest first.
+     *
+     * @return the positions holding every gram, or null if one of them is unknown
+     */
+    private TagBitmap intersectPostings(long[] grams) {
+        TagBitmap[] lists = new TagBitmap[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            int slot = findSlot(grams[i]);
+            if (gramIds[slot] == 0) {
+                return null;
+            }
+            lists[i] = postings.get(gramIds[slot] - 1);
+        }
+        
+        int[] sizes = new int[lists.length];
+        Integer[] order = new Integer[lists.length];
+        for (int i = 0; i < lists.length; i++) {
+            sizes[i] = lists[i].cardinality();
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(sizes[a], sizes[b]));
+        
+        TagBitmap intersection = lists[order[0]];
+        for (int i = 1; i < order.length && !intersection.isEmpty(); i++) {
+            intersection = intersection.and(lists[order[i]]);
+        }
+        return intersection;
+    }
+
+    /**
+     * Counts, for every indexed card, how many of the given grams its text contains.
+     */
+    private int[] countSharedGrams(long[] grams) {
+        int[] counts = new int[cards.size()];
+        for (long gram : grams) {
+            int slot = findSlot(gram);
+            if (gramIds[slot] != 0) {
+                postings.get(gramIds[slot] - 1).forEach(position -> counts[position]++);
+            }
+        }
+        return counts;
+    }
+
+    private void scan(String pattern, int maxEdits, List<Flashcard> result) {
+        for (Flashcard card : cards) {
+            String text = searchText(card);
+            if (maxEdits <= 0 ? text.contains(pattern) : withinEdits(text, pattern, maxEdits)) {
+                result.add(card);
+            }
+        }
+    }
+
+    private void addIfContains(int position, String pattern, List<Flashcard> result) {
+        Flashcard card = cards.get(position);
+        if (searchText(card).contains(pattern)) {
+            result.add(card);
+        }
+    }
+
+    /**
+     * Checks whether some substring of the text is within maxEdits of the pattern, keeping one
+     * column of the edit-distance table where a match may start anywhere in the text.
+     */
+    static boolean withinEdits(String text, String pattern, int maxEdits) {
+        int length = pattern.length();
+        if (length <= maxEdits) {
+            return true;
+        }
+        int[] column = new int[length + 1];
+        for (int i = 0; i <= length; i++) {
+            column[i] = i;
+        }
+        for (int j = 0; j < text.length(); j++) {
+            char c = text.charAt(j);
+            int diagonal = 0;
+            for (int i = 1; i <= length; i++) {
+                int above = column[i];
+                int cost = pattern.charAt(i - 1) == c ? 0 : 1;
+                column[i] = Math.min(Math.min(above + 1, column[i - 1] + 1), diagonal + cost);
+                diagonal = above;
+            }
+            if (column[length] <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the distinct grams of a query.
+     */
+    private static long[] distinctGrams(String pattern) {
+        int count = Math.max(0, pattern.length() - GRAM_LENGTH + 1);
+        long[] grams = new long[count];
+        int valid = 0;
+        for (int i = 0; i < count; i++) {
+            long gram = gramAt(pattern, i);
+            if (gram >= 0) {
+                grams[valid++] = gram;
+            }
+        }
+        return Arrays.stream(grams, 0, valid).distinct().toArray();
+    }
+
+    /**
+     * Packs the three characters at an offset into one key, or returns -1 if they span fields.
+     */
+    private static long gramAt(String text, int offset) {
+        char first = text.charAt(offset);
+        char second = text.charAt(offset + 1);
+        char third = text.charAt(offset + 2);
+        if (first == FIELD_SEPARATOR || second == FIELD_SEPARATOR || third == FIELD_SEPARATOR) {
+            return -1;
+        }
+        return (long) first << 32 | (long) second << 16 | third;
+    }
+
+    private int internGram(long gram) {
+        if ((postings.size() + 1) * 2 > gramKeys.length) {
+            rehash(gramKeys.length * 2);
+        }
+        int slot = findSlot(gram);
+        if (gramIds[slot] == 0) {
+            postings.add(new TagBitmap());
+            gramKeys[slot] = gram;
+            gramIds[slot] = postings.size();
+        }
+        return gramIds[slot] - 1;
+    }
+
+    private int findSlot(long gram) {
+        int mask = gramKeys.length - 1;
+        long hash = gram * 0x9E3779B97F4A7C15L;
+        int slot = (int) (hash ^ (hash >>> 32)) & mask;
+        while (gramIds[slot] != 0 && gramKeys[slot] != gram) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash(int newLength) {
+        long[] oldKeys = gramKeys;
+        int[] oldIds = gramIds;
+        gramKeys = new long[newLength];
+        gramIds = new int[newLength];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldIds[i] != 0) {
+                int slot = findSlot(oldKeys[i]);
+                gramKeys[slot] = oldKeys[i];
+                gramIds[slot] = oldIds[i];
+            }
+        }
+    }
+}
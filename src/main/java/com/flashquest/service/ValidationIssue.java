@@ -0,0 +1,32 @@
+package com.flashquest.service;
+
+/**
+ * Kinds of problems an import validation run reports.
+ */
+public enum ValidationIssue {
+    QUESTION_TOO_SHORT("Question missing or too short", true),
+    ANSWER_MISSING("Answer missing", true),
+    DIFFICULTY_MISSING("Difficulty missing", true),
+    CATEGORY_MISSING("Category missing", true),
+    MALFORMED_SECTION("Malformed section", true),
+    DUPLICATE("Duplicate question", true),
+    UNKNOWN_DIFFICULTY("Unknown difficulty, defaults to Medium", false),
+    CATEGORY_TRUNCATED("Category too long, truncated", false),
+    NEAR_DUPLICATE("Suspected near-duplicate", false),
+    READ_FAILURE("File could not be read to the end", true);
+
+    private final String description;
+    private final boolean rejectsCard;
+
+    ValidationIssue(String description, boolean rejectsCard) {
+        this.description = description;
+        this.rejectsCard = rejectsCard;
+    }
+
+    public String getDescription() { return description; }
+
+    /**
+     * Whether a card with this issue would be left out of a real import.
+     */
+    public boolean rejectsCard() { return rejectsCard; }
+}
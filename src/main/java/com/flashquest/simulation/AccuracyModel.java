@@ -0,0 +1,59 @@
+package com.flashquest.simulation;
+
+import com.flashquest.model.Flashcard;
+
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Decides whether a simulated learner answers a card correctly.
+ */
+public interface AccuracyModel {
+
+    boolean answersCorrectly(Flashcard card, Random random);
+
+    /**
+     * Same probability of a correct answer for every card.
+     */
+    static AccuracyModel fixed(double accuracy) {
+        return (card, random) -> random.nextDouble() < accuracy;
+    }
+
+    /**
+     * Accuracy by card difficulty: 90% easy, 70% medium, 50% hard.
+     */
+    static AccuracyModel byDifficulty() {
+        return (card, random) -> {
+            double accuracy = switch (card.getDifficulty()) {
+                case EASY -> 0.9;
+                case MEDIUM -> 0.7;
+                case HARD -> 0.5;
+            };
+            return random.nextDouble() < accuracy;
+        };
+    }
+
+    /**
+     * Starts at the base accuracy and improves by 5 points per previous ask of the card, up to 98%.
+     */
+    static AccuracyModel learning(double baseAccuracy) {
+        return (card, random) -> {
+            double accuracy = Math.min(0.98, baseAccuracy + card.getTimesAsked() * 0.05);
+            return random.nextDouble() < accuracy;
+        };
+    }
+
+    /**
+     * Parses a model spec: "fixed:0.8", "difficulty" or "learning:0.5".
+     */
+    static AccuracyModel parse(String spec) {
+        String[] parts = spec.toLowerCase(Locale.ROOT).split(":", 2);
+        double parameter = parts.length > 1 ? Double.parseDouble(parts[1]) : -1;
+        return switch (parts[0]) {
+            case "fixed" -> fixed(parameter >= 0 ? parameter : 0.8);
+            case "difficulty" -> byDifficulty();
+            case "learning" -> learning(parameter >= 0 ? parameter : 0.5);
+            default -> throw new IllegalArgumentException("Unknown accuracy model: " + spec);
+        };
+    }
+}
@@ -0,0 +1,425 @@
+package com.flashquest.simulation;
+
+import com.flashquest.model.DifficultyDistribution;
+import com.flashquest.model.DifficultyLevel;
+import com.flashquest.model.Flashcard;
+import com.flashquest.model.Player;
+import com.flashquest.model.Quest;
+import com.flashquest.service.DataService;
+import com.flashquest.service.GameService;
+import com.flashquest.service.SessionEngine;
+import com.flashquest.util.LatencyHistogram;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Headless load driver for GameService.
+ * Generates a synthetic deck, runs quests through startQuest/processQuestAnswer without a JavaFX stage,
+ * and reports throughput, latency percentiles, allocation rate and persistence volume.
+ *
+ * Usage: java -cp flashquest.jar com.flashquest.simulation.QuestSimulator
+ *            [--cards N] [--quests N] [--questions N] [--threads N]
+ *            [--accuracy fixed:0.8|difficulty|learning:0.5] [--seed N] [--data-dir DIR] [--keep-data] [--verbose]
+ *
+ * With one thread the simulator drives the GameService singleton path; with more it opens one
+ * SessionEngine session per thread over the shared deck.
+ */
+public class QuestSimulator {
+    private static final String QUEST_NAME = "Simulated Quest";
+    private static final int CATEGORY_COUNT = 50;
+
+    private final SimulationOptions options;
+
+    public QuestSimulator(SimulationOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulationOptions options;
+        try {
+            options = SimulationOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(SimulationOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        
+        if (!options.verbose) {
+            // Per-quest INFO logging would dominate the measurements
+            System.setProperty("org.slf4j.simpleLogger.defaultLogLevel", "warn");
+        }
+        
+        SimulationReport report = new QuestSimulator(options).run();
+        System.out.println(report.format());
+    }
+
+    /**
+     * Runs the full simulation and returns its report.
+     */
+    public SimulationReport run() throws Exception {
+        Path dataDirectory = options.dataDirectory != null
+            ? options.dataDirectory
+            : Files.createTempDirectory("flashquest-sim");
+        
+        GameService gameService = null;
+        try {
+            DataService dataService = new DataService(dataDirectory);
+            gameService = GameService.createHeadless(dataService);
+            gameService.initializeGame();
+            gameService.createNewPlayer("Simulator");
+            
+            SimulationReport report = new SimulationReport(options);
+            
+            long setupStart = System.nanoTime();
+            List<Flashcard> deck = generateDeck(options.cards, new Random(options.seed));
+            int added = gameService.addFlashcards(deck);
+            report.deckSize = gameService.getAllFlashcards().size();
+            report.setupNanos = System.nanoTime() - setupStart;
+            report.cardsAdded = added;
+            
+            // Setup saves are only queued; keep them out of the run's persistence numbers
+            gameService.whenSaved().join();
+            long bytesBefore = dataService.getBytesWritten();
+            long filesBefore = dataService.getFilesWritten();
+            
+            long start = System.nanoTime();
+            List<WorkerResult> results = options.threads == 1
+                ? List.of(runSingle(gameService))
+                : runConcurrent(gameService, dataDirectory);
+            report.elapsedNanos = System.nanoTime() - start;
+            
+            for (WorkerResult result : results) {
+                report.add(result);
+            }
+            // Quest saves are written on the persistence thread, so wait for the last ones
+            gameService.whenSaved().join();
+            report.bytesWritten += dataService.getBytesWritten() - bytesBefore;
+            report.filesWritten += dataService.getFilesWritten() - filesBefore;
+            return report;
+        } finally {
+            if (gameService != null) {
+                // The persistence thread must be done with the data directory before it is deleted
+                gameService.whenSaved().join();
+            }
+            if (options.dataDirectory == null && !options.keepData) {
+                deleteRecursively(dataDirectory);
+            }
+        }
+    }
+
+    /**
+     * Drives the single-player GameService path on the calling thread.
+     */
+    private WorkerResult runSingle(GameService gameService) {
+        WorkerResult result = new WorkerResult();
+        Random random = new Random(options.seed);
+        AllocationMeter allocation = AllocationMeter.forCurrentThread();
+        
+        for (int i = 0; i < options.quests; i++) {
+            long startNanos = System.nanoTime();
+            Quest quest = gameService.startQuest(QUEST_NAME, options.questions,
+                new ArrayList<>(), DifficultyDistribution.balanced());
+            result.startLatency.record(System.nanoTime() - startNanos);
+            
+            Quest.QuestionResult answer;
+            do {
+                boolean correct = options.accuracy.answersCorrectly(quest.getCurrentFlashcard(), random);
+                long answerStart = System.nanoTime();
+                answer = gameService.processQuestAnswer(correct);
+                result.answerLatency.record(System.nanoTime() - answerStart);
+                result.answers++;
+                if (correct) result.correctAnswers++;
+            } while (!answer.isQuestComplete());
+            
+            result.recordQuestEnd(quest);
+        }
+        
+        result.allocatedBytes = allocation.allocatedSinceStart();
+        return result;
+    }
+
+    /**
+     * Drives one SessionEngine session per worker thread over the shared deck.
+     * Each session saves its player to its own directory, as a separate install would.
+     */
+    private List<WorkerResult> runConcurrent(GameService gameService, Path dataDirectory) throws Exception {
+        Map<String, DataService> playerStores = new ConcurrentHashMap<>();
+        SessionEngine engine = gameService.createSessionEngine(player -> playerStores.get(player.getId()).savePlayer(player));
+        ExecutorService workers = Executors.newFixedThreadPool(options.threads);
+        
+        try {
+            List<Future<WorkerResult>> futures = new ArrayList<>();
+            for (int worker = 0; worker < options.threads; worker++) {
+                int workerIndex = worker;
+                // Spread the remainder over the first workers
+                int quests = options.quests / options.threads + (worker < options.quests % options.threads ? 1 : 0);
+                futures.add(workers.submit(() -> runSession(engine, workerIndex, quests, dataDirectory, playerStores)));
+            }
+            
+            List<WorkerResult> results = new ArrayList<>();
+            for (Future<WorkerResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            // Make sure no worker still writes into the data directory before it is cleaned up
+            workers.shutdownNow();
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private WorkerResult runSession(SessionEngine engine, int workerIndex, int quests,
+                                    Path dataDirectory, Map<String, DataService> playerStores) {
+        WorkerResult result = new WorkerResult();
+        Random random = new Random(options.seed + workerIndex);
+        AllocationMeter allocation = AllocationMeter.forCurrentThread();
+        Player player = new Player("Simulator " + (workerIndex + 1));
+        DataService store = new DataService(dataDirectory.resolve("session-" + (workerIndex + 1)));
+        playerStores.put(player.getId(), store);
+        String sessionId = engine.openSession(player).getSessionId();
+        
+        try {
+            for (int i = 0; i < quests; i++) {
+                long startNanos = System.nanoTime();
+                Quest quest = engine.startQuest(sessionId, QUEST_NAME, options.questions,
+                    new ArrayList<>(), DifficultyDistribution.balanced());
+                result.startLatency.record(System.nanoTime() - startNanos);
+                
+                Quest.QuestionResult answer;
+                do {
+                    boolean correct = options.accuracy.answersCorrectly(quest.getCurrentFlashcard(), random);
+                    long answerStart = System.nanoTime();
+                    answer = engine.processQuestAnswer(sessionId, correct);
+                    result.answerLatency.record(System.nanoTime() - answerStart);
+                    result.answers++;
+                    if (correct) result.correctAnswers++;
+                } while (!answer.isQuestComplete());
+                
+                result.recordQuestEnd(quest);
+            }
+        } finally {
+            engine.closeSession(sessionId);
+        }
+        
+        result.allocatedBytes = allocation.allocatedSinceStart();
+        // The session saves its player on this thread, so every write is done by now
+        result.bytesWritten = store.getBytesWritten();
+        result.filesWritten = store.getFilesWritten();
+        return result;
+    }
+
+    /**
+     * Generates a deterministic synthetic deck spread over categories and difficulties.
+     */
+    static List<Flashcard> generateDeck(int count, Random random) {
+        DifficultyLevel[] difficulties = DifficultyLevel.values();
+        List<Flashcard> deck = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String category = "Category " + random.nextInt(CATEGORY_COUNT);
+            DifficultyLevel difficulty = difficulties[random.nextInt(difficulties.length)];
+            deck.add(new Flashcard("Simulated question #" + i + "?", "Simulated answer #" + i, category, difficulty));
+        }
+        return deck;
+    }
+
+    private static void deleteRecursively(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("Could not delete simulation data in " + directory + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Command-line options for a simulation run.
+     */
+    public static class SimulationOptions {
+        static final String USAGE = "Usage: QuestSimulator [--cards N] [--quests N] [--questions N] [--threads N] "
+            + "[--accuracy fixed:0.8|difficulty|learning:0.5] [--seed N] [--data-dir DIR] [--keep-data] [--verbose]";
+        
+        int cards = 10_000;
+        int quests = 1_000;
+        int questions = 10;
+        int threads = 1;
+        String accuracySpec = "fixed:0.8";
+        AccuracyModel accuracy = AccuracyModel.parse(accuracySpec);
+        long seed = 42L;
+        Path dataDirectory;
+        boolean keepData;
+        boolean verbose;
+        
+        public static SimulationOptions parse(String[] args) {
+            SimulationOptions options = new SimulationOptions();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--cards" -> options.cards = positive(arg, value(args, ++i, arg));
+                    case "--quests" -> options.quests = positive(arg, value(args, ++i, arg));
+                    case "--questions" -> options.questions = positive(arg, value(args, ++i, arg));
+                    case "--threads" -> options.threads = positive(arg, value(args, ++i, arg));
+                    case "--accuracy" -> {
+                        options.accuracySpec = value(args, ++i, arg);
+                        options.accuracy = AccuracyModel.parse(options.accuracySpec);
+                    }
+                    case "--seed" -> options.seed = Long.parseLong(value(args, ++i, arg));
+                    case "--data-dir" -> options.dataDirectory = Paths.get(value(args, ++i, arg));
+                    case "--keep-data" -> options.keepData = true;
+                    case "--verbose" -> options.verbose = true;
+                    default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                }
+            }
+            if (options.cards < options.questions) {
+                throw new IllegalArgumentException("--cards must be at least --questions");
+            }
+            return options;
+        }
+        
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+            return args[index];
+        }
+        
+        private static int positive(String option, String value) {
+            int parsed = Integer.parseInt(value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(option + " must be positive");
+            }
+            return parsed;
+        }
+    }
+
+    /**
+     * Measurements collected by a single worker thread.
+     */
+    static class WorkerResult {
+        final LatencyHistogram startLatency = new LatencyHistogram();
+        final LatencyHistogram answerLatency = new LatencyHistogram();
+        long quests;
+        long questsFailed;
+        long answers;
+        long correctAnswers;
+        long allocatedBytes;
+        long bytesWritten;
+        long filesWritten;
+        
+        void recordQuestEnd(Quest quest) {
+            quests++;
+            if (quest.getCurrentQuestionIndex() < quest.getQuestionCount()) {
+                questsFailed++;
+            }
+        }
+    }
+
+    /**
+     * Aggregated simulation results.
+     */
+    public static class SimulationReport {
+        private final SimulationOptions options;
+        private final LatencyHistogram startLatency = new LatencyHistogram();
+        private final LatencyHistogram answerLatency = new LatencyHistogram();
+        private long quests;
+        private long questsFailed;
+        private long answers;
+        private long correctAnswers;
+        private long allocatedBytes;
+        private int deckSize;
+        private int cardsAdded;
+        private long setupNanos;
+        private long elapsedNanos;
+        private long bytesWritten;
+        private long filesWritten;
+        
+        SimulationReport(SimulationOptions options) {
+            this.options = options;
+        }
+        
+        void add(WorkerResult result) {
+            startLatency.merge(result.startLatency);
+            answerLatency.merge(result.answerLatency);
+            quests += result.quests;
+            questsFailed += result.questsFailed;
+            answers += result.answers;
+            correctAnswers += result.correctAnswers;
+            bytesWritten += result.bytesWritten;
+            filesWritten += result.filesWritten;
+            allocatedBytes = result.allocatedBytes < 0 || allocatedBytes < 0 ? -1 : allocatedBytes + result.allocatedBytes;
+        }
+        
+        public String format() {
+            double seconds = elapsedNanos / 1_000_000_000.0;
+            StringBuilder report = new StringBuilder();
+            report.append("=== FlashQuest quest simulation ===\n");
+            report.append(String.format("Deck:        %,d cards (%,d added in %.2fs)%n",
+                deckSize, cardsAdded, setupNanos / 1_000_000_000.0));
+            report.append(String.format("Run:         %,d quests x %d questions, %d thread(s), accuracy %s, seed %d%n",
+                options.quests, options.questions, options.threads, options.accuracySpec, options.seed));
+            report.append(String.format("Elapsed:     %.2fs%n", seconds));
+            report.append(String.format("Throughput:  %,.1f quests/s, %,.1f answers/s%n",
+                quests / seconds, answers / seconds));
+            report.append(String.format("Outcomes:    %,d quests, %,d failed, %.1f%% answers correct%n",
+                quests, questsFailed, answers > 0 ? correctAnswers * 100.0 / answers : 0.0));
+            report.append("startQuest:  ").append(startLatency.summary()).append('\n');
+            report.append("answer:      ").append(answerLatency.summary()).append('\n');
+            if (allocatedBytes >= 0) {
+                report.append(String.format("Allocation:  %,.1f MB total, %,.1f MB/s, %,.0f bytes/answer%n",
+                    allocatedBytes / 1_048_576.0, allocatedBytes / 1_048_576.0 / seconds,
+                    answers > 0 ? (double) allocatedBytes / answers : 0.0));
+            } else {
+                report.append("Allocation:  not supported by this JVM\n");
+            }
+            report.append(String.format("Persistence: %,d files, %,.1f MB written, %,.1f KB/quest%n",
+                filesWritten, bytesWritten / 1_048_576.0, quests > 0 ? bytesWritten / 1024.0 / quests : 0.0));
+            report.append("             (saves queued while one is pending are coalesced into it)");
+            return report.toString();
+        }
+    }
+
+    /**
+     * Measures heap allocation of the current thread via the HotSpot ThreadMXBean extension.
+     * Reports -1 when the JVM does not support it.
+     */
+    private static final class AllocationMeter {
+        private final com.sun.management.ThreadMXBean threadBean;
+        private final long threadId;
+        private final long startBytes;
+        
+        private AllocationMeter(com.sun.management.ThreadMXBean threadBean, long threadId) {
+            this.threadBean = threadBean;
+            this.threadId = threadId;
+            this.startBytes = threadBean != null ? threadBean.getThreadAllocatedBytes(threadId) : -1;
+        }
+        
+        static AllocationMeter forCurrentThread() {
+            com.sun.management.ThreadMXBean bean = null;
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean hotspotBean
+                    && hotspotBean.isThreadAllocatedMemorySupported()) {
+                hotspotBean.setThreadAllocatedMemoryEnabled(true);
+                bean = hotspotBean;
+            }
+            return new AllocationMeter(bean, Thread.currentThread().getId());
+        }
+        
+        long allocatedSinceStart() {
+            if (threadBean == null || startBytes < 0) return -1;
+            return threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.flashquest.ui;
 
 import com.flashquest.service.GameService;
+import com.flashquest.util.StartupProfiler;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -13,29 +15,60 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Main application controller managing screen navigation and app lifecycle.
+ *
+ * Each screen's FXML is loaded once and cached; navigating swaps the root of a single scene
+ * instead of building a new scene. Screens other than the start screen are preloaded on a
+ * background thread at startup, and controllers refresh themselves in onScreenShown.
  */
 public class AppController {
     private static final Logger logger = LoggerFactory.getLogger(AppController.class);
     
     private Stage primaryStage;
     private Scene currentScene;
+    private ScreenController currentController;
     private GameService gameService;
     
-    // Screen dimensions - Base logical size (will be scaled automatically)
-    private static final int BASE_WINDOW_WIDTH = 1280;
-    private static final int BASE_WINDOW_HEIGHT = 720;
+    private static final String START_SCREEN_FXML = "/fxml/StartScreen.fxml";
+    private static final String MAIN_MENU_FXML = "/fxml/MainMenu.fxml";
+    private static final String QUEST_SELECTION_FXML = "/fxml/QuestSelection.fxml";
+    private static final String QUEST_FXML = "/fxml/Quest.fxml";
+    private static final String PLAYER_STATS_FXML = "/fxml/PlayerStats.fxml";
+    private static final String FLASHCARD_MANAGER_FXML = "/fxml/FlashcardManager.fxml";
+    
+    // Loaded in the background after the start screen, most likely next first
+    private static final List<String> PRELOADED_SCREENS = List.of(MAIN_MENU_FXML, QUEST_SELECTION_FXML,
+        QUEST_FXML, FLASHCARD_MANAGER_FXML, PLAYER_STATS_FXML);
+    
+    private final Map<String, CachedScreen> screens = new ConcurrentHashMap<>();
+    private final ThemeManager themeManager = new ThemeManager();
+    
+    // Message dialogs are built and styled once, then shown again with new text
+    private final Map<Alert.AlertType, Alert> messageDialogs = new EnumMap<>(Alert.AlertType.class);
     
     public AppController(Stage primaryStage) {
         this.primaryStage = primaryStage;
         this.gameService = GameService.getInstance();
+        
+        // Deliver game events on the FX thread, coalesced per pulse
+        gameService.getEventBus().setDispatcher(Platform::runLater);
+        StartupProfiler.mark("services created");
     }
     
     /**
      * Initializes the application and shows the start screen.
+     * Save data is loaded and the other screens are built in the background while it is up.
      */
     public void initialize() {
         try {
@@ -43,6 +76,23 @@ public class AppController {
             
             // Always show start screen first - it will handle save loading
             showStartScreen();
+            StartupProfiler.mark("start screen built");
+            CompletableFuture<Void> firstFrame = reportFirstFrame();
+            
+            CompletableFuture<Void> gameLoaded = gameService.initializeGameAsync();
+            gameLoaded.whenComplete((ignored, failure) -> {
+                if (failure != null) {
+                    // The start screen retries when the player continues, and reports the error then
+                    logger.warn("Background game initialization failed", failure);
+                } else {
+                    StartupProfiler.mark("game data loaded");
+                }
+            });
+            CompletableFuture<Void> screensLoaded = preloadScreens();
+            
+            if (Boolean.getBoolean(StartupProfiler.EXIT_AFTER_STARTUP_PROPERTY)) {
+                exitAfterStartup(CompletableFuture.allOf(firstFrame, gameLoaded, screensLoaded));
+            }
             
         } catch (Exception e) {
             logger.error("Failed to initialize application", e);
@@ -62,8 +112,7 @@ public class AppController {
                 confirmDialog.setTitle("New Game");
                 confirmDialog.setHeaderText("Create New Save");
                 confirmDialog.setContentText("This will overwrite your existing save. Continue?");
-                confirmDialog.getDialogPane().getStylesheets().add(
-                    getClass().getResource("/styles/dark-theme.css").toExternalForm());
+                themeManager.styleDialog(confirmDialog);
                 
                 Optional<ButtonType> confirmResult = confirmDialog.showAndWait();
                 if (confirmResult.isEmpty() || confirmResult.get() != ButtonType.OK) {
@@ -76,8 +125,7 @@ public class AppController {
             dialog.setTitle("Welcome to FlashQuest! 🎮");
             dialog.setHeaderText("Create Your Hero");
             dialog.setContentText("Enter your player name:");
-            dialog.getDialogPane().getStylesheets().add(
-                getClass().getResource("/styles/dark-theme.css").toExternalForm());
+            themeManager.styleDialog(dialog);
             
             Optional<String> result = dialog.showAndWait();
             result.ifPresentOrElse(
@@ -121,293 +169,292 @@ public class AppController {
      * Shows the start screen with save selection.
      */
     public void showStartScreen() {
-        loadScreen("/fxml/StartScreen.fxml", "FlashQuest - Welcome");
+        showScreen(START_SCREEN_FXML, "FlashQuest - Welcome");
     }
     
     /**
      * Shows the main menu screen.
      */
     public void showMainMenu() {
-        loadScreen("/fxml/MainMenu.fxml", "FlashQuest - Main Menu");
+        showScreen(MAIN_MENU_FXML, "FlashQuest - Main Menu");
     }
     
     /**
      * Shows the quest selection screen.
      */
     public void showQuestSelection() {
-        loadScreen("/fxml/QuestSelection.fxml", "FlashQuest - Select Quest");
+        showScreen(QUEST_SELECTION_FXML, "FlashQuest - Select Quest");
     }
     
     /**
      * Shows the active quest screen.
      */
     public void showQuest() {
-        loadScreen("/fxml/Quest.fxml", "FlashQuest - Quest in Progress");
+        showScreen(QUEST_FXML, "FlashQuest - Quest in Progress");
     }
     
     /**
      * Shows the player statistics screen.
      */
     public void showPlayerStats() {
-        loadScreen("/fxml/PlayerStats.fxml", "FlashQuest - Player Statistics");
+        showScreen(PLAYER_STATS_FXML, "FlashQuest - Player Statistics");
     }
     
     /**
      * Shows the flashcard management screen.
      */
     public void showFlashcardManager() {
-        loadScreen("/fxml/FlashcardManager.fxml", "FlashQuest - Manage Flashcards");
+        showScreen(FLASHCARD_MANAGER_FXML, "FlashQuest - Manage Flashcards");
     }
     
     /**
-     * Generic screen loader with error handling.
+     * Shows a cached screen, loading it first if the preloader has not got to it yet.
      */
-    private void loadScreen(String fxmlPath, String title) {
+    private void showScreen(String fxmlPath, String title) {
+        LoadedScreen screen;
         try {
-            logger.debug("Loading screen: {}", fxmlPath);
-            
-            FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Parent root = loader.load();
-            
-            // Pass this controller to the loaded controller if it implements ScreenController
-            Object controller = loader.getController();
-            if (controller instanceof ScreenController) {
-                ((ScreenController) controller).setAppController(this);
+            screen = getScreen(fxmlPath);
+        } catch (CompletionException e) {
+            // A failed background load may be thread related, so retry once on the FX thread
+            logger.warn("Background load of {} failed, loading it again", fxmlPath, e.getCause());
+            screens.remove(fxmlPath);
+            try {
+                screen = getScreen(fxmlPath);
+            } catch (CompletionException retryFailure) {
+                screens.remove(fxmlPath);
+                Throwable cause = retryFailure.getCause();
+                logger.error("Failed to load screen: {}", fxmlPath, cause);
+                
+                // Fallback to a simple error screen
+                showErrorDialog("Screen Loading Error", 
+                    "Failed to load " + fxmlPath + ": " + cause.getMessage());
+                return;
             }
-            
-            // Calculate optimal window size for this system
-            double[] optimalSize = calculateOptimalWindowSize();
-            Scene scene = new Scene(root, optimalSize[0], optimalSize[1]);
-            
-            // Set scene background to dark theme color to prevent white bars
-            scene.setFill(Color.web("#1a1a22"));
-            
-            scene.getStylesheets().add(getClass().getResource("/styles/dark-theme.css").toExternalForm());
-            
-            // Apply universal scaling
-            applyUniversalScaling(scene);
-            
-            // Add window dragging support for undecorated stage
-            addWindowDragSupport(root, scene);
-            
-            primaryStage.setScene(scene);
-            primaryStage.setTitle(title);
-            
-            if (!primaryStage.isShowing()) {
-                primaryStage.show();
+        }
+        
+        // Let the outgoing screen release listeners before the new one takes over
+        if (currentController != null) {
+            currentController.onScreenHidden();
+            currentController = null;
+        }
+        
+        if (!screen.attached) {
+            // Pass this controller to the loaded controller if it implements ScreenController
+            if (screen.controller != null) {
+                screen.controller.setAppController(this);
             }
-            
-            this.currentScene = scene;
-            
-        } catch (IOException e) {
-            logger.error("Failed to load screen: {}", fxmlPath, e);
-            
-            // Fallback to a simple error screen
-            showErrorDialog("Screen Loading Error", 
-                "Failed to load " + fxmlPath + ": " + e.getMessage());
+            themeManager.styleRoot(screen.root);
+            addWindowDragSupport(screen.root);
+        }
+        
+        if (currentScene == null) {
+            currentScene = createScene(screen.root);
+            primaryStage.setScene(currentScene);
+        } else {
+            currentScene.setRoot(screen.root);
+        }
+        if (!screen.attached) {
+            // Style the screen here rather than in the next pulse, so the time is recorded
+            themeManager.applyCss(screen.root, fxmlPath);
+            screen.attached = true;
+        }
+        primaryStage.setTitle(title);
+        
+        if (!primaryStage.isShowing()) {
+            primaryStage.show();
+        }
+        
+        currentController = screen.controller;
+        if (currentController != null) {
+            currentController.onScreenShown();
         }
     }
     
     /**
-     * Shows an error dialog to the user.
+     * Creates the application's single scene; screens are swapped in as its root.
      */
-    public void showErrorDialog(String title, String message) {
-        Alert alert = new Alert(Alert.AlertType.ERROR);
-        alert.setTitle(title);
-        alert.setHeaderText(null);
-        alert.setContentText(message);
-        alert.getDialogPane().getStylesheets().add(
-            getClass().getResource("/styles/dark-theme.css").toExternalForm());
-        alert.showAndWait();
+    private Scene createScene(Parent root) {
+        // Calculate optimal window size for this system
+        double[] windowSize = themeManager.getWindowSize();
+        Scene scene = new Scene(root, windowSize[0], windowSize[1]);
+        
+        // Set scene background to dark theme color to prevent white bars
+        scene.setFill(Color.web("#1a1a22"));
+        
+        themeManager.styleScene(scene);
+        
+        // Add ESC key to close window
+        scene.setOnKeyPressed(event -> {
+            switch (event.getCode()) {
+                case ESCAPE:
+                    primaryStage.close();
+                    break;
+            }
+        });
+        return scene;
     }
     
     /**
-     * Shows an information dialog to the user.
+     * Gets a screen from the cache, loading it on the calling thread unless a load is already running.
      */
-    public void showInfoDialog(String title, String message) {
-        Alert alert = new Alert(Alert.AlertType.INFORMATION);
-        alert.setTitle(title);
-        alert.setHeaderText(null);
-        alert.setContentText(message);
-        alert.getDialogPane().getStylesheets().add(
-            getClass().getResource("/styles/dark-theme.css").toExternalForm());
-        alert.showAndWait();
+    private LoadedScreen getScreen(String fxmlPath) {
+        CachedScreen screen = screens.computeIfAbsent(fxmlPath, CachedScreen::new);
+        screen.loadIfUnclaimed();
+        return screen.loaded.join();
     }
     
     /**
-     * Saves game data and performs cleanup on application shutdown.
+     * Marks the first rendered frame and logs the startup report.
      */
-    public void shutdown() {
-        try {
-            logger.info("Shutting down FlashQuest application");
-            gameService.saveGameData();
-        } catch (Exception e) {
-            logger.error("Error during application shutdown", e);
-        }
+    private CompletableFuture<Void> reportFirstFrame() {
+        CompletableFuture<Void> rendered = new CompletableFuture<>();
+        boolean[] reported = {false};
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            if (reported[0]) return;
+            reported[0] = true;
+            StartupProfiler.mark("first frame");
+            StartupProfiler.finish();
+            rendered.complete(null);
+            // Pulse listeners must not be removed while the pulse is running them
+            Platform.runLater(() -> currentScene.removePostLayoutPulseListener(listener[0]));
+        };
+        currentScene.addPostLayoutPulseListener(listener[0]);
+        return rendered;
     }
     
     /**
-     * Calculates optimal window size based on screen resolution and DPI
+     * Quits once startup is complete, so a benchmark or class-data-sharing training launch
+     * covers every class a normal startup loads and then ends on its own.
      */
-    private double[] calculateOptimalWindowSize() {
-        try {
-            java.awt.Toolkit toolkit = java.awt.Toolkit.getDefaultToolkit();
-            java.awt.Dimension screenSize = toolkit.getScreenSize();
-            int dpi = toolkit.getScreenResolution();
-            
-            double screenWidth = screenSize.getWidth();
-            double screenHeight = screenSize.getHeight();
-            double dpiScale = dpi / 96.0;
-            
-            logger.info("Screen: {}x{}, DPI: {}, Scale: {}x", 
-                (int)screenWidth, (int)screenHeight, dpi, String.format("%.1f", dpiScale));
-            
-            // Calculate window size as percentage of screen, accounting for DPI
-            double windowWidth, windowHeight;
-            
-            if (screenWidth >= 3840) { // 4K or higher
-                windowWidth = screenWidth * 0.5;   // 50% of screen width
-                windowHeight = screenHeight * 0.6; // 60% of screen height
-            } else if (screenWidth >= 2560) { // 1440p
-                windowWidth = screenWidth * 0.6;   // 60% of screen width
-                windowHeight = screenHeight * 0.7; // 70% of screen height
-            } else if (screenWidth >= 1920) { // 1080p
-                windowWidth = screenWidth * 0.7;   // 70% of screen width
-                windowHeight = screenHeight * 0.75; // 75% of screen height
-            } else { // Lower resolutions
-                windowWidth = Math.min(screenWidth * 0.9, BASE_WINDOW_WIDTH);
-                windowHeight = Math.min(screenHeight * 0.8, BASE_WINDOW_HEIGHT);
-            }
-            
-            // Ensure minimum usable size
-            windowWidth = Math.max(windowWidth, 1024);
-            windowHeight = Math.max(windowHeight, 600);
-            
-            // Don't exceed screen size
-            windowWidth = Math.min(windowWidth, screenWidth * 0.95);
-            windowHeight = Math.min(windowHeight, screenHeight * 0.9);
-            
-            logger.info("Calculated window size: {}x{}", (int)windowWidth, (int)windowHeight);
-            
-            return new double[]{windowWidth, windowHeight};
-            
-        } catch (Exception e) {
-            logger.warn("Could not calculate optimal window size, using defaults", e);
-            return new double[]{BASE_WINDOW_WIDTH, BASE_WINDOW_HEIGHT};
-        }
+    private void exitAfterStartup(CompletableFuture<Void> startup) {
+        startup.whenComplete((ignored, failure) -> {
+            logger.info("Startup complete, exiting as requested by {}", StartupProfiler.EXIT_AFTER_STARTUP_PROPERTY);
+            Platform.runLater(() -> {
+                primaryStage.close();
+                Platform.exit();
+            });
+        });
     }
     
     /**
-     * Applies universal scaling that works across all PC configurations
+     * Loads the remaining screens on a background thread so later navigation only swaps roots.
      */
-    private void applyUniversalScaling(Scene scene) {
-        try {
-            java.awt.Toolkit toolkit = java.awt.Toolkit.getDefaultToolkit();
-            java.awt.Dimension screenSize = toolkit.getScreenSize();
-            int dpi = toolkit.getScreenResolution();
-            
-            double screenWidth = screenSize.getWidth();
-            double dpiScale = dpi / 96.0;
-            
-            // Calculate universal scale factor considering both resolution and DPI
-            double universalScale = calculateUniversalScale(screenWidth, dpiScale);
-            
-            logger.info("Applying universal scale: {}x (Screen: {}, DPI Scale: {}x)", 
-                String.format("%.2f", universalScale), (int)screenWidth, String.format("%.1f", dpiScale));
-            
-            // Apply appropriate CSS class based on universal scale
-            String scaleClass = getScaleClass(universalScale);
-            if (scaleClass != null) {
-                scene.getRoot().getStyleClass().add(scaleClass);
-                logger.info("Applied CSS class: {}", scaleClass);
+    private CompletableFuture<Void> preloadScreens() {
+        CompletableFuture<Void> preloaded = new CompletableFuture<>();
+        Thread preloader = new Thread(() -> {
+            for (String fxmlPath : PRELOADED_SCREENS) {
+                screens.computeIfAbsent(fxmlPath, CachedScreen::new).loadIfUnclaimed();
             }
-            
-            // Apply root font scaling
-            double baseFontSize = 14.0;
-            double scaledFontSize = baseFontSize * universalScale;
-            String fontStyle = String.format("-fx-font-size: %.1fpx;", scaledFontSize);
-            scene.getRoot().setStyle(fontStyle);
-            
-        } catch (Exception e) {
-            logger.warn("Could not apply universal scaling, using defaults", e);
-        }
+            StartupProfiler.mark("screens preloaded");
+            preloaded.complete(null);
+        }, "flashquest-screen-preload");
+        preloader.setDaemon(true);
+        preloader.start();
+        return preloaded;
     }
     
     /**
-     * Calculates universal scale factor that works across all configurations
+     * A screen's FXML, loaded at most once by whichever thread claims it first.
      */
-    private double calculateUniversalScale(double screenWidth, double dpiScale) {
-        double baseScale;
+    private static final class CachedScreen {
+        private final String fxmlPath;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<LoadedScreen> loaded = new CompletableFuture<>();
         
-        if (screenWidth >= 3840) { // 4K (3840x2160) or higher
-            baseScale = 1.4;  // Larger UI for 4K screens
-        } else if (screenWidth >= 2560) { // 1440p (2560x1440)
-            baseScale = 1.2;  // Medium scaling for 1440p
-        } else if (screenWidth >= 1920) { // 1080p (1920x1080)
-            baseScale = 1.0;  // Standard scaling for 1080p
-        } else if (screenWidth >= 1366) { // 768p (1366x768)
-            baseScale = 0.9;  // Slightly smaller for lower resolutions
-        } else { // Very low resolutions
-            baseScale = 0.8;  // Compact UI for small screens
+        CachedScreen(String fxmlPath) {
+            this.fxmlPath = fxmlPath;
         }
         
-        // Apply DPI scaling on top of resolution-based scaling
-        double finalScale = baseScale * Math.max(1.0, dpiScale * 0.8); // Moderate DPI influence
+        void loadIfUnclaimed() {
+            if (!claimed.compareAndSet(false, true)) return;
+            
+            try {
+                logger.debug("Loading screen: {}", fxmlPath);
+                // Nodes may be built off the FX thread as long as they are not yet in a showing scene
+                FXMLLoader loader = new FXMLLoader(AppController.class.getResource(fxmlPath));
+                Parent root = loader.load();
+                Object controller = loader.getController();
+                loaded.complete(new LoadedScreen(root,
+                    controller instanceof ScreenController screenController ? screenController : null));
+            } catch (IOException e) {
+                loaded.completeExceptionally(new UncheckedIOException(e));
+            } catch (RuntimeException e) {
+                loaded.completeExceptionally(e);
+            }
+        }
+    }
+    
+    /**
+     * A loaded screen's root and controller. Only touched on the FX thread once loaded.
+     */
+    private static final class LoadedScreen {
+        private final Parent root;
+        private final ScreenController controller;
+        private boolean attached;
         
-        // Clamp to reasonable range
-        return Math.max(0.8, Math.min(2.0, finalScale));
+        LoadedScreen(Parent root, ScreenController controller) {
+            this.root = root;
+            this.controller = controller;
+        }
+    }
+    
+    /**
+     * Shows an error dialog to the user.
+     */
+    public void showErrorDialog(String title, String message) {
+        showMessageDialog(Alert.AlertType.ERROR, title, message);
+    }
+    
+    /**
+     * Shows an information dialog to the user.
+     */
+    public void showInfoDialog(String title, String message) {
+        showMessageDialog(Alert.AlertType.INFORMATION, title, message);
     }
     
     /**
-     * Gets appropriate CSS class based on scale factor
+     * Shows a message in the dialog kept for its type. A message raised while that dialog is
+     * already up gets a dialog of its own.
      */
-    private String getScaleClass(double scale) {
-        if (scale >= 1.6) {
-            return "scale-xlarge";  // Extra large scaling
-        } else if (scale >= 1.3) {
-            return "scale-large";   // Large scaling
-        } else if (scale >= 1.1) {
-            return "scale-medium";  // Medium scaling
-        } else if (scale <= 0.9) {
-            return "scale-small";   // Small scaling
+    private void showMessageDialog(Alert.AlertType type, String title, String message) {
+        Alert alert = messageDialogs.get(type);
+        if (alert == null || alert.isShowing()) {
+            alert = new Alert(type);
+            alert.setHeaderText(null);
+            themeManager.styleDialog(alert);
+            messageDialogs.putIfAbsent(type, alert);
         }
-        return null; // Use default scaling
+        alert.setTitle(title);
+        alert.setContentText(message);
+        
+        // A reused dialog would otherwise keep the size it had for its previous message
+        Scene dialogScene = alert.getDialogPane().getScene();
+        if (dialogScene != null && dialogScene.getWindow() != null) {
+            dialogScene.getWindow().sizeToScene();
+        }
+        alert.showAndWait();
     }
     
     /**
-     * Gets the system DPI scale factor
+     * Saves game data and performs cleanup on application shutdown.
      */
-    private double getSystemDPIScaleFactor() {
+    public void shutdown() {
         try {
-            // Try to get DPI from AWT Toolkit
-            java.awt.Toolkit toolkit = java.awt.Toolkit.getDefaultToolkit();
-            int dpi = toolkit.getScreenResolution();
-            
-            // Calculate scaling factor (96 DPI is 100% scaling)
-            double scaleFactor = dpi / 96.0;
-            
-            // Also check system properties for override
-            String scaleProperty = System.getProperty("glass.win.uiScale");
-            if (scaleProperty != null && scaleProperty.endsWith("%")) {
-                try {
-                    int scalePercent = Integer.parseInt(scaleProperty.replace("%", ""));
-                    scaleFactor = Math.max(scaleFactor, scalePercent / 100.0);
-                } catch (NumberFormatException e) {
-                    // Ignore invalid scale property
-                }
-            }
-            
-            return scaleFactor;
+            logger.info("Shutting down FlashQuest application");
+            logger.info("CSS application times this session: {}", themeManager.getCssApplyTimes().summary());
+            // Let a background save finish first; the persistence thread dies with the JVM
+            gameService.whenSaved().join();
+            gameService.saveGameData();
         } catch (Exception e) {
-            logger.warn("Could not detect system DPI, defaulting to 2.0x scaling", e);
-            return 2.0; // Default to 200% scaling for safety
+            logger.error("Error during application shutdown", e);
         }
     }
     
     /**
      * Adds window dragging support for undecorated stage
      */
-    private void addWindowDragSupport(Parent root, Scene scene) {
+    private void addWindowDragSupport(Parent root) {
         final double[] xOffset = {0};
         final double[] yOffset = {0};
         
@@ -421,19 +468,11 @@ public class AppController {
             primaryStage.setX(event.getScreenX() - xOffset[0]);
             primaryStage.setY(event.getScreenY() - yOffset[0]);
         });
-        
-        // Add ESC key to close window
-        scene.setOnKeyPressed(event -> {
-            switch (event.getCode()) {
-                case ESCAPE:
-                    primaryStage.close();
-                    break;
-            }
-        });
     }
     
     // Getters
     public Stage getPrimaryStage() { return primaryStage; }
     public Scene getCurrentScene() { return currentScene; }
     public GameService getGameService() { return gameService; }
+    public ThemeManager getThemeManager() { return themeManager; }
 }
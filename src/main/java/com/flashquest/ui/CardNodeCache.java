@@ -0,0 +1,186 @@
+package com.flashquest.ui;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the question and answer nodes of the next few quest cards built and laid out while
+ * the player reads the current one, so moving to the next question swaps nodes instead of
+ * building and laying them out on demand.
+ *
+ * Every card's nodes stay in the two slot panes for the life of the screen. The shown card's
+ * are visible and managed; the others are hidden and unmanaged, so they are styled and sized
+ * in place without adding to the scroll extent. Upcoming cards are built one per pulse, and
+ * the nodes of cards already shown are refilled for later ones.
+ */
+class CardNodeCache {
+    private final StackPane questionSlots;
+    private final StackPane answerSlots;
+    private final int capacity;
+
+    private final Map<String, CardNodes> built = new LinkedHashMap<>();
+    private final Deque<CardNodes> spare = new ArrayDeque<>();
+    private final Deque<PreparedCard> toBuild = new ArrayDeque<>();
+    private CardNodes shown;
+
+    private final AnimationTimer idleBuilder = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            buildNext();
+        }
+    };
+
+    /**
+     * @param questionSlots Pane the question nodes are stacked in
+     * @param answerSlots Pane the answer nodes are stacked in
+     * @param capacity Number of upcoming cards to keep built
+     */
+    CardNodeCache(StackPane questionSlots, StackPane answerSlots, int capacity) {
+        this.questionSlots = questionSlots;
+        this.answerSlots = answerSlots;
+        this.capacity = capacity;
+    }
+
+    /**
+     * The nodes showing one card.
+     */
+    private static final class CardNodes {
+        final IncrementalTextView questionText = new IncrementalTextView();
+        final Label categoryLabel = new Label();
+        final VBox question = new VBox(12, questionText, categoryLabel);
+        final IncrementalTextView answerText = new IncrementalTextView();
+        final VBox answer = new VBox(answerText);
+        String cardId;
+        
+        CardNodes() {
+            questionText.setTextStyleClass("quest-question-text");
+            answerText.setTextStyleClass("quest-answer-text");
+            categoryLabel.getStyleClass().add("achievement-badge");
+            question.getStyleClass().add("padding-medium");
+            answer.getStyleClass().add("padding-medium");
+        }
+        
+        void fill(PreparedCard card) {
+            cardId = card.cardId;
+            questionText.setChunks(card.questionChunks);
+            categoryLabel.setText(card.categoryText);
+            answerText.setChunks(card.answerChunks);
+        }
+        
+        void setShown(boolean shown) {
+            question.setVisible(shown);
+            question.setManaged(shown);
+            answer.setVisible(shown);
+            answer.setManaged(shown);
+        }
+    }
+
+    /**
+     * Shows a card, swapping in its nodes if they were built ahead.
+     *
+     * @return true if the card's nodes were ready, false if they had to be built now
+     */
+    boolean show(PreparedCard card) {
+        CardNodes nodes = built.remove(card.cardId);
+        boolean prebuilt = nodes != null;
+        if (nodes == null) {
+            toBuild.removeIf(pending -> pending.cardId.equals(card.cardId));
+            nodes = takeSpare();
+            nodes.fill(card);
+        }
+        
+        if (shown != null) {
+            shown.setShown(false);
+            spare.push(shown);
+        }
+        nodes.setShown(true);
+        shown = nodes;
+        return prebuilt;
+    }
+
+    /**
+     * Sets the cards coming up next, in order. Nodes built for cards no longer coming up are
+     * recycled, and the missing ones are built over the following pulses.
+     */
+    void prepare(List<PreparedCard> upcoming) {
+        Set<String> upcomingIds = new HashSet<>();
+        for (PreparedCard card : upcoming) {
+            upcomingIds.add(card.cardId);
+        }
+        for (Iterator<CardNodes> it = built.values().iterator(); it.hasNext(); ) {
+            CardNodes nodes = it.next();
+            if (!upcomingIds.contains(nodes.cardId)) {
+                it.remove();
+                spare.push(nodes);
+            }
+        }
+        
+        toBuild.clear();
+        for (PreparedCard card : upcoming) {
+            if (built.size() + toBuild.size() >= capacity) break;
+            if (!built.containsKey(card.cardId)) {
+                toBuild.add(card);
+            }
+        }
+        if (!toBuild.isEmpty()) {
+            idleBuilder.start();
+        }
+    }
+
+    /**
+     * Forgets every built card, e.g. when a new quest starts. The nodes are kept for reuse.
+     */
+    void clear() {
+        idleBuilder.stop();
+        toBuild.clear();
+        spare.addAll(built.values());
+        built.clear();
+    }
+
+    /**
+     * Builds one upcoming card and lays it out at the width of the shown one.
+     */
+    private void buildNext() {
+        PreparedCard card = toBuild.poll();
+        if (card != null) {
+            CardNodes nodes = takeSpare();
+            nodes.fill(card);
+            preLayout(nodes.question, questionSlots.getWidth());
+            preLayout(nodes.answer, answerSlots.getWidth());
+            built.put(card.cardId, nodes);
+        }
+        if (toBuild.isEmpty()) {
+            idleBuilder.stop();
+        }
+    }
+
+    private static void preLayout(VBox content, double width) {
+        content.applyCss();
+        if (width > 0) {
+            content.resize(width, content.prefHeight(width));
+            content.layout();
+        }
+    }
+
+    private CardNodes takeSpare() {
+        CardNodes nodes = spare.poll();
+        if (nodes == null) {
+            nodes = new CardNodes();
+            nodes.setShown(false);
+            questionSlots.getChildren().add(nodes.question);
+            answerSlots.getChildren().add(nodes.answer);
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,56 @@
+package com.flashquest.ui;
+
+import com.flashquest.service.ExportFormat;
+import com.flashquest.service.FlashcardExportService;
+import com.flashquest.service.GameService;
+import javafx.concurrent.Task;
+
+import java.io.File;
+
+/**
+ * Background export job for the flashcard manager.
+ * Publishes cards-written progress and a status line with size and throughput.
+ * Cancelling leaves any existing file at the target untouched.
+ */
+public class FlashcardExportTask extends Task<FlashcardExportService.ExportResult> {
+    private final GameService gameService;
+    private final File file;
+    private final ExportFormat format;
+    private final boolean gzip;
+
+    public FlashcardExportTask(GameService gameService, File file, ExportFormat format, boolean gzip) {
+        this.gameService = gameService;
+        this.file = file;
+        this.format = format;
+        this.gzip = gzip;
+    }
+
+    @Override
+    protected FlashcardExportService.ExportResult call() {
+        updateMessage("Writing " + file.getName() + "...");
+        
+        return gameService.exportFlashcards(file, format, gzip, new FlashcardExportService.ExportListener() {
+            @Override
+            public void onProgress(FlashcardExportService.ExportProgress progress) {
+                updateProgress(progress.getCardsWritten(), Math.max(1, progress.getTotalCards()));
+                updateMessage(formatProgress(progress));
+            }
+            
+            @Override
+            public boolean isCancelled() {
+                return FlashcardExportTask.this.isCancelled();
+            }
+        });
+    }
+
+    /**
+     * Formats e.g. "12,400 of 50,000 cards · 3.1 MB · 41,000 cards/s".
+     */
+    static String formatProgress(FlashcardExportService.ExportProgress progress) {
+        return String.format("%,d of %,d cards · %.1f MB · %,.0f cards/s",
+            progress.getCardsWritten(),
+            progress.getTotalCards(),
+            progress.getBytesWritten() / 1_048_576.0,
+            progress.getCardsPerSecond());
+    }
+}
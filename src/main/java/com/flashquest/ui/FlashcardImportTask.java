@@ -0,0 +1,56 @@
+package com.flashquest.ui;
+
+import com.flashquest.service.FlashcardImportService;
+import com.flashquest.service.GameService;
+import javafx.concurrent.Task;
+
+import java.io.File;
+
+/**
+ * Background import job for the flashcard manager.
+ * Publishes bytes-read progress and a status line with cards parsed, throughput and ETA.
+ * Cancelling before the import finishes adds no cards, except batches already committed to an
+ * active save profile.
+ */
+public class FlashcardImportTask extends Task<FlashcardImportService.ImportResult> {
+    private final GameService gameService;
+    private final File file;
+
+    public FlashcardImportTask(GameService gameService, File file) {
+        this.gameService = gameService;
+        this.file = file;
+    }
+
+    @Override
+    protected FlashcardImportService.ImportResult call() {
+        updateMessage("Reading " + file.getName() + "...");
+        
+        return gameService.importFlashcardsFromFile(file, new FlashcardImportService.ImportListener() {
+            @Override
+            public void onProgress(FlashcardImportService.ImportProgress progress) {
+                updateProgress(progress.getBytesRead(), Math.max(1, progress.getTotalBytes()));
+                updateMessage(formatProgress(progress));
+            }
+            
+            @Override
+            public boolean isCancelled() {
+                return FlashcardImportTask.this.isCancelled();
+            }
+        });
+    }
+
+    /**
+     * Formats e.g. "12,400 cards · 3.1 of 9.8 MB · 4,100 cards/s · ETA 2s".
+     */
+    static String formatProgress(FlashcardImportService.ImportProgress progress) {
+        String eta = progress.getEtaSeconds() >= 0
+            ? String.format("ETA %ds", Math.round(progress.getEtaSeconds()))
+            : "ETA --";
+        return String.format("%,d cards · %.1f of %.1f MB · %,.0f cards/s · %s",
+            progress.getCardsParsed(),
+            progress.getBytesRead() / 1_048_576.0,
+            progress.getTotalBytes() / 1_048_576.0,
+            progress.getCardsPerSecond(),
+            eta);
+    }
+}
@@ -2,38 +2,67 @@ package com.flashquest.ui;
 
 import com.flashquest.model.DifficultyLevel;
 import com.flashquest.model.Flashcard;
+import com.flashquest.service.ExportFormat;
+import com.flashquest.service.FlashcardExportService;
 import com.flashquest.service.FlashcardImportService;
+import com.flashquest.service.GameEvent;
+import com.flashquest.service.GameEventBus;
 import com.flashquest.service.GameService;
+import com.flashquest.service.TrigramIndex;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
 import javafx.scene.text.Text;
 import javafx.stage.FileChooser;
+import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
  * Controller for the flashcard management screen.
  * Handles viewing, adding, editing, and importing flashcards.
+ *
+ * The table shows a sorted, filtered view of the deck, so filtering never rebuilds the list.
+ * Text search runs a moment after typing stops, against lowercase keys computed once per card;
+ * a query that extends the previous one only rechecks the previous matches, and large searches
+ * run on the game's background thread, through the game's trigram index when the whole deck
+ * has to be searched.
  */
 public class FlashcardManagerController implements Initializable, ScreenController {
     private static final Logger logger = LoggerFactory.getLogger(FlashcardManagerController.class);
     
+    // Searches over fewer cards than this run on the FX thread
+    private static final int BACKGROUND_SEARCH_THRESHOLD = 5_000;
+    private static final Duration SEARCH_DEBOUNCE = Duration.millis(150);
+    
     @FXML private Button backButton;
     @FXML private Button addCardButton;
     @FXML private Button importCardsButton;
+    @FXML private Button exportCardsButton;
+    @FXML private Button validateCardsButton;
     @FXML private Button openTemplateButton;
     
     @FXML private TableView<Flashcard> flashcardTable;
@@ -45,14 +74,30 @@ public class FlashcardManagerController implements Initializable, ScreenControll
     @FXML private TextField searchField;
     @FXML private ComboBox<String> categoryFilterComboBox;
     @FXML private ComboBox<DifficultyLevel> difficultyFilterComboBox;
+    @FXML private TextField tagFilterField;
     
     @FXML private Label totalCardsLabel;
     @FXML private Label filteredCardsLabel;
     
+    @FXML private HBox taskProgressBox;
+    @FXML private ProgressBar taskProgressBar;
+    @FXML private Label taskStatusLabel;
+    @FXML private Button cancelTaskButton;
+    
     private AppController appController;
     private GameService gameService;
     private ObservableList<Flashcard> allFlashcards;
-    private ObservableList<Flashcard> filteredFlashcards;
+    private FilteredList<Flashcard> filteredFlashcards;
+    private final GameEventBus.Listener eventListener = this::onGameEvents;
+    private boolean deckLoaded;
+    private Task<?> backgroundTask;
+    private Set<Flashcard> tagMatches;
+    
+    // Search keys in deck order, parallel to allFlashcards
+    private final List<SearchEntry> searchEntries = new ArrayList<>();
+    private final PauseTransition searchDebounce = new PauseTransition(SEARCH_DEBOUNCE);
+    private TextMatches textMatches;
+    private int searchRequest;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -61,10 +106,13 @@ public class FlashcardManagerController implements Initializable, ScreenControll
         
         // Initialize collections first to avoid null pointer issues
         allFlashcards = FXCollections.observableArrayList();
-        filteredFlashcards = FXCollections.observableArrayList();
+        filteredFlashcards = new FilteredList<>(allFlashcards);
         
         if (flashcardTable != null) {
             setupTableColumns();
+            SortedList<Flashcard> sortedFlashcards = new SortedList<>(filteredFlashcards);
+            sortedFlashcards.comparatorProperty().bind(flashcardTable.comparatorProperty());
+            flashcardTable.setItems(sortedFlashcards);
         }
         if (categoryFilterComboBox != null && difficultyFilterComboBox != null) {
             setupFilters();
@@ -74,12 +122,70 @@ public class FlashcardManagerController implements Initializable, ScreenControll
     @Override
     public void setAppController(AppController appController) {
         this.appController = appController;
-        refreshFlashcards();
     }
 
+    /**
+     * Loads the deck the first time the screen is shown. The screen is cached, and from then
+     * on it stays subscribed while hidden, so later shows only see the deltas applied since.
+     */
     @Override
     public void onScreenShown() {
-        refreshFlashcards();
+        if (!deckLoaded) {
+            deckLoaded = true;
+            gameService.getEventBus().subscribe(eventListener);
+            refreshFlashcards();
+        }
+    }
+
+    @Override
+    public void onScreenHidden() {
+        // Stay subscribed so the table is current when the screen comes back
+    }
+
+    /**
+     * Applies card deltas from the game service instead of reloading the whole deck.
+     */
+    private void onGameEvents(List<GameEvent> events) {
+        for (GameEvent event : events) {
+            switch (event.getType()) {
+                case DATA_RESET -> {
+                    refreshFlashcards();
+                    return;
+                }
+                case CARDS_ADDED -> appendFlashcards(event.getCards());
+                default -> { }
+            }
+        }
+    }
+
+    /**
+     * Appends newly added cards to the table, keeping filters and category options in sync.
+     */
+    private void appendFlashcards(List<Flashcard> cards) {
+        if (cards.isEmpty()) return;
+        
+        for (Flashcard card : cards) {
+            SearchEntry entry = SearchEntry.of(card);
+            searchEntries.add(entry);
+            if (textMatches != null) {
+                textMatches.addIfMatching(entry);
+            }
+        }
+        updateTagMatches();
+        // The filtered view tests only the new cards against the current filters
+        allFlashcards.addAll(cards);
+        
+        if (categoryFilterComboBox != null) {
+            List<String> categories = categoryFilterComboBox.getItems();
+            for (Flashcard card : cards) {
+                int position = Collections.binarySearch(categories, card.getCategory());
+                if (position < 0) {
+                    categories.add(-position - 1, card.getCategory());
+                }
+            }
+        }
+        
+        updateCountLabels();
     }
 
     /**
@@ -100,8 +206,8 @@ public class FlashcardManagerController implements Initializable, ScreenControll
             difficultyColumn.setPrefWidth(100);
         }
         if (tagsColumn != null) {
-            // Tags not supported in current Flashcard model, show empty string
-            tagsColumn.setCellValueFactory(cellData -> new SimpleStringProperty(""));
+            tagsColumn.setCellValueFactory(cellData -> 
+                new SimpleStringProperty(String.join(", ", cellData.getValue().getTags())));
             tagsColumn.setPrefWidth(200);
         }
 
@@ -126,11 +232,35 @@ public class FlashcardManagerController implements Initializable, ScreenControll
             difficultyFilterComboBox.valueProperty().addListener((obs, oldVal, newVal) -> applyFilters());
         }
 
+        // Typed filters wait until typing pauses
+        searchDebounce.setOnFinished(event -> {
+            updateTagMatches();
+            updateTextMatches();
+        });
+
         // Search field
         if (searchField != null) {
-            searchField.textProperty().addListener((obs, oldVal, newVal) -> applyFilters());
+            searchField.textProperty().addListener((obs, oldVal, newVal) -> searchDebounce.playFromStart());
             searchField.setPromptText("Search questions, answers, or tags...");
         }
+
+        // Tag query filter, answered by the game service's tag index
+        if (tagFilterField != null) {
+            tagFilterField.setPromptText("Tags, e.g. java & streams | collections");
+            tagFilterField.textProperty().addListener((obs, oldVal, newVal) -> searchDebounce.playFromStart());
+        }
+    }
+
+    /**
+     * Looks up the cards matching the tag filter, or clears the lookup when the filter is blank.
+     */
+    private void updateTagMatches() {
+        String tagQuery = tagFilterField != null ? tagFilterField.getText() : null;
+        if (tagQuery == null || tagQuery.isBlank()) {
+            tagMatches = null;
+        } else {
+            tagMatches = new HashSet<>(gameService.findFlashcardsByTags(tagQuery));
+        }
     }
 
     /**
@@ -138,15 +268,12 @@ public class FlashcardManagerController implements Initializable, ScreenControll
      */
     private void refreshFlashcards() {
         List<Flashcard> cards = gameService.getAllFlashcards();
-        allFlashcards.clear();
-        allFlashcards.addAll(cards);
-        
-        filteredFlashcards.clear();
-        filteredFlashcards.addAll(cards);
-        
-        if (flashcardTable != null) {
-            flashcardTable.setItems(filteredFlashcards);
+        searchEntries.clear();
+        for (Flashcard card : cards) {
+            searchEntries.add(SearchEntry.of(card));
         }
+        updateTagMatches();
+        allFlashcards.setAll(cards);
         
         // Update category filter options
         if (categoryFilterComboBox != null) {
@@ -166,22 +293,73 @@ public class FlashcardManagerController implements Initializable, ScreenControll
         }
         
         updateCountLabels();
-        applyFilters();
+        // The previous matches stay on screen until the new deck has been searched
+        updateTextMatches(true);
+    }
+
+    private void updateTextMatches() {
+        updateTextMatches(false);
     }
 
     /**
-     * Applies the current filters to the flashcard list.
+     * Brings the text matches up to date with the search field, then reapplies the filters.
+     *
+     * @param deckReplaced Whether the deck was reloaded, so the previous matches cannot be reused
      */
-    private void applyFilters() {
-        if (allFlashcards == null) return;
-
-        List<Flashcard> filtered = allFlashcards.stream()
-            .filter(this::matchesFilters)
-            .collect(Collectors.toList());
+    private void updateTextMatches(boolean deckReplaced) {
+        String query = TrigramIndex.normalizeQuery(searchField != null ? searchField.getText() : null);
+        // Supersedes any search still running
+        int request = ++searchRequest;
+        
+        if (query.isEmpty()) {
+            textMatches = null;
+            applyFilters();
+            return;
+        }
+        if (!deckReplaced && textMatches != null && textMatches.query.equals(query)) {
+            applyFilters();
+            return;
+        }
+        
+        // Extending the query can only drop matches, so only the previous ones need checking
+        List<SearchEntry> candidates = !deckReplaced && textMatches != null && query.contains(textMatches.query)
+            ? textMatches.entries : searchEntries;
+        if (candidates.size() < BACKGROUND_SEARCH_THRESHOLD) {
+            textMatches = TextMatches.search(query, candidates);
+            applyFilters();
+            return;
+        }
+        
+        // The lists keep growing on the FX thread, so a refining search gets a copy
+        boolean wholeDeck = candidates == searchEntries;
+        List<SearchEntry> snapshot = wholeDeck ? List.of() : List.copyOf(candidates);
+        int searchedUpTo = searchEntries.size();
+        CompletableFuture.supplyAsync(() -> wholeDeck
+                ? TextMatches.of(query, gameService.searchFlashcards(query, 0))
+                : TextMatches.search(query, snapshot), gameService.getBackgroundExecutor())
+            .whenComplete((matches, failure) -> Platform.runLater(() -> {
+                if (request != searchRequest) return;
+                if (failure != null) {
+                    logger.error("Flashcard search failed", failure);
+                    return;
+                }
+                // Cards added while the search ran were not in the copy
+                for (SearchEntry entry : searchEntries.subList(searchedUpTo, searchEntries.size())) {
+                    matches.addIfMatching(entry);
+                }
+                textMatches = matches;
+                applyFilters();
+            }));
+    }
 
-        filteredFlashcards.clear();
-        filteredFlashcards.addAll(filtered);
+    /**
+     * Reapplies the current filters. The filtered view reports the difference to the table
+     * as one change instead of a clear and re-add.
+     */
+    private void applyFilters() {
+        if (filteredFlashcards == null) return;
         
+        filteredFlashcards.setPredicate(this::matchesFilters);
         updateCountLabels();
     }
 
@@ -190,16 +368,13 @@ public class FlashcardManagerController implements Initializable, ScreenControll
      */
     private boolean matchesFilters(Flashcard card) {
         // Search text filter
-        if (searchField != null) {
-            String searchText = searchField.getText();
-            if (searchText != null && !searchText.trim().isEmpty()) {
-                String search = searchText.toLowerCase().trim();
-                boolean matchesSearch = card.getQuestion().toLowerCase().contains(search) ||
-                                      card.getAnswer().toLowerCase().contains(search) ||
-                                      card.getCategory().toLowerCase().contains(search);
-                                      // Note: Tags search removed since current Flashcard model doesn't support tags
-                if (!matchesSearch) return false;
-            }
+        if (textMatches != null && !textMatches.contains(card)) {
+            return false;
+        }
+
+        // Tag filter
+        if (tagMatches != null && !tagMatches.contains(card)) {
+            return false;
         }
 
         // Category filter
@@ -260,9 +435,9 @@ public class FlashcardManagerController implements Initializable, ScreenControll
         // Show add card dialog
         AddCardDialog dialog = new AddCardDialog();
         dialog.showAndWait().ifPresent(card -> {
+            // The table picks the new card up from the CARDS_ADDED event
             gameService.addFlashcard(card.getQuestion(), card.getAnswer(), 
-                                   card.getCategory(), card.getDifficulty());
-            refreshFlashcards();
+                                   card.getCategory(), card.getDifficulty(), card.getTags());
             if (appController != null) {
                 appController.showInfoDialog("Card Added", 
                     "Flashcard added successfully!\n\nQuestion: " + 
@@ -278,10 +453,25 @@ public class FlashcardManagerController implements Initializable, ScreenControll
     private void onImportCards() {
         logger.info("Import cards button clicked");
         
+        File selectedFile = chooseDeckFile("Import Flashcards", importCardsButton);
+        if (selectedFile != null) {
+            performImport(selectedFile);
+        }
+    }
+
+    /**
+     * Asks for a deck file in one of the importable formats.
+     *
+     * @return the chosen file, or null if the dialog was cancelled
+     */
+    private File chooseDeckFile(String title, Button owner) {
         FileChooser fileChooser = new FileChooser();
-        fileChooser.setTitle("Import Flashcards");
+        fileChooser.setTitle(title);
         fileChooser.getExtensionFilters().addAll(
-            new FileChooser.ExtensionFilter("Text Files", "*.txt"),
+            new FileChooser.ExtensionFilter("Flashcard Decks", "*.txt", "*.csv", "*.tsv"),
+            new FileChooser.ExtensionFilter("Text Files / Anki Exports", "*.txt"),
+            new FileChooser.ExtensionFilter("CSV Files", "*.csv"),
+            new FileChooser.ExtensionFilter("TSV Files", "*.tsv"),
             new FileChooser.ExtensionFilter("All Files", "*.*")
         );
         
@@ -291,35 +481,208 @@ public class FlashcardManagerController implements Initializable, ScreenControll
             fileChooser.setInitialDirectory(initialDir);
         }
         
-        File selectedFile = fileChooser.showOpenDialog(
-            importCardsButton != null ? importCardsButton.getScene().getWindow() : null);
+        return fileChooser.showOpenDialog(owner != null ? owner.getScene().getWindow() : null);
+    }
+
+    /**
+     * Starts the import as a background task so the screen stays interactive.
+     * Imported cards reach the table through the CARDS_ADDED event.
+     */
+    private void performImport(File file) {
+        if (backgroundTask != null && backgroundTask.isRunning()) {
+            return;
+        }
+        logger.info("Starting import from file: {}", file.getAbsolutePath());
+        
+        FlashcardImportTask task = new FlashcardImportTask(gameService, file);
+        task.setOnSucceeded(event -> {
+            setBackgroundTaskRunning(false);
+            showImportResults(task.getValue(), file.getName());
+        });
+        task.setOnCancelled(event -> {
+            setBackgroundTaskRunning(false);
+            logger.info("Import from {} cancelled", file.getName());
+            if (appController != null) {
+                appController.showInfoDialog("Import Cancelled",
+                    "Import from '" + file.getName() + "' was cancelled.\n\nNo cards were added.");
+            }
+        });
+        task.setOnFailed(event -> {
+            setBackgroundTaskRunning(false);
+            logger.error("Error during import", task.getException());
+            if (appController != null) {
+                appController.showErrorDialog("Import Error", 
+                    "Failed to import flashcards:\n\n" + task.getException().getMessage());
+            }
+        });
         
+        startBackgroundTask(task, "flashquest-import");
+    }
+
+    /**
+     * Handles the validate cards button click: checks a deck file as an import would,
+     * without adding any cards.
+     */
+    @FXML
+    private void onValidateCards() {
+        logger.info("Validate cards button clicked");
+        if (backgroundTask != null && backgroundTask.isRunning()) {
+            return;
+        }
+        
+        File selectedFile = chooseDeckFile("Validate Flashcards", validateCardsButton);
         if (selectedFile != null) {
-            performImport(selectedFile);
+            performValidation(selectedFile);
         }
     }
 
     /**
-     * Performs the actual import operation.
+     * Starts the validation as a background task. The findings are written next to the
+     * validated file, e.g. deck.txt.validation.tsv.
      */
-    private void performImport(File file) {
-        try {
-            logger.info("Starting import from file: {}", file.getAbsolutePath());
-            
-            FlashcardImportService.ImportResult result = gameService.importFlashcardsFromFile(file);
-            
-            // Refresh the UI
-            refreshFlashcards();
-            
-            // Show results dialog
-            showImportResults(result, file.getName());
-            
-        } catch (Exception e) {
-            logger.error("Error during import", e);
+    private void performValidation(File file) {
+        File reportFile = new File(file.getAbsoluteFile().getParentFile(), file.getName() + ".validation.tsv");
+        logger.info("Starting validation of file: {}", file.getAbsolutePath());
+        
+        FlashcardValidationTask task = new FlashcardValidationTask(gameService, file, reportFile);
+        task.setOnSucceeded(event -> {
+            setBackgroundTaskRunning(false);
+            showValidationResults(task.getValue(), file.getName());
+        });
+        task.setOnCancelled(event -> {
+            setBackgroundTaskRunning(false);
+            logger.info("Validation of {} cancelled", file.getName());
             if (appController != null) {
-                appController.showErrorDialog("Import Error", 
-                    "Failed to import flashcards:\n\n" + e.getMessage());
+                appController.showInfoDialog("Validation Cancelled",
+                    "Validation of '" + file.getName() + "' was cancelled.");
+            }
+        });
+        task.setOnFailed(event -> {
+            setBackgroundTaskRunning(false);
+            logger.error("Error during validation", task.getException());
+            if (appController != null) {
+                appController.showErrorDialog("Validation Error", 
+                    "Failed to validate flashcards:\n\n" + task.getException().getMessage());
+            }
+        });
+        
+        startBackgroundTask(task, "flashquest-validate");
+    }
+
+    /**
+     * Handles the export cards button click.
+     */
+    @FXML
+    private void onExportCards() {
+        logger.info("Export cards button clicked");
+        if (backgroundTask != null && backgroundTask.isRunning()) {
+            return;
+        }
+        
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Export Flashcards");
+        fileChooser.getExtensionFilters().addAll(
+            new FileChooser.ExtensionFilter("FlashQuest Text (importable)", "*.txt"),
+            new FileChooser.ExtensionFilter("CSV Files (importable)", "*.csv"),
+            new FileChooser.ExtensionFilter("NDJSON Files", "*.ndjson"),
+            new FileChooser.ExtensionFilter("Gzip-compressed Exports", "*.txt.gz", "*.csv.gz", "*.ndjson.gz")
+        );
+        fileChooser.setInitialFileName("flashquest-deck.txt");
+        
+        File initialDir = new File(System.getProperty("user.home"));
+        if (initialDir.exists()) {
+            fileChooser.setInitialDirectory(initialDir);
+        }
+        
+        File selectedFile = fileChooser.showSaveDialog(
+            exportCardsButton != null ? exportCardsButton.getScene().getWindow() : null);
+        
+        if (selectedFile != null) {
+            performExport(selectedFile);
+        }
+    }
+
+    /**
+     * Starts the export as a background task. The format and compression follow the file name.
+     */
+    private void performExport(File file) {
+        ExportFormat format = ExportFormat.fromFile(file);
+        boolean gzip = ExportFormat.isGzip(file);
+        logger.info("Starting {} export to file: {}", format.getDisplayName(), file.getAbsolutePath());
+        
+        FlashcardExportTask task = new FlashcardExportTask(gameService, file, format, gzip);
+        task.setOnSucceeded(event -> {
+            setBackgroundTaskRunning(false);
+            FlashcardExportService.ExportResult result = task.getValue();
+            if (appController != null) {
+                appController.showInfoDialog("Export Successful!", String.format(
+                    "Exported %,d flashcards to '%s' (%s%s, %.1f KB).",
+                    result.getCardsWritten(), file.getName(), format.getDisplayName(),
+                    gzip ? ", gzip" : "", result.getBytesWritten() / 1024.0));
             }
+        });
+        task.setOnCancelled(event -> {
+            setBackgroundTaskRunning(false);
+            logger.info("Export to {} cancelled", file.getName());
+            if (appController != null) {
+                appController.showInfoDialog("Export Cancelled",
+                    "Export to '" + file.getName() + "' was cancelled.\n\nNo file was written.");
+            }
+        });
+        task.setOnFailed(event -> {
+            setBackgroundTaskRunning(false);
+            logger.error("Error during export", task.getException());
+            if (appController != null) {
+                appController.showErrorDialog("Export Error", 
+                    "Failed to export flashcards:\n\n" + task.getException().getMessage());
+            }
+        });
+        
+        startBackgroundTask(task, "flashquest-export");
+    }
+
+    /**
+     * Binds the progress row to a task and runs it on a daemon thread.
+     */
+    private void startBackgroundTask(Task<?> task, String threadName) {
+        backgroundTask = task;
+        taskProgressBar.progressProperty().bind(task.progressProperty());
+        taskStatusLabel.textProperty().bind(task.messageProperty());
+        setBackgroundTaskRunning(true);
+        
+        Thread thread = new Thread(task, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Handles the cancel button on the progress row.
+     */
+    @FXML
+    private void onCancelTask() {
+        if (backgroundTask != null) {
+            // Imports and exports poll for cancellation; interrupting could break a save in progress
+            backgroundTask.cancel(false);
+        }
+    }
+
+    /**
+     * Shows or hides the progress row and locks the import and export buttons while a task runs.
+     */
+    private void setBackgroundTaskRunning(boolean running) {
+        taskProgressBox.setVisible(running);
+        taskProgressBox.setManaged(running);
+        importCardsButton.setDisable(running);
+        if (exportCardsButton != null) {
+            exportCardsButton.setDisable(running);
+        }
+        if (validateCardsButton != null) {
+            validateCardsButton.setDisable(running);
+        }
+        if (!running) {
+            taskProgressBar.progressProperty().unbind();
+            taskStatusLabel.textProperty().unbind();
+            backgroundTask = null;
         }
     }
 
@@ -334,6 +697,9 @@ public class FlashcardManagerController implements Initializable, ScreenControll
         message.append(String.format("• Successfully imported: %d\n", result.getSuccessfulImports()));
         message.append(String.format("• Duplicates skipped: %d\n", result.getSkippedDuplicates()));
         message.append(String.format("• Failed imports: %d\n", result.getFailedImports()));
+        if (!result.getSuspectedDuplicates().isEmpty()) {
+            message.append(String.format("• Possible near-duplicates: %d\n", result.getSuspectedDuplicates().size()));
+        }
 
         if (!result.getErrorMessages().isEmpty()) {
             message.append("\n⚠️ Issues encountered:\n");
@@ -347,12 +713,45 @@ public class FlashcardManagerController implements Initializable, ScreenControll
             }
         }
 
+        if (!result.getSuspectedDuplicates().isEmpty()) {
+            message.append("\n🔍 Similar to existing questions (imported, please review):\n");
+            List<FlashcardImportService.SuspectedDuplicate> suspects = result.getSuspectedDuplicates();
+            int maxSuspects = Math.min(5, suspects.size());
+            for (int i = 0; i < maxSuspects; i++) {
+                message.append("• ").append(suspects.get(i)).append("\n");
+            }
+            if (suspects.size() > maxSuspects) {
+                message.append(String.format("... and %d more\n", suspects.size() - maxSuspects));
+            }
+        }
+
         String title = result.isSuccessful() ? "Import Successful!" : "Import Completed with Issues";
         if (appController != null) {
             appController.showInfoDialog(title, message.toString());
         }
     }
 
+    /**
+     * Shows the validation totals and where the full report was written.
+     */
+    private void showValidationResults(FlashcardImportService.ValidationReport report, String fileName) {
+        StringBuilder message = new StringBuilder();
+        message.append(String.format("Validation of '%s' completed.\n\n", fileName));
+        message.append(String.format("📊 Results:\n"));
+        message.append(String.format("• Total cards checked: %d\n", report.getTotalCards()));
+        message.append(String.format("• Valid: %d\n", report.getValidCards()));
+        message.append(String.format("• Rejected: %d\n", report.getRejectedCards()));
+        report.getIssueCounts().forEach((issue, count) ->
+            message.append(String.format("• %s: %d\n", issue.getDescription(), count)));
+        message.append("\nNo cards were added. Every finding is listed in:\n")
+            .append(report.getReportFile().getAbsolutePath());
+
+        String title = report.hasErrors() ? "Validation Found Issues" : "Validation Passed";
+        if (appController != null) {
+            appController.showInfoDialog(title, message.toString());
+        }
+    }
+
     /**
      * Handles the open template button click.
      */
@@ -391,6 +790,56 @@ public class FlashcardManagerController implements Initializable, ScreenControll
         return text.substring(0, maxLength - 3) + "...";
     }
 
+    /**
+     * A card with the text it is searched by, as the game's trigram index sees it.
+     */
+    private record SearchEntry(Flashcard card, String key) {
+        static SearchEntry of(Flashcard card) {
+            return new SearchEntry(card, TrigramIndex.searchText(card));
+        }
+    }
+
+    /**
+     * Cards whose search key contains a query, in deck order. Built on whichever thread ran the
+     * search, then only touched on the FX thread.
+     */
+    private static final class TextMatches {
+        private final String query;
+        private final List<SearchEntry> entries = new ArrayList<>();
+        private final Set<Flashcard> cards = new HashSet<>();
+        
+        private TextMatches(String query) {
+            this.query = query;
+        }
+        
+        static TextMatches search(String query, List<SearchEntry> candidates) {
+            TextMatches matches = new TextMatches(query);
+            for (SearchEntry entry : candidates) {
+                matches.addIfMatching(entry);
+            }
+            return matches;
+        }
+        
+        static TextMatches of(String query, List<Flashcard> found) {
+            TextMatches matches = new TextMatches(query);
+            for (Flashcard card : found) {
+                matches.addIfMatching(SearchEntry.of(card));
+            }
+            return matches;
+        }
+        
+        void addIfMatching(SearchEntry entry) {
+            // The index may already hold cards whose CARDS_ADDED event has not arrived yet
+            if (entry.key().contains(query) && cards.add(entry.card())) {
+                entries.add(entry);
+            }
+        }
+        
+        boolean contains(Flashcard card) {
+            return cards.contains(card);
+        }
+    }
+
     /**
      * Simple dialog for adding a new flashcard.
      */
@@ -414,6 +863,9 @@ public class FlashcardManagerController implements Initializable, ScreenControll
             difficultyComboBox.getItems().addAll(DifficultyLevel.values());
             difficultyComboBox.setValue(DifficultyLevel.MEDIUM);
 
+            TextField tagsField = new TextField();
+            tagsField.setPromptText("Optional, comma separated...");
+
             // Create layout
             GridPane grid = new GridPane();
             grid.setHgap(10);
@@ -428,6 +880,8 @@ public class FlashcardManagerController implements Initializable, ScreenControll
             grid.add(categoryField, 1, 2);
             grid.add(new Label("Difficulty:"), 0, 3);
             grid.add(difficultyComboBox, 1, 3);
+            grid.add(new Label("Tags:"), 0, 4);
+            grid.add(tagsField, 1, 4);
 
             getDialogPane().setContent(grid);
             getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
@@ -442,12 +896,14 @@ public class FlashcardManagerController implements Initializable, ScreenControll
             // Convert result
             setResultConverter(dialogButton -> {
                 if (dialogButton == ButtonType.OK) {
-                    return new Flashcard(
+                    Flashcard card = new Flashcard(
                         questionField.getText().trim(),
                         answerArea.getText().trim(),
                         categoryField.getText().trim(),
                         difficultyComboBox.getValue()
                     );
+                    card.setTags(Flashcard.parseTags(tagsField.getText()));
+                    return card;
                 }
                 return null;
             });
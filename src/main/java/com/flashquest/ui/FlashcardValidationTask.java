@@ -0,0 +1,42 @@
+package com.flashquest.ui;
+
+import com.flashquest.service.FlashcardImportService;
+import com.flashquest.service.GameService;
+import javafx.concurrent.Task;
+
+import java.io.File;
+
+/**
+ * Background validation (dry-run import) job for the flashcard manager.
+ * Publishes the same progress as an import and writes every finding to a report file.
+ * Never changes the deck, cancelled or not.
+ */
+public class FlashcardValidationTask extends Task<FlashcardImportService.ValidationReport> {
+    private final GameService gameService;
+    private final File file;
+    private final File reportFile;
+
+    public FlashcardValidationTask(GameService gameService, File file, File reportFile) {
+        this.gameService = gameService;
+        this.file = file;
+        this.reportFile = reportFile;
+    }
+
+    @Override
+    protected FlashcardImportService.ValidationReport call() {
+        updateMessage("Validating " + file.getName() + "...");
+        
+        return gameService.validateImportFile(file, reportFile, new FlashcardImportService.ImportListener() {
+            @Override
+            public void onProgress(FlashcardImportService.ImportProgress progress) {
+                updateProgress(progress.getBytesRead(), Math.max(1, progress.getTotalBytes()));
+                updateMessage(FlashcardImportTask.formatProgress(progress));
+            }
+            
+            @Override
+            public boolean isCancelled() {
+                return FlashcardValidationTask.this.isCancelled();
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.flashquest.ui;
+
+import com.flashquest.util.LatencyHistogram;
+import javafx.animation.AnimationTimer;
+
+/**
+ * Records the time between consecutive frames while running.
+ *
+ * A smooth screen shows one frame per display refresh; a frame that took long to build or
+ * lay out shows up as a long interval. Running the timer makes JavaFX schedule a pulse every
+ * frame even when nothing changes, so it is a debugging aid, switched on with the system
+ * property {@value #ENABLED_PROPERTY}. Must be used on the FX thread.
+ */
+public class FrameTimeMonitor {
+    /** System property that turns on frame time recording. */
+    public static final String ENABLED_PROPERTY = "flashquest.frameTimes";
+
+    private final LatencyHistogram frameTimes = new LatencyHistogram();
+    private long lastFrameNanos;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (lastFrameNanos != 0) {
+                frameTimes.record(now - lastFrameNanos);
+            }
+            lastFrameNanos = now;
+        }
+    };
+
+    /**
+     * Checks whether frame time recording was requested for this run.
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(ENABLED_PROPERTY);
+    }
+
+    /**
+     * Starts recording. The first frame after starting only sets the baseline.
+     */
+    public void start() {
+        lastFrameNanos = 0;
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    /**
+     * Gets the frame intervals recorded so far.
+     */
+    public LatencyHistogram getFrameTimes() {
+        return frameTimes;
+    }
+}
@@ -0,0 +1,180 @@
+package com.flashquest.ui;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wrapped text display for card content that can run to long code listings.
+ *
+ * One Label over a whole listing makes the FX thread lay out all of it in a single pulse.
+ * This view shows the text as a column of Labels, each holding a run of whole lines, so the
+ * listing reads exactly as one Label would; a paragraph too long for one Label is broken at
+ * whitespace. The first screenful goes in at once and the rest is added a few chunks per frame. Splitting is plain string work and is meant to be done
+ * ahead of time with {@link #split(String)}, off the FX thread.
+ */
+public class IncrementalTextView extends VBox {
+    private static final int MAX_CHUNK_CHARS = 1_200;
+    private static final int MAX_CHUNK_LINES = 24;
+    private static final int MIN_CHUNK_CHARS = 200;
+    private static final int IMMEDIATE_CHARS = 3_000;
+    private static final int CHARS_PER_FRAME = 2_400;
+
+    private String textStyleClass = "quest-answer-text";
+    private List<String> chunks = List.of();
+    private int shownChunks;
+
+    private final AnimationTimer feeder = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            showMore(CHARS_PER_FRAME);
+        }
+    };
+
+    /**
+     * Splits text into chunks of whole lines, breaking at blank lines where it can. A line too
+     * long for one chunk is broken at whitespace into chunks of its own.
+     * Text short enough to lay out in one go stays a single chunk.
+     */
+    public static List<String> split(String text) {
+        if (text.length() <= MAX_CHUNK_CHARS) {
+            return List.of(text);
+        }
+        
+        List<String> chunks = new ArrayList<>();
+        StringBuilder chunk = new StringBuilder();
+        int lines = 0;
+        int start = 0;
+        while (start <= text.length()) {
+            int end = text.indexOf('\n', start);
+            if (end < 0) end = text.length();
+            String line = text.substring(start, end);
+            start = end + 1;
+            
+            if (line.length() > MAX_CHUNK_CHARS) {
+                if (lines > 0) {
+                    chunks.add(chunk.toString());
+                    chunk.setLength(0);
+                    lines = 0;
+                }
+                splitLongLine(line, chunks);
+                continue;
+            }
+            
+            boolean paragraphBreak = line.isBlank() && chunk.length() >= MIN_CHUNK_CHARS;
+            boolean full = lines >= MAX_CHUNK_LINES || chunk.length() + 1 + line.length() > MAX_CHUNK_CHARS;
+            if (lines > 0 && (paragraphBreak || full)) {
+                chunks.add(chunk.toString());
+                chunk.setLength(0);
+                lines = 0;
+            }
+            if (lines > 0) chunk.append('\n');
+            chunk.append(line);
+            lines++;
+        }
+        if (lines > 0) {
+            chunks.add(chunk.toString());
+        }
+        return chunks;
+    }
+
+    /**
+     * Breaks one overlong line into chunks at whitespace, or mid-word if a word is that long.
+     * The space at each break is dropped, as the Label boundary takes its place.
+     */
+    private static void splitLongLine(String line, List<String> chunks) {
+        int from = 0;
+        while (line.length() - from > MAX_CHUNK_CHARS) {
+            int limit = from + MAX_CHUNK_CHARS;
+            int cut = limit;
+            while (cut > from + MIN_CHUNK_CHARS && !Character.isWhitespace(line.charAt(cut))) {
+                cut--;
+            }
+            if (!Character.isWhitespace(line.charAt(cut))) {
+                cut = limit;
+            }
+            chunks.add(line.substring(from, cut));
+            from = Character.isWhitespace(line.charAt(cut)) ? cut + 1 : cut;
+        }
+        chunks.add(line.substring(from));
+    }
+
+    /**
+     * Shows the given text, splitting it on the spot.
+     */
+    public void setText(String text) {
+        setChunks(split(text));
+    }
+
+    /**
+     * Shows text already split with {@link #split(String)}.
+     * Labels from previous texts are kept and reused so that a new card doesn't rebuild the column.
+     */
+    public void setChunks(List<String> chunks) {
+        feeder.stop();
+        this.chunks = chunks;
+        shownChunks = 0;
+        
+        showMore(IMMEDIATE_CHARS);
+        // Labels past the first screenful still hold the previous text; hide them until refilled
+        for (int i = shownChunks; i < getChildren().size(); i++) {
+            setShown(getChildren().get(i), false);
+        }
+        if (shownChunks < chunks.size()) {
+            feeder.start();
+        }
+    }
+
+    /**
+     * Adds chunks until roughly the given number of characters has been added.
+     */
+    private void showMore(int charBudget) {
+        int added = 0;
+        while (shownChunks < chunks.size() && added < charBudget) {
+            String chunk = chunks.get(shownChunks);
+            if (shownChunks < getChildren().size()) {
+                Label label = (Label) getChildren().get(shownChunks);
+                label.setText(chunk);
+                setShown(label, true);
+            } else {
+                getChildren().add(createLabel(chunk));
+            }
+            shownChunks++;
+            added += chunk.length();
+        }
+        
+        if (shownChunks == chunks.size()) {
+            feeder.stop();
+        }
+    }
+
+    private static void setShown(Node label, boolean shown) {
+        label.setVisible(shown);
+        label.setManaged(shown);
+    }
+
+    private Label createLabel(String text) {
+        Label label = new Label(text);
+        label.getStyleClass().add(textStyleClass);
+        label.setWrapText(true);
+        label.setMaxWidth(Double.MAX_VALUE);
+        return label;
+    }
+
+    public String getTextStyleClass() { return textStyleClass; }
+
+    /**
+     * Sets the style class of the Labels holding the text, e.g. quest-answer-text.
+     */
+    public void setTextStyleClass(String textStyleClass) {
+        for (var child : getChildren()) {
+            child.getStyleClass().remove(this.textStyleClass);
+            child.getStyleClass().add(textStyleClass);
+        }
+        this.textStyleClass = textStyleClass;
+    }
+}
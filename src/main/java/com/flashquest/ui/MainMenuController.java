@@ -1,6 +1,8 @@
 package com.flashquest.ui;
 
 import com.flashquest.model.Player;
+import com.flashquest.service.GameEvent;
+import com.flashquest.service.GameEventBus;
 import com.flashquest.service.GameService;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
@@ -11,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.util.List;
 import java.util.ResourceBundle;
 
 /**
@@ -39,6 +42,7 @@ public class MainMenuController implements Initializable, ScreenController {
     
     private AppController appController;
     private GameService gameService;
+    private final GameEventBus.Listener eventListener = this::onGameEvents;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
@@ -49,14 +53,32 @@ public class MainMenuController implements Initializable, ScreenController {
     @Override
     public void setAppController(AppController appController) {
         this.appController = appController;
-        refreshPlayerStats();
     }
 
     @Override
     public void onScreenShown() {
+        gameService.getEventBus().subscribe(eventListener);
         refreshPlayerStats();
     }
 
+    @Override
+    public void onScreenHidden() {
+        gameService.getEventBus().unsubscribe(eventListener);
+    }
+
+    /**
+     * Updates the stats panel when a batch of events touches the player.
+     */
+    private void onGameEvents(List<GameEvent> events) {
+        boolean playerChanged = events.stream().anyMatch(event -> switch (event.getType()) {
+            case STATS_CHANGED, XP_GAINED, LEVEL_UP, TITLE_UNLOCKED, DATA_RESET -> true;
+            default -> false;
+        });
+        if (playerChanged) {
+            refreshPlayerStats();
+        }
+    }
+
     /**
      * Refreshes all player statistics displayed on the main menu.
      */
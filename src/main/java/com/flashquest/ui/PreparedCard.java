@@ -0,0 +1,37 @@
+package com.flashquest.ui;
+
+import com.flashquest.model.DifficultyLevel;
+import com.flashquest.model.Flashcard;
+
+import java.util.List;
+
+/**
+ * Display-ready text for a quest card, prepared ahead of time.
+ * Long question and answer text is already split into chunks for {@link IncrementalTextView}.
+ */
+final class PreparedCard {
+    final String cardId;
+    final List<String> questionChunks;
+    final List<String> answerChunks;
+    final String categoryText;
+    final String difficultyText;
+
+    private PreparedCard(String cardId, List<String> questionChunks, List<String> answerChunks, 
+                         String categoryText, String difficultyText) {
+        this.cardId = cardId;
+        this.questionChunks = questionChunks;
+        this.answerChunks = answerChunks;
+        this.categoryText = categoryText;
+        this.difficultyText = difficultyText;
+    }
+
+    static PreparedCard of(Flashcard card) {
+        DifficultyLevel difficulty = card.getDifficulty();
+        return new PreparedCard(
+            card.getId(),
+            IncrementalTextView.split(card.getQuestion().strip()),
+            IncrementalTextView.split(card.getAnswer().strip()),
+            "📚 " + card.getCategory(),
+            difficulty.getDisplayText());
+    }
+}
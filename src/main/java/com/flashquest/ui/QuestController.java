@@ -1,21 +1,30 @@
 package com.flashquest.ui;
 
 import com.flashquest.model.*;
+import com.flashquest.service.GameEvent;
+import com.flashquest.service.GameEventBus;
 import com.flashquest.service.GameService;
+import com.flashquest.util.LatencyHistogram;
 import javafx.animation.FadeTransition;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
 
 /**
  * Controller for the quest gameplay screen.
@@ -23,6 +32,7 @@ import java.util.ResourceBundle;
  */
 public class QuestController implements Initializable, ScreenController {
     private static final Logger logger = LoggerFactory.getLogger(QuestController.class);
+    private static final int PREBUILT_CARDS = 2;
     
     // Header elements
     @FXML private Button abandonQuestButton;
@@ -39,12 +49,11 @@ public class QuestController implements Initializable, ScreenController {
     
     // Question elements
     @FXML private ScrollPane questionScrollPane;
-    @FXML private Label questionLabel;
-    @FXML private Label categoryLabel;
+    @FXML private StackPane questionSlots;
     
     // Answer elements
     @FXML private VBox answerSection;
-    @FXML private Label answerLabel;
+    @FXML private StackPane answerSlots;
     
     // Action buttons
     @FXML private Button showAnswerButton;
@@ -57,27 +66,57 @@ public class QuestController implements Initializable, ScreenController {
     private GameService gameService;
     private Quest activeQuest;
     private Flashcard currentFlashcard;
+    private PreparedCard currentCardView;
     private Player player;
     private int questXpEarned;
+    private CompletableFuture<List<PreparedCard>> upcomingCards;
+    private CardNodeCache cardNodes;
+    private final FrameTimeMonitor frameMonitor = new FrameTimeMonitor();
+    private final LatencyHistogram prebuiltCardLatency = new LatencyHistogram();
+    private final LatencyHistogram builtCardLatency = new LatencyHistogram();
+    private final GameEventBus.Listener eventListener = this::onGameEvents;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         logger.debug("Initializing QuestController");
         gameService = GameService.getInstance();
+        cardNodes = new CardNodeCache(questionSlots, answerSlots, PREBUILT_CARDS);
         questXpEarned = 0;
     }
 
     @Override
     public void setAppController(AppController appController) {
         this.appController = appController;
-        loadQuestData();
     }
     
     @Override
     public void onScreenShown() {
+        gameService.getEventBus().subscribe(eventListener);
+        if (FrameTimeMonitor.isEnabled()) {
+            frameMonitor.start();
+        }
         loadQuestData();
     }
     
+    @Override
+    public void onScreenHidden() {
+        gameService.getEventBus().unsubscribe(eventListener);
+        frameMonitor.stop();
+    }
+    
+    /**
+     * Refreshes the player status header when the player's stats change.
+     */
+    private void onGameEvents(List<GameEvent> events) {
+        if (player == null) return;
+        
+        boolean statsChanged = events.stream()
+            .anyMatch(event -> event.getType() == GameEvent.Type.STATS_CHANGED);
+        if (statsChanged) {
+            updatePlayerStatus();
+        }
+    }
+    
     /**
      * Loads and displays the active quest data.
      */
@@ -99,6 +138,10 @@ public class QuestController implements Initializable, ScreenController {
             return;
         }
         
+        // Cards built for an earlier quest won't come up again
+        upcomingCards = null;
+        cardNodes.clear();
+        
         updateDisplay();
         loadCurrentQuestion();
     }
@@ -107,25 +150,36 @@ public class QuestController implements Initializable, ScreenController {
      * Updates all display elements with current quest and player state.
      */
     private void updateDisplay() {
-        // Update header info
+        updateQuestProgress();
+        updatePlayerStatus();
+    }
+    
+    /**
+     * Updates the quest name, question counter, progress bar and quest XP.
+     */
+    private void updateQuestProgress() {
         questNameLabel.setText(activeQuest.getName());
         questProgressLabel.setText(String.format("Question %d of %d", 
             activeQuest.getCurrentQuestionIndex() + 1, activeQuest.getQuestionCount()));
         
-        playerNameLabel.setText(player.getName());
-        levelLabel.setText("Level " + player.getCurrentLevel());
-        hpLabel.setText(String.format("❤️ %d/%d", player.getCurrentHp(), player.getMaxHp()));
-        
-        // Update progress bars
         double questProgress = (double) activeQuest.getCurrentQuestionIndex() / activeQuest.getQuestionCount();
         questProgressBar.setProgress(questProgress);
         
-        double hpProgress = (double) player.getCurrentHp() / player.getMaxHp();
-        hpProgressBar.setProgress(hpProgress);
-        
         // Update XP info
         questXpEarned = activeQuest.getTotalXpEarned();
         questXpLabel.setText(questXpEarned + " XP");
+    }
+    
+    /**
+     * Updates the player's name, level, HP and XP progress.
+     */
+    private void updatePlayerStatus() {
+        playerNameLabel.setText(player.getName());
+        levelLabel.setText("Level " + player.getCurrentLevel());
+        hpLabel.setText(String.format("❤️ %d/%d", player.getCurrentHp(), player.getMaxHp()));
+        
+        double hpProgress = (double) player.getCurrentHp() / player.getMaxHp();
+        hpProgressBar.setProgress(hpProgress);
         
         // Update player XP progress
         updatePlayerXpDisplay();
@@ -149,6 +203,7 @@ public class QuestController implements Initializable, ScreenController {
      * Loads and displays the current flashcard question.
      */
     private void loadCurrentQuestion() {
+        long changedAt = System.nanoTime();
         currentFlashcard = activeQuest.getCurrentFlashcard();
         
         if (currentFlashcard == null) {
@@ -157,20 +212,64 @@ public class QuestController implements Initializable, ScreenController {
             return;
         }
         
-        // Display question
-        questionLabel.setText(currentFlashcard.getQuestion());
-        categoryLabel.setText("📚 " + currentFlashcard.getCategory());
+        currentCardView = takePrefetchedCard(currentFlashcard);
+        
+        // Display question, swapping in its nodes if they were built ahead
+        boolean prebuilt = cardNodes.show(currentCardView);
+        measureUntilNextFrame(changedAt, prebuilt ? prebuiltCardLatency::record : builtCardLatency::record);
         
         // Display difficulty
-        DifficultyLevel difficulty = currentFlashcard.getDifficulty();
-        difficultyLabel.setText(difficulty.getDisplayText());
+        difficultyLabel.setText(currentCardView.difficultyText);
         
         // Reset UI state for new question
         resetQuestionState();
         
+        // Prepare the following cards while the player reads this one
+        prefetchUpcomingCards();
+        
         logger.debug("Loaded question: {}", currentFlashcard.getQuestion());
     }
     
+    /**
+     * Returns the prefetched render data for the card if it is ready,
+     * otherwise prepares it on the spot.
+     */
+    private PreparedCard takePrefetchedCard(Flashcard card) {
+        CompletableFuture<List<PreparedCard>> prefetch = upcomingCards;
+        upcomingCards = null;
+        
+        if (prefetch != null && prefetch.isDone() && !prefetch.isCompletedExceptionally()) {
+            for (PreparedCard prepared : prefetch.join()) {
+                if (prepared.cardId.equals(card.getId())) {
+                    return prepared;
+                }
+            }
+        }
+        return PreparedCard.of(card);
+    }
+    
+    /**
+     * Starts preparing the next quest cards on the game's background thread, then has their
+     * nodes built over the following pulses.
+     */
+    private void prefetchUpcomingCards() {
+        List<Flashcard> upcoming = activeQuest.peekUpcomingFlashcards(PREBUILT_CARDS);
+        if (upcoming.isEmpty()) {
+            cardNodes.prepare(List.of());
+            return;
+        }
+        CompletableFuture<List<PreparedCard>> prefetch = CompletableFuture.supplyAsync(
+            () -> upcoming.stream().map(PreparedCard::of).collect(Collectors.toList()),
+            gameService.getBackgroundExecutor());
+        upcomingCards = prefetch;
+        prefetch.thenAcceptAsync(cards -> {
+            // Skip cards prepared for a question that has since been left
+            if (upcomingCards == prefetch) {
+                cardNodes.prepare(cards);
+            }
+        }, Platform::runLater);
+    }
+    
     /**
      * Resets the UI state for a new question.
      */
@@ -198,10 +297,7 @@ public class QuestController implements Initializable, ScreenController {
     private void onShowAnswer() {
         logger.info("Showing answer for current question");
         
-        // Display the answer
-        answerLabel.setText(currentFlashcard.getAnswer());
-        
-        // Show answer section with fade effect
+        // Show answer section with fade effect; its nodes were filled with the question
         answerSection.setVisible(true);
         answerSection.setManaged(true);
         
@@ -237,11 +333,14 @@ public class QuestController implements Initializable, ScreenController {
     
     /**
      * Processes the player's self-assessment and updates game state.
+     * Saving and stats updates happen off the FX thread; only the answer itself is applied here.
      */
     private void processAnswer(boolean correct) {
+        long answeredAt = System.nanoTime();
         try {
             // Process the answer through game service
             Quest.QuestionResult result = gameService.processQuestAnswer(correct);
+            measureUntilNextFrame(answeredAt, gameService::recordAnswerLatency);
             
             if (result.isError()) {
                 appController.showErrorDialog("Error", "Failed to process answer!");
@@ -272,6 +371,25 @@ public class QuestController implements Initializable, ScreenController {
         }
     }
     
+    /**
+     * Records the time from a click to the first frame laid out with its outcome.
+     */
+    private void measureUntilNextFrame(long startNanos, LongConsumer recorder) {
+        Scene scene = questionScrollPane.getScene();
+        if (scene == null) return;
+        
+        boolean[] measured = {false};
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            if (measured[0]) return;
+            measured[0] = true;
+            recorder.accept(System.nanoTime() - startNanos);
+            // Pulse listeners must not be removed while the pulse is running them
+            Platform.runLater(() -> scene.removePostLayoutPulseListener(listener[0]));
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+    
     /**
      * Shows XP feedback animation.
      */
@@ -280,8 +398,8 @@ public class QuestController implements Initializable, ScreenController {
         questXpEarned += xpEarned;
         questXpLabel.setText(questXpEarned + " XP");
         
-        // Update player displays
-        updateDisplay();
+        // Player HP/XP follow via the STATS_CHANGED event
+        updateQuestProgress();
         
         // Show feedback (simple text update for now)
         String feedback = correct ? 
@@ -302,8 +420,8 @@ public class QuestController implements Initializable, ScreenController {
         nextQuestionButton.setVisible(true);
         nextQuestionButton.setManaged(true);
         
-        // Update display for any changes (HP, etc.)
-        updateDisplay();
+        // HP changes arrive through the STATS_CHANGED event
+        updateQuestProgress();
     }
     
     /**
@@ -312,15 +430,28 @@ public class QuestController implements Initializable, ScreenController {
     @FXML
     private void onNextQuestion() {
         logger.info("Moving to next question");
-        updateDisplay();
+        updateQuestProgress();
         loadCurrentQuestion();
     }
     
+    /**
+     * Logs this session's answer, question change and frame timings.
+     */
+    private void logQuestMetrics() {
+        logger.info("Answer latency this session: {}", gameService.getAnswerLatency().summary());
+        logger.info("Question change, prebuilt nodes: {}", prebuiltCardLatency.summary());
+        logger.info("Question change, built on demand: {}", builtCardLatency.summary());
+        if (FrameTimeMonitor.isEnabled()) {
+            logger.info("Quest screen frame times: {}", frameMonitor.getFrameTimes().summary());
+        }
+    }
+    
     /**
      * Handles quest completion.
      */
     private void handleQuestCompletion() {
         logger.info("Quest completed!");
+        logQuestMetrics();
         
         boolean isPerfect = activeQuest.isPerfectQuest();
         int totalXp = activeQuest.getTotalXpEarned();
@@ -370,6 +501,7 @@ public class QuestController implements Initializable, ScreenController {
      */
     private void handleQuestFailure() {
         logger.info("Quest failed - HP reached zero");
+        logQuestMetrics();
         
         int questionsAnswered = activeQuest.getCurrentQuestionIndex();
         int correctAnswers = activeQuest.getCorrectAnswers();
@@ -401,8 +533,7 @@ public class QuestController implements Initializable, ScreenController {
         alert.setTitle("Abandon Quest?");
         alert.setHeaderText("Are you sure you want to abandon this quest?");
         alert.setContentText("You will lose all progress and return to the main menu.\nYour XP and HP will remain unchanged.");
-        alert.getDialogPane().getStylesheets().add(
-            getClass().getResource("/styles/dark-theme.css").toExternalForm());
+        appController.getThemeManager().styleDialog(alert);
         
         Optional<ButtonType> result = alert.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
@@ -44,7 +44,6 @@ public class QuestSelectionController implements Initializable, ScreenController
     @Override
     public void setAppController(AppController appController) {
         this.appController = appController;
-        refreshDisplay();
     }
 
     @Override
@@ -2,6 +2,7 @@ package com.flashquest.ui;
 
 import com.flashquest.model.Player;
 import com.flashquest.service.DatabaseService;
+import com.flashquest.service.GameService;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -297,9 +298,10 @@ public class SaveProfileController implements Initializable, ScreenController {
      */
     private void initializeGameWithProfile(DatabaseService.SaveProfile profile, Player player) {
         // TODO: Update GameService to work with database
-        // For now, we'll continue with the existing system but log the selection
+        // For now only imports go to the profile; the rest continues with the existing system
         logger.info("Initializing game with profile: {} and player: {}", 
             profile.getProfileName(), player.getName());
+        GameService.getInstance().setActiveProfile(profile.getId());
 
         // Close this dialog and proceed to main menu
         if (appController != null) {
@@ -8,20 +8,21 @@ public interface ScreenController {
     
     /**
      * Sets the main application controller reference.
-     * Called automatically when a screen is loaded.
+     * Called once, before the screen is first shown. Screens are cached and reused,
+     * so loading data belongs in onScreenShown.
      */
     void setAppController(AppController appController);
     
     /**
-     * Called when the screen is being shown.
-     * Override to perform initialization or refresh operations.
+     * Called every time the screen is shown.
+     * Override to refresh data and subscribe to events.
      */
     default void onScreenShown() {
         // Default implementation does nothing
     }
     
     /**
-     * Called when the screen is being hidden.
+     * Called when the screen is being hidden; the screen stays cached for the next visit.
      * Override to perform cleanup operations.
      */
     default void onScreenHidden() {
@@ -15,6 +15,7 @@ import java.net.URL;
 import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Controller for the start screen that allows players to load existing saves or create new ones.
@@ -33,6 +34,8 @@ public class StartScreenController implements ScreenController, Initializable {
     private GameService gameService;
     private DataService dataService;
     private ObservableList<DataService.SaveInfo> saveList;
+    private int saveListRequest;
+    private boolean loadingGame;
     
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
@@ -41,7 +44,6 @@ public class StartScreenController implements ScreenController, Initializable {
         this.saveList = FXCollections.observableArrayList();
         
         setupSaveList();
-        loadAvailableSaves();
     }
     
     @Override
@@ -49,6 +51,11 @@ public class StartScreenController implements ScreenController, Initializable {
         this.appController = appController;
     }
     
+    @Override
+    public void onScreenShown() {
+        loadAvailableSaves();
+    }
+    
     /**
      * Sets up the save list view with custom cell factory for displaying save information.
      */
@@ -87,13 +94,8 @@ public class StartScreenController implements ScreenController, Initializable {
         });
         
         // Handle selection changes
-        saveListView.getSelectionModel().selectedItemProperty().addListener((obs, oldSelection, newSelection) -> {
-            boolean hasSelection = newSelection != null;
-            boolean isValidSave = hasSelection && !newSelection.getPlayerName().equals("Corrupted Save");
-            
-            loadGameButton.setDisable(!isValidSave);
-            deleteGameButton.setDisable(!hasSelection);
-        });
+        saveListView.getSelectionModel().selectedItemProperty().addListener((obs, oldSelection, newSelection) ->
+            updateButtons());
         
         // Handle double-click to load game
         saveListView.setOnMouseClicked(event -> {
@@ -104,25 +106,53 @@ public class StartScreenController implements ScreenController, Initializable {
     }
     
     /**
-     * Loads and displays available save files.
+     * Enables the save buttons to match the selection, unless a save is being loaded.
+     */
+    private void updateButtons() {
+        DataService.SaveInfo selection = saveListView.getSelectionModel().getSelectedItem();
+        boolean hasSelection = selection != null;
+        boolean isValidSave = hasSelection && !selection.getPlayerName().equals("Corrupted Save");
+        
+        loadGameButton.setDisable(loadingGame || !isValidSave);
+        deleteGameButton.setDisable(loadingGame || !hasSelection);
+        newGameButton.setDisable(loadingGame);
+    }
+    
+    /**
+     * Loads and displays available save files. The save files are read in the background
+     * so the screen is interactive straight away.
      */
     private void loadAvailableSaves() {
-        try {
-            List<DataService.SaveInfo> saves = dataService.getAvailableSaves();
-            saveList.clear();
-            saveList.addAll(saves);
-            
-            logger.info("Found {} save files", saves.size());
-            
-            // Auto-select the most recent save if available
-            if (!saves.isEmpty() && !saves.get(0).getPlayerName().equals("Corrupted Save")) {
-                saveListView.getSelectionModel().select(0);
-            }
-            
-        } catch (Exception e) {
-            logger.error("Failed to load available saves", e);
-            appController.showErrorDialog("Error Loading Saves", 
-                "Failed to load available save files: " + e.getMessage());
+        int request = ++saveListRequest;
+        saveListView.setPlaceholder(new Label("Looking for saves..."));
+        
+        // A quest that just ended may still be saving; list the saves once it's written
+        gameService.whenSaved()
+            .thenApplyAsync(ignored -> dataService.getAvailableSaves(), gameService.getBackgroundExecutor())
+            .whenComplete((saves, failure) -> Platform.runLater(() -> {
+                // A newer refresh has been started since; its result wins
+                if (request != saveListRequest) return;
+                
+                saveListView.setPlaceholder(new Label("No saved adventures yet"));
+                if (failure != null) {
+                    logger.error("Failed to load available saves", failure);
+                    appController.showErrorDialog("Error Loading Saves", 
+                        "Failed to load available save files: " + failure.getMessage());
+                    return;
+                }
+                showAvailableSaves(saves);
+            }));
+    }
+    
+    private void showAvailableSaves(List<DataService.SaveInfo> saves) {
+        saveList.clear();
+        saveList.addAll(saves);
+        
+        logger.info("Found {} save files", saves.size());
+        
+        // Auto-select the most recent save if available
+        if (!saves.isEmpty() && !saves.get(0).getPlayerName().equals("Corrupted Save")) {
+            saveListView.getSelectionModel().select(0);
         }
     }
     
@@ -137,24 +167,34 @@ public class StartScreenController implements ScreenController, Initializable {
             return;
         }
         
-        try {
-            logger.info("Loading save: {}", selectedSave);
-            
-            // Initialize the game service without creating a new player
-            gameService.initializeGame();
-            
-            if (gameService.hasPlayer()) {
+        logger.info("Loading save: {}", selectedSave);
+        setLoadingGame(true);
+        
+        // Initialize the game service without creating a new player; usually already
+        // running or finished since startup
+        gameService.initializeGameAsync().whenComplete((ignored, failure) -> Platform.runLater(() -> {
+            setLoadingGame(false);
+            if (failure != null) {
+                Throwable cause = failure.getCause() != null ? failure.getCause() : failure;
+                logger.error("Failed to load save: {}", selectedSave, cause);
+                appController.showErrorDialog("Load Error", 
+                    "Failed to load save file: " + cause.getMessage());
+            } else if (gameService.hasPlayer()) {
                 logger.info("Successfully loaded player: {}", gameService.getCurrentPlayer().getName());
                 appController.showMainMenu();
             } else {
                 appController.showErrorDialog("Load Failed", "Failed to load the selected save file.");
             }
-            
-        } catch (Exception e) {
-            logger.error("Failed to load save: {}", selectedSave, e);
-            appController.showErrorDialog("Load Error", 
-                "Failed to load save file: " + e.getMessage());
-        }
+        }));
+    }
+    
+    /**
+     * Shows that a save is loading and blocks the other actions meanwhile.
+     */
+    private void setLoadingGame(boolean loading) {
+        loadingGame = loading;
+        loadGameButton.setText(loading ? "⏳ Loading..." : "🎮 Continue Game");
+        updateButtons();
     }
     
     /**
@@ -175,14 +215,13 @@ public class StartScreenController implements ScreenController, Initializable {
             "Are you sure you want to delete the save for '%s'?\n\nThis action cannot be undone.",
             selectedSave.getPlayerName()
         ));
-        confirmDialog.getDialogPane().getStylesheets().add(
-            getClass().getResource("/styles/dark-theme.css").toExternalForm());
+        appController.getThemeManager().styleDialog(confirmDialog);
         
         Optional<ButtonType> result = confirmDialog.showAndWait();
         if (result.isPresent() && result.get() == ButtonType.OK) {
             try {
-                // Delete the save data
-                dataService.deleteAllData();
+                // Delete the save data, including the copy already loaded in the background
+                gameService.deleteAllData();
                 
                 logger.info("Deleted save: {}", selectedSave);
                 appController.showInfoDialog("Save Deleted", 
@@ -0,0 +1,220 @@
+package com.flashquest.ui;
+
+import com.flashquest.util.LatencyHistogram;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Dialog;
+import javafx.scene.control.DialogPane;
+import javafx.stage.Screen;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies the dark theme and the display-dependent UI scaling to the main scene and dialogs.
+ *
+ * The display is measured once per session, on first use, and the window size, scale class
+ * and root font size derived from it are kept for every later screen and dialog. The
+ * stylesheet is resolved once and added by the same URL everywhere, so JavaFX parses it once
+ * and shares it. Time spent applying CSS to screens and dialogs is recorded.
+ * Must be used on the FX thread.
+ */
+public class ThemeManager {
+    private static final Logger logger = LoggerFactory.getLogger(ThemeManager.class);
+
+    private static final String STYLESHEET = "/styles/dark-theme.css";
+
+    // Base logical window size, used when the display can't be measured
+    private static final int BASE_WINDOW_WIDTH = 1280;
+    private static final int BASE_WINDOW_HEIGHT = 720;
+
+    private final String stylesheet;
+    private final LatencyHistogram cssApplyTimes = new LatencyHistogram();
+
+    // Display measurements, taken once on first use
+    private double[] windowSize;
+    private String scaleClass;
+    private String rootFontStyle;
+
+    public ThemeManager() {
+        this.stylesheet = ThemeManager.class.getResource(STYLESHEET).toExternalForm();
+    }
+
+    /**
+     * Gets the window size suited to the display, as {width, height}.
+     */
+    public double[] getWindowSize() {
+        measureDisplay();
+        return windowSize.clone();
+    }
+
+    /**
+     * Adds the theme stylesheet to a scene.
+     */
+    public void styleScene(Scene scene) {
+        scene.getStylesheets().add(stylesheet);
+    }
+
+    /**
+     * Applies the measured scale class and root font size to a screen's root.
+     */
+    public void styleRoot(Parent root) {
+        measureDisplay();
+        
+        // Apply appropriate CSS class based on universal scale
+        if (scaleClass != null && !root.getStyleClass().contains(scaleClass)) {
+            root.getStyleClass().add(scaleClass);
+        }
+        if (rootFontStyle != null) {
+            root.setStyle(rootFontStyle);
+        }
+    }
+
+    /**
+     * Themes and scales a dialog like the main window, and applies its CSS straight away.
+     */
+    public void styleDialog(Dialog<?> dialog) {
+        DialogPane pane = dialog.getDialogPane();
+        pane.getStylesheets().add(stylesheet);
+        styleRoot(pane);
+        applyCss(pane, "dialog");
+    }
+
+    /**
+     * Applies CSS to a node tree in a scene now instead of in the next pulse, and records
+     * how long it took.
+     *
+     * @param name What is being styled, for the log
+     */
+    public void applyCss(Parent root, String name) {
+        long start = System.nanoTime();
+        root.applyCss();
+        long nanos = System.nanoTime() - start;
+        cssApplyTimes.record(nanos);
+        logger.debug("Applied CSS to {} in {} us", name, nanos / 1_000);
+    }
+
+    /**
+     * Gets the CSS application times recorded this session.
+     */
+    public LatencyHistogram getCssApplyTimes() {
+        return cssApplyTimes;
+    }
+
+    /**
+     * Measures the display once and derives the window size and UI scaling from it.
+     */
+    private void measureDisplay() {
+        if (windowSize != null) return;
+        
+        try {
+            // JavaFX reports logical pixels; convert to device pixels and 96-based DPI as the sizing rules expect
+            Screen screen = Screen.getPrimary();
+            Rectangle2D bounds = screen.getBounds();
+            double outputScale = screen.getOutputScaleX();
+            double screenWidth = bounds.getWidth() * outputScale;
+            double screenHeight = bounds.getHeight() * outputScale;
+            int dpi = (int) Math.round(96 * outputScale);
+            
+            windowSize = calculateOptimalWindowSize(screenWidth, screenHeight, dpi);
+            
+            // Calculate universal scale factor considering both resolution and DPI
+            double dpiScale = dpi / 96.0;
+            double universalScale = calculateUniversalScale(screenWidth, dpiScale);
+            
+            logger.info("Applying universal scale: {}x (Screen: {}, DPI Scale: {}x)",
+                String.format("%.2f", universalScale), (int)screenWidth, String.format("%.1f", dpiScale));
+            
+            scaleClass = getScaleClass(universalScale);
+            
+            // Root font scaling
+            double baseFontSize = 14.0;
+            double scaledFontSize = baseFontSize * universalScale;
+            rootFontStyle = String.format("-fx-font-size: %.1fpx;", scaledFontSize);
+            
+        } catch (Exception e) {
+            logger.warn("Could not measure the display, using default size and scaling", e);
+            windowSize = new double[]{BASE_WINDOW_WIDTH, BASE_WINDOW_HEIGHT};
+        }
+    }
+
+    /**
+     * Calculates optimal window size based on screen resolution and DPI
+     */
+    private double[] calculateOptimalWindowSize(double screenWidth, double screenHeight, int dpi) {
+        double dpiScale = dpi / 96.0;
+        
+        logger.info("Screen: {}x{}, DPI: {}, Scale: {}x",
+            (int)screenWidth, (int)screenHeight, dpi, String.format("%.1f", dpiScale));
+        
+        // Calculate window size as percentage of screen, accounting for DPI
+        double windowWidth, windowHeight;
+        
+        if (screenWidth >= 3840) { // 4K or higher
+            windowWidth = screenWidth * 0.5;   // 50% of screen width
+            windowHeight = screenHeight * 0.6; // 60% of screen height
+        } else if (screenWidth >= 2560) { // 1440p
+            windowWidth = screenWidth * 0.6;   // 60% of screen width
+            windowHeight = screenHeight * 0.7; // 70% of screen height
+        } else if (screenWidth >= 1920) { // 1080p
+            windowWidth = screenWidth * 0.7;   // 70% of screen width
+            windowHeight = screenHeight * 0.75; // 75% of screen height
+        } else { // Lower resolutions
+            windowWidth = Math.min(screenWidth * 0.9, BASE_WINDOW_WIDTH);
+            windowHeight = Math.min(screenHeight * 0.8, BASE_WINDOW_HEIGHT);
+        }
+        
+        // Ensure minimum usable size
+        windowWidth = Math.max(windowWidth, 1024);
+        windowHeight = Math.max(windowHeight, 600);
+        
+        // Don't exceed screen size
+        windowWidth = Math.min(windowWidth, screenWidth * 0.95);
+        windowHeight = Math.min(windowHeight, screenHeight * 0.9);
+        
+        logger.info("Calculated window size: {}x{}", (int)windowWidth, (int)windowHeight);
+        
+        return new double[]{windowWidth, windowHeight};
+    }
+
+    /**
+     * Calculates universal scale factor that works across all configurations
+     */
+    private double calculateUniversalScale(double screenWidth, double dpiScale) {
+        double baseScale;
+        
+        if (screenWidth >= 3840) { // 4K (3840x2160) or higher
+            baseScale = 1.4;  // Larger UI for 4K screens
+        } else if (screenWidth >= 2560) { // 1440p (2560x1440)
+            baseScale = 1.2;  // Medium scaling for 1440p
+        } else if (screenWidth >= 1920) { // 1080p (1920x1080)
+            baseScale = 1.0;  // Standard scaling for 1080p
+        } else if (screenWidth >= 1366) { // 768p (1366x768)
+            baseScale = 0.9;  // Slightly smaller for lower resolutions
+        } else { // Very low resolutions
+            baseScale = 0.8;  // Compact UI for small screens
+        }
+        
+        // Apply DPI scaling on top of resolution-based scaling
+        double finalScale = baseScale * Math.max(1.0, dpiScale * 0.8); // Moderate DPI influence
+        
+        // Clamp to reasonable range
+        return Math.max(0.8, Math.min(2.0, finalScale));
+    }
+
+    /**
+     * Gets appropriate CSS class based on scale factor
+     */
+    private String getScaleClass(double scale) {
+        if (scale >= 1.6) {
+            return "scale-xlarge";  // Extra large scaling
+        } else if (scale >= 1.3) {
+            return "scale-large";   // Large scaling
+        } else if (scale >= 1.1) {
+            return "scale-medium";  // Medium scaling
+        } else if (scale <= 0.9) {
+            return "scale-small";   // Small scaling
+        }
+        return null; // Use default scaling
+    }
+}
@@ -0,0 +1,92 @@
+package com.flashquest.util;
+
+/**
+ * Log-linear latency histogram in nanoseconds.
+ * Each power of two is split into 16 linear sub-buckets, giving roughly 6% precision
+ * with a fixed footprint. Not thread-safe: keep one per worker and merge at the end.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a single latency sample.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexFor(value)]++;
+        totalCount++;
+        totalNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+    }
+
+    /**
+     * Adds all samples from another histogram into this one.
+     */
+    public void merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    /**
+     * Gets the latency at the given percentile (0-100), as the upper bound of its bucket.
+     */
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        
+        long target = (long) Math.ceil(totalCount * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, target)) {
+                return Math.min(upperBoundOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    public long getCount() { return totalCount; }
+    public long getMaxNanos() { return maxNanos; }
+
+    public double getMeanNanos() {
+        return totalCount > 0 ? (double) totalNanos / totalCount : 0.0;
+    }
+
+    /**
+     * Formats count, mean and key percentiles on one line, in microseconds.
+     */
+    public String summary() {
+        return String.format("n=%d mean=%.1fus p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+            totalCount, getMeanNanos() / 1_000.0, getPercentile(50) / 1_000.0, getPercentile(90) / 1_000.0,
+            getPercentile(99) / 1_000.0, getPercentile(99.9) / 1_000.0, maxNanos / 1_000.0);
+    }
+
+    private static int indexFor(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+    }
+}
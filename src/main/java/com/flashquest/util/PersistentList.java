@@ -0,0 +1,136 @@
+package com.flashquest.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Immutable, append-only list with structural sharing.
+ * Elements live in fixed-size chunks; appending copies only the chunk table and
+ * the last chunk, so a new snapshot of a large deck costs O(n / CHUNK_SIZE)
+ * instead of a full copy. Instances can be shared freely between threads.
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+    private static final int CHUNK_SHIFT = 9;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(new Object[0][], 0);
+
+    private final Object[][] chunks;
+    private final int size;
+
+    private PersistentList(Object[][] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Gets the shared empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Creates a list holding the given elements in iteration order.
+     */
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentList) {
+            @SuppressWarnings("unchecked")
+            PersistentList<E> list = (PersistentList<E>) elements;
+            return list;
+        }
+        return PersistentList.<E>empty().appendAll(elements);
+    }
+
+    /**
+     * Returns a new list with the element appended.
+     */
+    public PersistentList<E> append(E element) {
+        int chunkIndex = size >>> CHUNK_SHIFT;
+        int offset = size & CHUNK_MASK;
+
+        Object[][] newChunks;
+        if (offset == 0) {
+            newChunks = Arrays.copyOf(chunks, chunkIndex + 1);
+            newChunks[chunkIndex] = new Object[CHUNK_SIZE];
+        } else {
+            newChunks = chunks.clone();
+            newChunks[chunkIndex] = chunks[chunkIndex].clone();
+        }
+        newChunks[chunkIndex][offset] = element;
+        return new PersistentList<>(newChunks, size + 1);
+    }
+
+    /**
+     * Returns a new list with all elements appended, copying the chunk table once.
+     */
+    public PersistentList<E> appendAll(Collection<? extends E> elements) {
+        if (elements.isEmpty()) {
+            return this;
+        }
+
+        int newSize = size + elements.size();
+        int chunkCount = (newSize + CHUNK_MASK) >>> CHUNK_SHIFT;
+        Object[][] newChunks = Arrays.copyOf(chunks, chunkCount);
+
+        int position = size;
+        int lastSharedChunk = -1;
+        for (E element : elements) {
+            int chunkIndex = position >>> CHUNK_SHIFT;
+            int offset = position & CHUNK_MASK;
+            if (offset == 0) {
+                newChunks[chunkIndex] = new Object[CHUNK_SIZE];
+            } else if (chunkIndex < chunks.length && chunkIndex != lastSharedChunk) {
+                // Partially filled chunk shared with this list - copy before writing
+                newChunks[chunkIndex] = chunks[chunkIndex].clone();
+                lastSharedChunk = chunkIndex;
+            }
+            newChunks[chunkIndex][offset] = element;
+            position++;
+        }
+        return new PersistentList<>(newChunks, newSize);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return (E) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                E element = (E) chunks[index >>> CHUNK_SHIFT][index & CHUNK_MASK];
+                index++;
+                return element;
+            }
+        };
+    }
+}
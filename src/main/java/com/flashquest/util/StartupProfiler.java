@@ -0,0 +1,141 @@
+package com.flashquest.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records how long each startup phase takes, measured from process start.
+ *
+ * Phases are marked from whatever thread reaches them. {@link #finish()} logs the report once the
+ * first frame is on screen; marks after that are logged one by one. If the system property
+ * {@value #REPORT_FILE_PROPERTY} names a file, each launch appends one CSV line per phase to it so
+ * time-to-interactive can be tracked across builds. With {@value #EXIT_AFTER_STARTUP_PROPERTY}
+ * set, the app quits as soon as startup is complete, for benchmarks and class-data-sharing
+ * training runs.
+ */
+public final class StartupProfiler {
+    private static final Logger logger = LoggerFactory.getLogger(StartupProfiler.class);
+
+    /** System property naming a CSV file that startup timings are appended to. */
+    public static final String REPORT_FILE_PROPERTY = "flashquest.startupReport";
+
+    /** System property that makes the app exit once startup is complete. */
+    public static final String EXIT_AFTER_STARTUP_PROPERTY = "flashquest.exitAfterStartup";
+
+    // Wall-clock offset between process start and the first call into this class
+    private static final long BOOT_MILLIS = ProcessHandle.current().info().startInstant()
+        .map(start -> Math.max(0, System.currentTimeMillis() - start.toEpochMilli()))
+        .orElse(0L);
+    private static final long ORIGIN_NANOS = System.nanoTime();
+
+    private static final List<Phase> phases = new ArrayList<>();
+    private static boolean finished;
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * A named point in startup, in milliseconds since process start.
+     */
+    public static final class Phase {
+        private final String name;
+        private final long millis;
+        private final String thread;
+        
+        Phase(String name, long millis, String thread) {
+            this.name = name;
+            this.millis = millis;
+            this.thread = thread;
+        }
+        
+        public String getName() { return name; }
+        public long getMillis() { return millis; }
+        public String getThread() { return thread; }
+    }
+
+    /**
+     * Records that a startup phase has been reached.
+     */
+    public static void mark(String name) {
+        long millis = BOOT_MILLIS + (System.nanoTime() - ORIGIN_NANOS) / 1_000_000;
+        Phase phase = new Phase(name, millis, Thread.currentThread().getName());
+        boolean late;
+        synchronized (phases) {
+            phases.add(phase);
+            late = finished;
+        }
+        if (late) {
+            logger.info("Startup phase '{}' reached at {} ms", name, millis);
+        }
+    }
+
+    /**
+     * Gets the phases marked so far, in the order they were reached.
+     */
+    public static List<Phase> getPhases() {
+        synchronized (phases) {
+            return new ArrayList<>(phases);
+        }
+    }
+
+    /**
+     * Logs the startup report and appends it to the report file, if one is configured.
+     * Only the first call has any effect.
+     */
+    public static void finish() {
+        List<Phase> snapshot;
+        synchronized (phases) {
+            if (finished) return;
+            finished = true;
+            snapshot = new ArrayList<>(phases);
+        }
+        
+        logger.info("Startup report:\n{}", formatReport(snapshot));
+        
+        String reportFile = System.getProperty(REPORT_FILE_PROPERTY);
+        if (reportFile != null && !reportFile.isBlank()) {
+            appendCsv(Paths.get(reportFile), snapshot);
+        }
+    }
+
+    /**
+     * Formats phases as an aligned table with the time since the previous phase.
+     */
+    static String formatReport(List<Phase> snapshot) {
+        StringBuilder report = new StringBuilder(String.format("  %8s %8s  %s%n", "at ms", "+ms", "phase"));
+        long previous = 0;
+        for (Phase phase : snapshot) {
+            report.append(String.format("  %8d %8d  %s [%s]%n", phase.millis, phase.millis - previous,
+                phase.name, phase.thread));
+            previous = phase.millis;
+        }
+        return report.toString();
+    }
+
+    private static void appendCsv(Path file, List<Phase> snapshot) {
+        StringBuilder lines = new StringBuilder();
+        String launch = Instant.now().toString();
+        for (Phase phase : snapshot) {
+            lines.append(launch).append(',').append(phase.name).append(',').append(phase.millis).append('\n');
+        }
+        try {
+            if (Files.notExists(file)) {
+                lines.insert(0, "launch,phase,millis\n");
+            }
+            Files.writeString(file, lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            logger.warn("Failed to write startup report to {}", file, e);
+        }
+    }
+}
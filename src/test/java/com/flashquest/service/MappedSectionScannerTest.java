@@ -0,0 +1,117 @@
+package com.flashquest.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MappedSectionScannerTest {
+    private static final String CARDS = """
+        QUESTION: What is 2 + 2?
+        ANSWER: 4
+        DIFFICULTY: Easy
+        ---
+
+        QUESTION:   Name the three primary colours
+        ANSWER: Red
+          Yellow
+
+          Blue
+        CATEGORY: Art
+        TAGS: colour, basics
+        ---
+        ---
+          \t
+        QUESTION: Capital of France?
+        ANSWER:
+         --- indented, so not a separator
+        TAGS: geography
+        ---\s
+        QUESTION: Last card without a separator
+        ANSWER: Still read
+        """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void matchesStreamReaderOnLineFeeds() throws IOException {
+        assertMatchesStreamReader(CARDS);
+    }
+
+    @Test
+    void matchesStreamReaderOnCarriageReturnLineFeeds() throws IOException {
+        assertMatchesStreamReader(CARDS.replace("\n", "\r\n"));
+    }
+
+    @Test
+    void matchesStreamReaderOnBareCarriageReturns() throws IOException {
+        assertMatchesStreamReader(CARDS.replace("\n", "\r"));
+    }
+
+    @Test
+    void matchesStreamReaderOnMixedLineBreaksWithoutFinalBreak() throws IOException {
+        String mixed = CARDS.replaceFirst("\n", "\r\n").replaceFirst("\n", "\r").strip();
+        assertMatchesStreamReader(mixed);
+    }
+
+    @Test
+    void rejectsSectionLargerThanWindow() throws IOException {
+        File file = write("QUESTION: " + "x".repeat(200) + "\nANSWER: y\n");
+        try (MappedSectionScanner scanner = MappedSectionScanner.open(file, 64)) {
+            assertThrows(IOException.class, scanner::next);
+        }
+    }
+
+    /**
+     * Scans with every window size from just above the largest section up to the whole file,
+     * so sections, lines and \r\n pairs get split at every possible window edge.
+     */
+    private void assertMatchesStreamReader(String content) throws IOException {
+        File file = write(content);
+        List<String> expected;
+        long expectedLines;
+        try (CardSectionReader reader = CardSectionReader.open(file)) {
+            expected = readAll(reader);
+            expectedLines = reader.getLineNumber();
+        }
+        assertEquals(4, expected.size());
+
+        long fileSize = file.length();
+        for (long windowSize = 128; windowSize <= fileSize; windowSize++) {
+            try (MappedSectionScanner scanner = MappedSectionScanner.open(file, windowSize)) {
+                assertEquals(expected, readAll(scanner), "window size " + windowSize);
+                assertEquals(expectedLines, scanner.getLineNumber(), "window size " + windowSize);
+                assertEquals(fileSize, scanner.getBytesRead(), "window size " + windowSize);
+            }
+        }
+    }
+
+    private static List<String> readAll(SectionSource source) throws IOException {
+        List<String> sections = new ArrayList<>();
+        ImportSection section;
+        while ((section = source.next()) != null) {
+            CardFields fields = section.parseFields();
+            sections.add(section.getCardNumber() + "@" + section.getLineNumber() + " " + List.of(
+                String.valueOf(fields.getQuestion()), String.valueOf(fields.getAnswer()),
+                String.valueOf(fields.getDifficulty()), String.valueOf(fields.getCategory()),
+                String.valueOf(fields.getTags())));
+        }
+        return sections;
+    }
+
+    private File write(String content) throws IOException {
+        Path file = Files.createTempFile(directory, "cards", ".txt");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file.toFile();
+    }
+}
@@ -0,0 +1,115 @@
+package com.flashquest.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TagBitmapTest {
+
+    @Test
+    void switchesToBitmapPastFourThousandValuesWithoutLosingAny() {
+        TagBitmap bitmap = new TagBitmap();
+        for (int value = 0; value < 4096; value++) {
+            bitmap.add(value * 2);
+        }
+        assertEquals(4096, bitmap.cardinality());
+
+        // One more value converts the container; a repeat must not be counted twice
+        bitmap.add(1);
+        bitmap.add(1);
+        assertEquals(4097, bitmap.cardinality());
+        assertTrue(bitmap.contains(1));
+        assertTrue(bitmap.contains(8190));
+        assertFalse(bitmap.contains(3));
+
+        List<Integer> values = values(bitmap);
+        assertEquals(0, values.get(0));
+        assertEquals(1, values.get(1));
+        assertEquals(2, values.get(2));
+        assertEquals(8190, values.get(values.size() - 1));
+    }
+
+    @Test
+    void intersectionOfBitmapsShrinksBackToArray() {
+        TagBitmap evens = new TagBitmap();
+        TagBitmap multiplesOfThree = new TagBitmap();
+        for (int value = 0; value < 20_000; value++) {
+            if (value % 2 == 0) evens.add(value);
+            if (value % 3 == 0) multiplesOfThree.add(value);
+        }
+
+        TagBitmap both = evens.and(multiplesOfThree);
+        assertEquals(expected(0, 20_000, 6), values(both));
+
+        // The small intersection still accepts values in place
+        both.add(1);
+        assertTrue(both.contains(1));
+        assertEquals(3335, both.cardinality());
+    }
+
+    @Test
+    void unionOfArraysGrowsIntoBitmap() {
+        TagBitmap first = new TagBitmap();
+        TagBitmap second = new TagBitmap();
+        for (int value = 0; value < 6000; value++) {
+            (value % 2 == 0 ? first : second).add(value);
+        }
+
+        TagBitmap union = first.or(second);
+        assertEquals(expected(0, 6000, 1), values(union));
+    }
+
+    @Test
+    void combinesAcrossContainerBoundaries() {
+        TagBitmap sparse = new TagBitmap();
+        TagBitmap dense = new TagBitmap();
+        int[] sparseValues = {5, 65_535, 65_536, 65_537, 200_000, 1 << 20};
+        for (int value : sparseValues) {
+            sparse.add(value);
+        }
+        for (int value = 60_000; value < 140_000; value++) {
+            dense.add(value);
+        }
+
+        assertEquals(List.of(65_535, 65_536, 65_537), values(sparse.and(dense)));
+        assertEquals(values(dense.and(sparse)), values(sparse.and(dense)));
+
+        TreeSet<Integer> union = new TreeSet<>(expected(60_000, 140_000, 1));
+        for (int value : sparseValues) {
+            union.add(value);
+        }
+        assertEquals(new ArrayList<>(union), values(sparse.or(dense)));
+        assertEquals(new ArrayList<>(union), values(dense.or(sparse)));
+    }
+
+    @Test
+    void outOfOrderAddsStaySorted() {
+        TagBitmap bitmap = new TagBitmap();
+        int[] added = {70_000, 3, 131_072, 1, 65_536, 3};
+        for (int value : added) {
+            bitmap.add(value);
+        }
+        assertEquals(List.of(1, 3, 65_536, 70_000, 131_072), values(bitmap));
+    }
+
+    private static List<Integer> values(TagBitmap bitmap) {
+        List<Integer> values = new ArrayList<>();
+        bitmap.forEach(values::add);
+        assertEquals(values.size(), bitmap.cardinality());
+        return values;
+    }
+
+    private static List<Integer> expected(int from, int to, int step) {
+        List<Integer> values = new ArrayList<>();
+        for (int value = from; value < to; value += step) {
+            values.add(value);
+        }
+        return values;
+    }
+}
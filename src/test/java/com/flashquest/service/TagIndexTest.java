@@ -0,0 +1,82 @@
+package com.flashquest.service;
+
+import com.flashquest.model.DifficultyLevel;
+import com.flashquest.model.Flashcard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TagIndexTest {
+    private final List<Flashcard> deck = new ArrayList<>();
+    private final TagIndex index = new TagIndex();
+
+    @BeforeEach
+    void buildIndex() {
+        add("java", "streams");
+        add("java", "collections");
+        add("Collections");
+        add("java", "Streams", "collections");
+        add();
+        index.indexAppended(deck);
+    }
+
+    @Test
+    void andBindsTighterThanOr() {
+        assertEquals(List.of(0, 1, 2, 3), positions("java & streams | collections"));
+        assertEquals(List.of(0, 3), positions("java & streams"));
+        assertEquals(List.of(1, 3), positions("streams & collections | java & collections"));
+    }
+
+    @Test
+    void acceptsWordOperatorsAndIgnoresCase() {
+        assertEquals(positions("JAVA & Streams"), positions("java AND streams"));
+        assertEquals(List.of(1, 2, 3), positions("collections or nothing"));
+    }
+
+    @Test
+    void unknownTagsMatchNothing() {
+        assertEquals(List.of(), positions("java & missing"));
+        assertEquals(List.of(), positions("missing"));
+        assertEquals(0, index.count("missing | other"));
+    }
+
+    @Test
+    void blankQueryMatchesEveryCard() {
+        assertEquals(deck, index.query("  "));
+        assertEquals(deck.size(), index.count(null));
+    }
+
+    @Test
+    void skipsEmptyTermsBetweenOperators() {
+        assertEquals(List.of(0, 3), positions("java & & streams"));
+        assertEquals(List.of(1, 2, 3), positions("| collections |"));
+    }
+
+    @Test
+    void indexesOnlyCardsAppendedSinceLastCall() {
+        add("streams");
+        index.indexAppended(deck);
+        index.indexAppended(deck);
+
+        assertEquals(List.of(0, 3, 5), positions("streams"));
+        assertEquals(3, index.getTagCounts().get("STREAMS"));
+    }
+
+    private void add(String... tags) {
+        Flashcard card = new Flashcard("Question " + deck.size() + "?", "Answer", "General", DifficultyLevel.EASY);
+        card.setTags(List.of(tags));
+        deck.add(card);
+    }
+
+    private List<Integer> positions(String query) {
+        List<Integer> positions = new ArrayList<>();
+        for (Flashcard card : index.query(query)) {
+            positions.add(deck.indexOf(card));
+        }
+        return positions;
+    }
+}
@@ -0,0 +1,76 @@
+package com.flashquest.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PersistentListTest {
+    // Matches PersistentList's chunk size
+    private static final int CHUNK = 512;
+
+    @Test
+    void appendCrossesChunkBoundary() {
+        PersistentList<Integer> grown = PersistentList.empty();
+        for (int i = 0; i < CHUNK * 2 + 1; i++) {
+            grown = grown.append(i);
+        }
+        PersistentList<Integer> list = grown;
+
+        assertEquals(range(0, CHUNK * 2 + 1), list);
+        assertEquals(CHUNK, list.get(CHUNK));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(CHUNK * 2 + 1));
+    }
+
+    @Test
+    void appendAllCrossesChunkBoundaryFromPartialChunk() {
+        PersistentList<Integer> start = PersistentList.copyOf(range(0, CHUNK - 3));
+        PersistentList<Integer> grown = start.appendAll(range(CHUNK - 3, CHUNK * 3 + 7));
+
+        assertEquals(range(0, CHUNK * 3 + 7), grown);
+        assertEquals(range(0, CHUNK - 3), start);
+    }
+
+    @Test
+    void appendsToSharedSnapshotDoNotLeakIntoEachOther() {
+        PersistentList<Integer> base = PersistentList.copyOf(range(0, CHUNK + 10));
+        PersistentList<Integer> first = base.append(-1);
+        PersistentList<Integer> second = base.appendAll(List.of(-2, -3));
+
+        assertEquals(range(0, CHUNK + 10), base);
+        assertEquals(-1, first.get(CHUNK + 10));
+        assertEquals(List.of(-2, -3), second.subList(CHUNK + 10, CHUNK + 12));
+        assertEquals(CHUNK + 11, first.size());
+    }
+
+    @Test
+    void appendAfterFullChunkStartsNewOne() {
+        PersistentList<Integer> full = PersistentList.copyOf(range(0, CHUNK));
+        PersistentList<Integer> next = full.append(CHUNK);
+        PersistentList<Integer> other = full.appendAll(List.of(-1));
+
+        assertEquals(range(0, CHUNK + 1), next);
+        assertEquals(-1, other.get(CHUNK));
+        assertEquals(CHUNK, full.size());
+    }
+
+    @Test
+    void copyOfReusesPersistentListAndIgnoresEmptyAppend() {
+        PersistentList<Integer> list = PersistentList.copyOf(range(0, 3));
+
+        assertSame(list, PersistentList.copyOf(list));
+        assertSame(list, list.appendAll(List.of()));
+    }
+
+    private static List<Integer> range(int from, int to) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+}